@@ -0,0 +1,182 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The JDK Flight Recorder events emitted by the {@link JFRListener}.
+ *
+ * @author Lukas Eder
+ */
+final class JFREvents {
+
+    static final String CATEGORY = "jOOQ";
+
+    // -------------------------------------------------------------------------
+    // XXX: Query execution events
+    // -------------------------------------------------------------------------
+
+    /**
+     * The common fields of all events of a query execution.
+     */
+    @Category(CATEGORY)
+    @StackTrace(false)
+    abstract static class ExecutionEvent extends Event {
+
+        @Label("SQL")
+        @Description("The SQL string that is executed, if it is known yet")
+        String sql;
+
+        @Label("Fingerprint")
+        @Description("A hash of the SQL string, which ignores inline values")
+        String fingerprint;
+
+        @Label("Execute Type")
+        @Description("The type of query being executed, e.g. READ or WRITE")
+        String executeType;
+    }
+
+    @Name("org.jooq.Query")
+    @Label("Query")
+    @Description("The complete execution of a query, from rendering to fetching its results")
+    static final class QueryEvent extends ExecutionEvent {
+
+        @Label("Rows")
+        @Description("The number of affected rows, or of fetched records")
+        long rows;
+
+        @Label("Exception")
+        @Description("The exception that was thrown, if any")
+        String exception;
+    }
+
+    @Name("org.jooq.Render")
+    @Label("Render")
+    @Description("Rendering a query to SQL")
+    static final class RenderEvent extends ExecutionEvent {
+
+        @Label("SQL Length")
+        @Description("The number of characters of the rendered SQL string")
+        long length;
+    }
+
+    @Name("org.jooq.Prepare")
+    @Label("Prepare")
+    @Description("Preparing a JDBC statement")
+    static final class PrepareEvent extends ExecutionEvent {}
+
+    @Name("org.jooq.Bind")
+    @Label("Bind")
+    @Description("Binding variables to a JDBC statement")
+    static final class BindEvent extends ExecutionEvent {}
+
+    @Name("org.jooq.Execute")
+    @Label("Execute")
+    @Description("Executing a JDBC statement")
+    static final class ExecuteEvent extends ExecutionEvent {
+
+        @Label("Rows")
+        @Description("The number of affected rows, if known")
+        long rows;
+    }
+
+    @Name("org.jooq.Fetch")
+    @Label("Fetch")
+    @Description("Fetching records from JDBC result sets, and mapping them to jOOQ records")
+    static final class FetchEvent extends ExecutionEvent {
+
+        @Label("Records")
+        @Description("The number of fetched records")
+        long records;
+
+        @Label("Results")
+        @Description("The number of fetched result sets")
+        int results;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Transaction events
+    // -------------------------------------------------------------------------
+
+    @Category(CATEGORY)
+    @StackTrace(false)
+    abstract static class TransactionStepEvent extends Event {}
+
+    @Name("org.jooq.TransactionBegin")
+    @Label("Transaction Begin")
+    @Description("Beginning a transaction or a savepoint")
+    static final class TransactionBeginEvent extends TransactionStepEvent {}
+
+    @Name("org.jooq.TransactionCommit")
+    @Label("Transaction Commit")
+    @Description("Committing a transaction or releasing a savepoint")
+    static final class TransactionCommitEvent extends TransactionStepEvent {}
+
+    @Name("org.jooq.TransactionRollback")
+    @Label("Transaction Rollback")
+    @Description("Rolling back a transaction or to a savepoint")
+    static final class TransactionRollbackEvent extends TransactionStepEvent {
+
+        @Label("Cause")
+        @Description("The exception that caused the rollback, if any")
+        String cause;
+    }
+
+    @Name("org.jooq.Transaction")
+    @Label("Transaction")
+    @Description("A complete transaction, from beginning it to committing or rolling it back")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class TransactionEvent extends Event {
+
+        @Label("Committed")
+        @Description("Whether the transaction was committed, rather than rolled back")
+        boolean committed;
+    }
+
+    /**
+     * No instances
+     */
+    private JFREvents() {}
+}
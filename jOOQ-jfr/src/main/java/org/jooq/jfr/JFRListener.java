@@ -0,0 +1,452 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jfr;
+
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.TransactionContext;
+import org.jooq.TransactionListener;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.jooq.impl.DefaultTransactionListenerProvider;
+import org.jooq.jfr.JFREvents.BindEvent;
+import org.jooq.jfr.JFREvents.ExecuteEvent;
+import org.jooq.jfr.JFREvents.ExecutionEvent;
+import org.jooq.jfr.JFREvents.FetchEvent;
+import org.jooq.jfr.JFREvents.PrepareEvent;
+import org.jooq.jfr.JFREvents.QueryEvent;
+import org.jooq.jfr.JFREvents.RenderEvent;
+import org.jooq.jfr.JFREvents.TransactionBeginEvent;
+import org.jooq.jfr.JFREvents.TransactionCommitEvent;
+import org.jooq.jfr.JFREvents.TransactionEvent;
+import org.jooq.jfr.JFREvents.TransactionRollbackEvent;
+import org.jooq.tools.SQLFingerprint;
+
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+
+/**
+ * An {@link ExecuteListener} and {@link TransactionListener} that emits JDK
+ * Flight Recorder events for the query execution and transaction lifecycles.
+ * <p>
+ * The events are in the <code>jOOQ</code> category:
+ * <ul>
+ * <li><code>org.jooq.Query</code>: The complete execution of a query.</li>
+ * <li><code>org.jooq.Render</code>, <code>org.jooq.Prepare</code>,
+ * <code>org.jooq.Bind</code>, <code>org.jooq.Execute</code>,
+ * <code>org.jooq.Fetch</code>: The individual phases of a query execution.
+ * Fetching includes mapping JDBC rows to jOOQ records.</li>
+ * <li><code>org.jooq.Transaction</code>: The complete transaction.</li>
+ * <li><code>org.jooq.TransactionBegin</code>,
+ * <code>org.jooq.TransactionCommit</code>,
+ * <code>org.jooq.TransactionRollback</code>: The individual transaction
+ * steps.</li>
+ * </ul>
+ * <p>
+ * Query execution events carry the SQL string (with bind variable
+ * placeholders, unless values are inlined), its {@link SQLFingerprint}, and
+ * row counts, but never any bind values. Events are only created for event
+ * types that are enabled in a running recording, and the SQL fingerprint is
+ * only computed if an event is committed, so this listener has a negligible
+ * cost when no recording is running. Use the <code>threshold</code> setting
+ * of event types to record only slow queries.
+ * <p>
+ * This listener is stateless and can be shared by all executions and
+ * transactions, e.g.
+ *
+ * <pre>
+ * <code>
+ * JFRListener listener = new JFRListener();
+ * configuration
+ *     .set(new DefaultExecuteListenerProvider(listener))
+ *     .set(new DefaultTransactionListenerProvider(listener));
+ * </code>
+ * </pre>
+ * <p>
+ * This listener is shipped in the <code>jooq-jfr</code> module, which requires
+ * JDK 11 or later.
+ *
+ * @author Lukas Eder
+ * @see DefaultExecuteListenerProvider
+ * @see DefaultTransactionListenerProvider
+ */
+public class JFRListener implements ExecuteListener, TransactionListener {
+
+    /**
+     * Generated UID
+     */
+    private static final long      serialVersionUID = 3395765338418104658L;
+
+    private static final String    DATA_EVENTS      = "org.jooq.jfr.events";
+
+    private static final EventType QUERY            = EventType.getEventType(QueryEvent.class);
+    private static final EventType RENDER           = EventType.getEventType(RenderEvent.class);
+    private static final EventType PREPARE          = EventType.getEventType(PrepareEvent.class);
+    private static final EventType BIND             = EventType.getEventType(BindEvent.class);
+    private static final EventType EXECUTE          = EventType.getEventType(ExecuteEvent.class);
+    private static final EventType FETCH            = EventType.getEventType(FetchEvent.class);
+    private static final EventType TRANSACTION      = EventType.getEventType(TransactionEvent.class);
+    private static final EventType BEGIN            = EventType.getEventType(TransactionBeginEvent.class);
+    private static final EventType COMMIT           = EventType.getEventType(TransactionCommitEvent.class);
+    private static final EventType ROLLBACK         = EventType.getEventType(TransactionRollbackEvent.class);
+
+    // -------------------------------------------------------------------------
+    // XXX: ExecuteListener API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public void start(ExecuteContext ctx) {
+        if (QUERY.isEnabled()
+                || RENDER.isEnabled()
+                || PREPARE.isEnabled()
+                || BIND.isEnabled()
+                || EXECUTE.isEnabled()
+                || FETCH.isEnabled()) {
+            Execution execution = new Execution();
+            ctx.data(DATA_EVENTS, execution);
+
+            if (QUERY.isEnabled())
+                (execution.query = new QueryEvent()).begin();
+        }
+    }
+
+    @Override
+    public void renderStart(ExecuteContext ctx) {
+        Execution execution = execution(ctx);
+
+        if (execution != null && RENDER.isEnabled())
+            (execution.render = new RenderEvent()).begin();
+    }
+
+    @Override
+    public void renderEnd(ExecuteContext ctx) {
+        Execution execution = execution(ctx);
+
+        if (execution != null && execution.render != null) {
+            RenderEvent event = execution.render;
+            execution.render = null;
+            event.end();
+
+            if (event.shouldCommit()) {
+                String sql = ctx.sql();
+                event.length = sql == null ? 0 : sql.length();
+                execution.commit(ctx, event);
+            }
+        }
+    }
+
+    @Override
+    public void prepareStart(ExecuteContext ctx) {
+        Execution execution = execution(ctx);
+
+        if (execution != null && PREPARE.isEnabled())
+            (execution.prepare = new PrepareEvent()).begin();
+    }
+
+    @Override
+    public void prepareEnd(ExecuteContext ctx) {
+        Execution execution = execution(ctx);
+
+        if (execution != null && execution.prepare != null) {
+            PrepareEvent event = execution.prepare;
+            execution.prepare = null;
+            event.end();
+
+            if (event.shouldCommit())
+                execution.commit(ctx, event);
+        }
+    }
+
+    @Override
+    public void bindStart(ExecuteContext ctx) {
+        Execution execution = execution(ctx);
+
+        if (execution != null && BIND.isEnabled())
+            (execution.bind = new BindEvent()).begin();
+    }
+
+    @Override
+    public void bindEnd(ExecuteContext ctx) {
+        Execution execution = execution(ctx);
+
+        if (execution != null && execution.bind != null) {
+            BindEvent event = execution.bind;
+            execution.bind = null;
+            event.end();
+
+            if (event.shouldCommit())
+                execution.commit(ctx, event);
+        }
+    }
+
+    @Override
+    public void executeStart(ExecuteContext ctx) {
+        Execution execution = execution(ctx);
+
+        if (execution != null && EXECUTE.isEnabled())
+            (execution.execute = new ExecuteEvent()).begin();
+    }
+
+    @Override
+    public void executeEnd(ExecuteContext ctx) {
+        Execution execution = execution(ctx);
+
+        if (execution != null && execution.execute != null) {
+            ExecuteEvent event = execution.execute;
+            execution.execute = null;
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.rows = ctx.rows();
+                execution.commit(ctx, event);
+            }
+        }
+    }
+
+    @Override
+    public void outStart(ExecuteContext ctx) {}
+
+    @Override
+    public void outEnd(ExecuteContext ctx) {}
+
+    @Override
+    public void fetchStart(ExecuteContext ctx) {
+        Execution execution = execution(ctx);
+
+        if (execution != null) {
+            execution.fetched = true;
+
+            if (FETCH.isEnabled())
+                (execution.fetch = new FetchEvent()).begin();
+        }
+    }
+
+    @Override
+    public void resultStart(ExecuteContext ctx) {
+        Execution execution = execution(ctx);
+
+        if (execution != null)
+            execution.results++;
+    }
+
+    @Override
+    public void recordStart(ExecuteContext ctx) {}
+
+    @Override
+    public void recordEnd(ExecuteContext ctx) {
+        Execution execution = execution(ctx);
+
+        if (execution != null)
+            execution.records++;
+    }
+
+    @Override
+    public void resultEnd(ExecuteContext ctx) {}
+
+    @Override
+    public void fetchEnd(ExecuteContext ctx) {
+        Execution execution = execution(ctx);
+
+        if (execution != null && execution.fetch != null) {
+            FetchEvent event = execution.fetch;
+            execution.fetch = null;
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.records = execution.records;
+                event.results = execution.results;
+                execution.commit(ctx, event);
+            }
+        }
+    }
+
+    @Override
+    public void end(ExecuteContext ctx) {
+        Execution execution = execution(ctx);
+
+        if (execution != null && execution.query != null) {
+            QueryEvent event = execution.query;
+            execution.query = null;
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.rows = execution.fetched ? execution.records : ctx.rows();
+
+                if (ctx.exception() != null)
+                    event.exception = ctx.exception().getClass().getName();
+
+                execution.commit(ctx, event);
+            }
+        }
+    }
+
+    @Override
+    public void exception(ExecuteContext ctx) {}
+
+    @Override
+    public void warning(ExecuteContext ctx) {}
+
+    private static final Execution execution(ExecuteContext ctx) {
+        return (Execution) ctx.data(DATA_EVENTS);
+    }
+
+    /**
+     * The events of a single query execution that are in progress.
+     */
+    private static final class Execution {
+        QueryEvent   query;
+        RenderEvent  render;
+        PrepareEvent prepare;
+        BindEvent    bind;
+        ExecuteEvent execute;
+        FetchEvent   fetch;
+        boolean      fetched;
+        int          results;
+        long         records;
+
+        // The fingerprint is computed at most once per SQL string
+        String       sql;
+        String       fingerprint;
+
+        final void commit(ExecuteContext ctx, ExecutionEvent event) {
+            String s = ctx.sql();
+
+            if (s == null && ctx.batchSQL().length > 0)
+                s = ctx.batchSQL()[0];
+
+            if (s != null && s != sql) {
+                sql = s;
+                fingerprint = SQLFingerprint.fingerprint(s);
+            }
+
+            event.sql = sql;
+            event.fingerprint = fingerprint;
+            event.executeType = ctx.type() == null ? null : ctx.type().name();
+            event.commit();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: TransactionListener API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public void beginStart(TransactionContext ctx) {
+        if (TRANSACTION.isEnabled() || BEGIN.isEnabled() || COMMIT.isEnabled() || ROLLBACK.isEnabled()) {
+            Transaction transaction = new Transaction();
+            ctx.data(DATA_EVENTS, transaction);
+
+            if (TRANSACTION.isEnabled())
+                (transaction.transaction = new TransactionEvent()).begin();
+
+            if (BEGIN.isEnabled())
+                (transaction.step = new TransactionBeginEvent()).begin();
+        }
+    }
+
+    @Override
+    public void beginEnd(TransactionContext ctx) {
+        commitStep(ctx);
+    }
+
+    @Override
+    public void commitStart(TransactionContext ctx) {
+        Transaction transaction = transaction(ctx);
+
+        if (transaction != null && COMMIT.isEnabled())
+            (transaction.step = new TransactionCommitEvent()).begin();
+    }
+
+    @Override
+    public void commitEnd(TransactionContext ctx) {
+        commitStep(ctx);
+        commitTransaction(ctx, true);
+    }
+
+    @Override
+    public void rollbackStart(TransactionContext ctx) {
+        Transaction transaction = transaction(ctx);
+
+        if (transaction != null && ROLLBACK.isEnabled()) {
+            TransactionRollbackEvent event = new TransactionRollbackEvent();
+
+            if (ctx.cause() != null)
+                event.cause = ctx.cause().getClass().getName();
+
+            (transaction.step = event).begin();
+        }
+    }
+
+    @Override
+    public void rollbackEnd(TransactionContext ctx) {
+        commitStep(ctx);
+        commitTransaction(ctx, false);
+    }
+
+    private static final void commitStep(TransactionContext ctx) {
+        Transaction transaction = transaction(ctx);
+
+        if (transaction != null && transaction.step != null) {
+            Event event = transaction.step;
+            transaction.step = null;
+            event.commit();
+        }
+    }
+
+    private static final void commitTransaction(TransactionContext ctx, boolean committed) {
+        Transaction transaction = transaction(ctx);
+
+        if (transaction != null && transaction.transaction != null) {
+            TransactionEvent event = transaction.transaction;
+            transaction.transaction = null;
+            event.committed = committed;
+            event.commit();
+        }
+    }
+
+    private static final Transaction transaction(TransactionContext ctx) {
+        return (Transaction) ctx.data(DATA_EVENTS);
+    }
+
+    /**
+     * The events of a single transaction that are in progress.
+     */
+    private static final class Transaction {
+        TransactionEvent transaction;
+        Event            step;
+    }
+}
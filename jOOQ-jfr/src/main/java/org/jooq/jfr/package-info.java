@@ -0,0 +1,5 @@
+/**
+ * The <code>org.jooq.jfr</code> package contains JDK Flight Recorder
+ * integrations.
+ */
+package org.jooq.jfr;
@@ -0,0 +1,130 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.BindContext;
+import org.jooq.DSLContext;
+import org.jooq.Insert;
+import org.jooq.SQLDialect;
+import org.jooq.Select;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for setting bind values through <code>DefaultBinding</code>.
+ * <p>
+ * The statements are prepared once against a {@link MockConnection}, such
+ * that only the bind variable traversal and the
+ * <code>PreparedStatement.setXYZ()</code> calls are measured. The
+ * <code>execute*</code> benchmarks measure the complete render, prepare, bind
+ * and execute cycle against the same mock.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BindBenchmark {
+
+    @Param({ "1", "10", "100" })
+    public int        rows;
+
+    MockConnection    connection;
+    DSLContext        ctx;
+    Select<?>         select;
+    Insert<?>         insert;
+    PreparedStatement selectStatement;
+    PreparedStatement insertStatement;
+
+    @Setup
+    public void setup() throws SQLException {
+        connection = new MockConnection(c -> new MockResult[] { new MockResult(rows) });
+        ctx = DSL.using(connection, SQLDialect.H2);
+        select = RenderBenchmark.complexSelect(ctx);
+        insert = RenderBenchmark.insert(ctx, rows);
+        selectStatement = connection.prepareStatement(ctx.render(select));
+        insertStatement = connection.prepareStatement(ctx.render(insert));
+    }
+
+    @TearDown
+    public void teardown() throws SQLException {
+        selectStatement.close();
+        insertStatement.close();
+        connection.close();
+    }
+
+    // DSLContext.bindContext() is deprecated for public use, but it is the
+    // only way to isolate the bind step from rendering and execution
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public BindContext bindSelect() {
+        return ctx.bindContext(selectStatement).visit(select);
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public BindContext bindInsert() {
+        return ctx.bindContext(insertStatement).visit(insert);
+    }
+
+    @Benchmark
+    public int executeInsert() {
+        return insert.execute();
+    }
+}
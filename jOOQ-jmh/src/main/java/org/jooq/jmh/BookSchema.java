@@ -0,0 +1,109 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.Table;
+import org.jooq.impl.SQLDataType;
+
+/**
+ * A small, code generation free schema shared by all benchmarks.
+ * <p>
+ * The tables are modelled using plain {@link Table} and {@link Field}
+ * references, such that the benchmarks do not depend on jOOQ-codegen.
+ *
+ * @author Lukas Eder
+ */
+final class BookSchema {
+
+    static final Table<Record>     AUTHOR            = table(name("AUTHOR"));
+    static final Field<Integer>    AUTHOR_ID         = field(name("AUTHOR", "ID"), SQLDataType.INTEGER.nullable(false));
+    static final Field<String>     AUTHOR_FIRST_NAME = field(name("AUTHOR", "FIRST_NAME"), SQLDataType.VARCHAR(50));
+    static final Field<String>     AUTHOR_LAST_NAME  = field(name("AUTHOR", "LAST_NAME"), SQLDataType.VARCHAR(50).nullable(false));
+
+    static final Table<Record>     BOOK              = table(name("BOOK"));
+    static final Field<Integer>    BOOK_ID           = field(name("BOOK", "ID"), SQLDataType.INTEGER.nullable(false));
+    static final Field<Integer>    BOOK_AUTHOR_ID    = field(name("BOOK", "AUTHOR_ID"), SQLDataType.INTEGER.nullable(false));
+    static final Field<String>     BOOK_TITLE        = field(name("BOOK", "TITLE"), SQLDataType.VARCHAR(400).nullable(false));
+    static final Field<BigDecimal> BOOK_PRICE        = field(name("BOOK", "PRICE"), SQLDataType.NUMERIC(10, 2));
+    static final Field<LocalDate>  BOOK_PUBLISHED_IN = field(name("BOOK", "PUBLISHED_IN"), SQLDataType.LOCALDATE);
+    static final Field<Timestamp>  BOOK_CREATED_AT   = field(name("BOOK", "CREATED_AT"), SQLDataType.TIMESTAMP);
+
+    static final Field<?>[]        BOOK_FIELDS       = {
+        BOOK_ID,
+        BOOK_AUTHOR_ID,
+        BOOK_TITLE,
+        BOOK_PRICE,
+        BOOK_PUBLISHED_IN,
+        BOOK_CREATED_AT
+    };
+
+    /**
+     * Create an in-memory {@link Result} of <code>rows</code> books.
+     */
+    static Result<Record> books(DSLContext ctx, int rows) {
+        Result<Record> result = ctx.newResult(BOOK_FIELDS);
+
+        for (int i = 1; i <= rows; i++) {
+            Record record = ctx.newRecord(BOOK_FIELDS);
+
+            record.set(BOOK_ID, i);
+            record.set(BOOK_AUTHOR_ID, i % 10);
+            record.set(BOOK_TITLE, "Title " + i);
+            record.set(BOOK_PRICE, i % 7 == 0 ? null : BigDecimal.valueOf(i * 100 + 99, 2));
+            record.set(BOOK_PUBLISHED_IN, LocalDate.of(1900 + i % 120, 1 + i % 12, 1 + i % 28));
+            record.set(BOOK_CREATED_AT, new Timestamp(1_500_000_000_000L + i * 1000L));
+            result.add(record);
+        }
+
+        return result;
+    }
+
+    private BookSchema() {}
+}
@@ -0,0 +1,217 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.jmh.BookSchema.AUTHOR;
+import static org.jooq.jmh.BookSchema.BOOK_AUTHOR_ID;
+import static org.jooq.jmh.BookSchema.BOOK_FIELDS;
+import static org.jooq.jmh.BookSchema.BOOK_ID;
+import static org.jooq.jmh.BookSchema.BOOK_PRICE;
+import static org.jooq.jmh.BookSchema.BOOK_TITLE;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.Condition;
+import org.jooq.Context;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.QueryPart;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.impl.CustomField;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+/**
+ * Benchmarks for {@link Object#equals(Object)} and {@link Object#hashCode()}
+ * of commonly hashed {@link QueryPart} types.
+ * <p>
+ * The <code>rendered*</code> benchmarks compare the same objects by their
+ * inlined SQL strings, which is what the <code>AbstractQueryPart</code>
+ * fallback implementation does. They serve as a baseline, which the other
+ * benchmarks should beat by orders of magnitude.
+ * <p>
+ * The benchmarked conditions contain a {@link RenderCanary}, which counts how
+ * often they are rendered. All benchmarks other than the
+ * <code>rendered*</code> ones fail if the conditions were rendered, e.g.
+ * because <code>equals()</code> or <code>hashCode()</code> fell back to the
+ * <code>AbstractQueryPart</code> implementation.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class EqualsBenchmark {
+
+    DSLContext      ctx;
+    RenderCanary    canary;
+
+    Field<?>        field1;
+    Field<?>        field2;
+    Condition       condition1;
+    Condition       condition2;
+    Table<?>        alias1;
+    Table<?>        alias2;
+    Set<Field<?>>   fieldSet;
+    Set<Condition>  conditionSet;
+
+    @Setup
+    public void setup() {
+        ctx = DSL.using(SQLDialect.H2);
+        canary = new RenderCanary();
+
+        // Distinct, but equal instances, such that identity checks don't apply
+        field1 = BOOK_TITLE;
+        field2 = field(name("BOOK", "TITLE"), String.class);
+        condition1 = condition(BOOK_ID, BOOK_TITLE);
+        condition2 = condition(field(name("BOOK", "ID"), Integer.class), field(name("BOOK", "TITLE"), String.class));
+        alias1 = AUTHOR.as("a");
+        alias2 = AUTHOR.as("a");
+
+        fieldSet = new HashSet<>();
+        for (Field<?> f : BOOK_FIELDS)
+            fieldSet.add(f);
+
+        conditionSet = new HashSet<>();
+        for (int i = 0; i < 10; i++)
+            conditionSet.add(BOOK_AUTHOR_ID.eq(i));
+        conditionSet.add(condition1);
+    }
+
+    @TearDown
+    public void verify(BenchmarkParams params) {
+        if (canary.renders > 0 && !params.getBenchmark().contains(".rendered"))
+            throw new IllegalStateException("Conditions were rendered " + canary.renders + " times by " + params.getBenchmark());
+    }
+
+    private Condition condition(Field<Integer> id, Field<String> title) {
+        return id.eq(1)
+            .and(title.like("A%"))
+            .and(BOOK_PRICE.isNull().or(BOOK_PRICE.gt(BigDecimal.ONE)))
+            .and(canary.isNotNull());
+    }
+
+    @Benchmark
+    public boolean fieldEquals() {
+        return field1.equals(field2);
+    }
+
+    @Benchmark
+    public boolean renderedFieldEquals() {
+        return renderedEquals(field1, field2);
+    }
+
+    @Benchmark
+    public boolean conditionEquals() {
+        return condition1.equals(condition2);
+    }
+
+    @Benchmark
+    public boolean renderedConditionEquals() {
+        return renderedEquals(condition1, condition2);
+    }
+
+    @Benchmark
+    public int conditionHashCode() {
+        return condition2.hashCode();
+    }
+
+    @Benchmark
+    public boolean tableAliasEquals() {
+        return alias1.equals(alias2);
+    }
+
+    @Benchmark
+    public boolean renderedTableAliasEquals() {
+        return renderedEquals(alias1, alias2);
+    }
+
+    @Benchmark
+    public boolean fieldSetContains() {
+        return fieldSet.contains(field2);
+    }
+
+    @Benchmark
+    public boolean conditionSetContains() {
+        return conditionSet.contains(condition2);
+    }
+
+    private boolean renderedEquals(QueryPart part1, QueryPart part2) {
+        return ctx.renderInlined(part1).equals(ctx.renderInlined(part2));
+    }
+
+    /**
+     * A field that counts how often it is rendered.
+     */
+    static final class RenderCanary extends CustomField<Integer> {
+
+        int renders;
+
+        RenderCanary() {
+            super("CANARY", SQLDataType.INTEGER);
+        }
+
+        @Override
+        public void accept(Context<?> c) {
+            renders++;
+            c.visit(DSL.name("CANARY"));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+/**
+ * An immutable POJO, mapped through {@link org.jooq.impl.DefaultRecordMapper}'s
+ * constructor based mapping algorithm.
+ *
+ * @author Lukas Eder
+ */
+public class ImmutableBook {
+
+    private final Integer    id;
+    private final Integer    authorId;
+    private final String     title;
+    private final BigDecimal price;
+    private final LocalDate  publishedIn;
+    private final Timestamp  createdAt;
+
+    public ImmutableBook(
+        Integer id,
+        Integer authorId,
+        String title,
+        BigDecimal price,
+        LocalDate publishedIn,
+        Timestamp createdAt
+    ) {
+        this.id = id;
+        this.authorId = authorId;
+        this.title = title;
+        this.price = price;
+        this.publishedIn = publishedIn;
+        this.createdAt = createdAt;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public Integer getAuthorId() {
+        return authorId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public LocalDate getPublishedIn() {
+        return publishedIn;
+    }
+
+    public Timestamp getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.jmh.BookSchema.BOOK;
+import static org.jooq.jmh.BookSchema.BOOK_FIELDS;
+import static org.jooq.jmh.BookSchema.BOOK_ID;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for fetching and mapping results through <code>CursorImpl</code>
+ * and <code>DefaultRecordMapper</code> from a {@link MockConnection}.
+ * <p>
+ * The mock avoids any JDBC driver overhead, such that the measurements mostly
+ * reflect jOOQ's own fetch and mapping costs.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MockFetchBenchmark {
+
+    @Param({ "1", "100", "10000" })
+    public int          rows;
+
+    DSLContext          ctx;
+    ResultQuery<Record> query;
+    ResultQuery<Record> keptQuery;
+
+    @Setup
+    public void setup() {
+        Result<Record> books = BookSchema.books(DSL.using(SQLDialect.H2), rows);
+
+        ctx = DSL.using(new MockConnection(c -> new MockResult[] { new MockResult(books.size(), books) }), SQLDialect.H2);
+        query = ctx.select(BOOK_FIELDS).from(BOOK).where(BOOK_ID.gt(0));
+        keptQuery = ctx.select(BOOK_FIELDS).from(BOOK).where(BOOK_ID.gt(0)).keepRenderedSQL(true);
+    }
+
+    @Benchmark
+    public Result<Record> fetch() {
+        return query.fetch();
+    }
+
+    @Benchmark
+    public Result<Record> fetchColumnar() {
+        return query.fetchColumnar();
+    }
+
+    @Benchmark
+    public List<Integer> fetchColumnarField() {
+        return query.fetchColumnar().getValues(BOOK_ID);
+    }
+
+    @Benchmark
+    public Result<Record> fetchKeepRenderedSQL() {
+        return keptQuery.fetch();
+    }
+
+    @Benchmark
+    public void fetchLazy(Blackhole blackhole) {
+        try (Cursor<Record> cursor = query.fetchLazy()) {
+            for (Record record : cursor)
+                blackhole.consume(record);
+        }
+    }
+
+    @Benchmark
+    public List<Book> fetchIntoMutablePojo() {
+        return query.fetchInto(Book.class);
+    }
+
+    @Benchmark
+    public List<ImmutableBook> fetchIntoImmutablePojo() {
+        return query.fetchInto(ImmutableBook.class);
+    }
+
+    @Benchmark
+    public List<Integer> fetchField() {
+        return query.fetch(BOOK_ID);
+    }
+
+    @Benchmark
+    public int[] fetchIntArray() {
+        return query.fetchIntArray(BOOK_ID);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.impl.DSL.count;
+import static org.jooq.impl.DSL.inline;
+import static org.jooq.impl.DSL.val;
+import static org.jooq.jmh.BookSchema.AUTHOR;
+import static org.jooq.jmh.BookSchema.AUTHOR_FIRST_NAME;
+import static org.jooq.jmh.BookSchema.AUTHOR_ID;
+import static org.jooq.jmh.BookSchema.AUTHOR_LAST_NAME;
+import static org.jooq.jmh.BookSchema.BOOK;
+import static org.jooq.jmh.BookSchema.BOOK_AUTHOR_ID;
+import static org.jooq.jmh.BookSchema.BOOK_CREATED_AT;
+import static org.jooq.jmh.BookSchema.BOOK_ID;
+import static org.jooq.jmh.BookSchema.BOOK_PRICE;
+import static org.jooq.jmh.BookSchema.BOOK_PUBLISHED_IN;
+import static org.jooq.jmh.BookSchema.BOOK_TITLE;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Insert;
+import org.jooq.InsertValuesStep6;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.Select;
+import org.jooq.impl.DSL;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for rendering typical <code>SELECT</code> and
+ * <code>INSERT</code> statements through the <code>DefaultRenderContext</code>.
+ * <p>
+ * The <code>render*</code> benchmarks render pre-constructed query objects,
+ * whereas the <code>buildAndRender*</code> benchmarks also include the cost of
+ * constructing the query through the DSL API.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RenderBenchmark {
+
+    @Param({ "H2", "POSTGRES", "MYSQL" })
+    public String   dialect;
+
+    DSLContext      ctx;
+    Select<?>       simpleSelect;
+    Select<?>       complexSelect;
+    Insert<?>       insert;
+
+    @Setup
+    public void setup() {
+        ctx = DSL.using(SQLDialect.valueOf(dialect));
+        simpleSelect = simpleSelect(ctx);
+        complexSelect = complexSelect(ctx);
+        insert = insert(ctx, 10);
+    }
+
+    @Benchmark
+    public String renderSimpleSelect() {
+        return ctx.render(simpleSelect);
+    }
+
+    @Benchmark
+    public String renderComplexSelect() {
+        return ctx.render(complexSelect);
+    }
+
+    @Benchmark
+    public String renderInsert() {
+        return ctx.render(insert);
+    }
+
+    @Benchmark
+    public String renderInlinedComplexSelect() {
+        return ctx.renderInlined(complexSelect);
+    }
+
+    @Benchmark
+    public String buildAndRenderSimpleSelect() {
+        return ctx.render(simpleSelect(ctx));
+    }
+
+    @Benchmark
+    public String buildAndRenderComplexSelect() {
+        return ctx.render(complexSelect(ctx));
+    }
+
+    static Select<?> simpleSelect(DSLContext ctx) {
+        return ctx.select(BOOK_ID, BOOK_TITLE)
+                  .from(BOOK)
+                  .where(BOOK_ID.eq(1));
+    }
+
+    static Select<?> complexSelect(DSLContext ctx) {
+        return ctx.select(AUTHOR_ID, AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME, count().as("books"))
+                  .from(AUTHOR)
+                  .join(BOOK).on(AUTHOR_ID.eq(BOOK_AUTHOR_ID))
+                  .where(BOOK_PUBLISHED_IN.gt(LocalDate.of(2000, 1, 1)))
+                  .and(BOOK_TITLE.like("A%").or(BOOK_PRICE.between(new BigDecimal("10.00"), new BigDecimal("20.00"))))
+                  .and(AUTHOR_ID.in(1, 2, 3, 4, 5))
+                  .groupBy(AUTHOR_ID, AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME)
+                  .having(count().gt(inline(1)))
+                  .orderBy(AUTHOR_LAST_NAME.asc(), AUTHOR_FIRST_NAME.desc().nullsLast())
+                  .limit(val(10))
+                  .offset(val(20));
+    }
+
+    static Insert<?> insert(DSLContext ctx, int rows) {
+        InsertValuesStep6<Record, Integer, Integer, String, BigDecimal, LocalDate, Timestamp> insert =
+        ctx.insertInto(BOOK)
+           .columns(BOOK_ID, BOOK_AUTHOR_ID, BOOK_TITLE, BOOK_PRICE, BOOK_PUBLISHED_IN, BOOK_CREATED_AT);
+
+        for (int i = 0; i < rows; i++)
+            insert = insert.values(i, i % 10, "Title " + i, BigDecimal.valueOf(i), LocalDate.of(2000, 1, 1), new Timestamp(0L));
+
+        return insert;
+    }
+}
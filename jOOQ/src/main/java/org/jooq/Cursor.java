@@ -40,6 +40,7 @@ package org.jooq;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -259,6 +260,156 @@ public interface Cursor<R extends Record> extends Iterable<R>, Formattable , Aut
     @NotNull
     Result<R> fetchNext(int number) throws DataAccessException;
 
+    /**
+     * Fetch all values for a field from the remaining records of the
+     * cursor as a primitive <code>int[]</code>.
+     * <p>
+     * You can access data like this
+     * <code><pre>cursor.fetchIntArray(field)[recordIndex]</pre></code>
+     * <p>
+     * This will conveniently close the <code>Cursor</code>, after the last
+     * row was fetched. Values of numeric fields without a user-defined
+     * {@link Converter} or {@link Binding} are read directly from the JDBC
+     * {@link ResultSet} using <code>ResultSet.getInt()</code>, without
+     * creating any {@link Record} or wrapper objects. Other values are read
+     * through their {@link Binding} and converted to <code>int</code>.
+     * <p>
+     * <code>null</code> values are represented as <code>0</code>.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    int[] fetchIntArray(Field<?> field) throws DataAccessException;
+
+    /**
+     * Fetch all values for a field from the remaining records of the
+     * cursor as a primitive <code>int[]</code>.
+     * <p>
+     * This is the same as {@link #fetchIntArray(Field)}, except that <code>null</code>
+     * values are represented as <code>nullValue</code>.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    int[] fetchIntArray(Field<?> field, int nullValue) throws DataAccessException;
+
+    /**
+     * Fetch all values for a field from the remaining records of the
+     * cursor as a primitive <code>int[]</code>.
+     * <p>
+     * This is the same as {@link #fetchIntArray(Field)}, except that the positions of
+     * <code>null</code> values are additionally recorded in the argument
+     * <code>nulls</code> bitmap, which is cleared first. The array contains
+     * <code>0</code> at these positions.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    int[] fetchIntArray(Field<?> field, BitSet nulls) throws DataAccessException;
+
+    /**
+     * Fetch all values for a field from the remaining records of the
+     * cursor as a primitive <code>long[]</code>.
+     * <p>
+     * You can access data like this
+     * <code><pre>cursor.fetchLongArray(field)[recordIndex]</pre></code>
+     * <p>
+     * This will conveniently close the <code>Cursor</code>, after the last
+     * row was fetched. Values of numeric fields without a user-defined
+     * {@link Converter} or {@link Binding} are read directly from the JDBC
+     * {@link ResultSet} using <code>ResultSet.getLong()</code>, without
+     * creating any {@link Record} or wrapper objects. Other values are read
+     * through their {@link Binding} and converted to <code>long</code>.
+     * <p>
+     * <code>null</code> values are represented as <code>0L</code>.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    long[] fetchLongArray(Field<?> field) throws DataAccessException;
+
+    /**
+     * Fetch all values for a field from the remaining records of the
+     * cursor as a primitive <code>long[]</code>.
+     * <p>
+     * This is the same as {@link #fetchLongArray(Field)}, except that <code>null</code>
+     * values are represented as <code>nullValue</code>.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    long[] fetchLongArray(Field<?> field, long nullValue) throws DataAccessException;
+
+    /**
+     * Fetch all values for a field from the remaining records of the
+     * cursor as a primitive <code>long[]</code>.
+     * <p>
+     * This is the same as {@link #fetchLongArray(Field)}, except that the positions of
+     * <code>null</code> values are additionally recorded in the argument
+     * <code>nulls</code> bitmap, which is cleared first. The array contains
+     * <code>0L</code> at these positions.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    long[] fetchLongArray(Field<?> field, BitSet nulls) throws DataAccessException;
+
+    /**
+     * Fetch all values for a field from the remaining records of the
+     * cursor as a primitive <code>double[]</code>.
+     * <p>
+     * You can access data like this
+     * <code><pre>cursor.fetchDoubleArray(field)[recordIndex]</pre></code>
+     * <p>
+     * This will conveniently close the <code>Cursor</code>, after the last
+     * row was fetched. Values of numeric fields without a user-defined
+     * {@link Converter} or {@link Binding} are read directly from the JDBC
+     * {@link ResultSet} using <code>ResultSet.getDouble()</code>, without
+     * creating any {@link Record} or wrapper objects. Other values are read
+     * through their {@link Binding} and converted to <code>double</code>.
+     * <p>
+     * <code>null</code> values are represented as <code>0.0</code>.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    double[] fetchDoubleArray(Field<?> field) throws DataAccessException;
+
+    /**
+     * Fetch all values for a field from the remaining records of the
+     * cursor as a primitive <code>double[]</code>.
+     * <p>
+     * This is the same as {@link #fetchDoubleArray(Field)}, except that <code>null</code>
+     * values are represented as <code>nullValue</code>.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    double[] fetchDoubleArray(Field<?> field, double nullValue) throws DataAccessException;
+
+    /**
+     * Fetch all values for a field from the remaining records of the
+     * cursor as a primitive <code>double[]</code>.
+     * <p>
+     * This is the same as {@link #fetchDoubleArray(Field)}, except that the positions of
+     * <code>null</code> values are additionally recorded in the argument
+     * <code>nulls</code> bitmap, which is cleared first. The array contains
+     * <code>0.0</code> at these positions.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    double[] fetchDoubleArray(Field<?> field, BitSet nulls) throws DataAccessException;
+
     /**
      * Fetch results into a custom handler callback.
      * <p>
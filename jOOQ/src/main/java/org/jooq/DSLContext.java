@@ -71,6 +71,7 @@ import static org.jooq.SQLDialect.SQLITE;
 // ...
 // ...
 
+import java.io.InputStream;
 import java.math.BigInteger;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
@@ -104,6 +105,7 @@ import org.jooq.tools.jdbc.BatchedConnection;
 import org.jooq.tools.jdbc.MockCallable;
 import org.jooq.tools.jdbc.MockDataProvider;
 import org.jooq.tools.jdbc.MockRunnable;
+import org.jooq.tools.metrics.CacheStatistics;
 import org.jooq.util.xml.jaxb.InformationSchema;
 
 import org.jetbrains.annotations.NotNull;
@@ -175,6 +177,17 @@ public interface DSLContext extends Scope {
     @Nullable
     <R extends Record> Table<R> map(Table<R> table);
 
+    /**
+     * The statistics of the reflection caches of this {@link Configuration},
+     * including the cache of {@link RecordMapper} instances.
+     * <p>
+     * If reflection information is not cached, as specified by
+     * {@link Settings#isReflectionCaching()}, or nothing has been cached yet,
+     * all statistics are <code>0</code>.
+     */
+    @NotNull
+    CacheStatistics reflectionCacheStatistics();
+
     // -------------------------------------------------------------------------
     // XXX Convenience methods accessing the underlying Connection
     // -------------------------------------------------------------------------
@@ -195,6 +208,15 @@ public interface DSLContext extends Scope {
      * has been obtained from {@link ConnectionProvider#acquire()} and must be
      * released by calling {@link Connection#close()}.
      * <p>
+     * Translations are cached in a bounded LRU cache shared by all parsing
+     * connections of this {@link Configuration}, unless turned off through
+     * {@link Settings#isCacheParsingConnection()}. The cache size can be
+     * configured through
+     * {@link Settings#getCacheParsingConnectionLRUCacheSize()}. The cache is
+     * discarded when the {@link SQLDialect} or the contents of the
+     * {@link Settings} of this {@link Configuration} change. Cache hits and
+     * misses are available from {@link #parsingConnectionStatistics()}.
+     * <p>
      * <strong>This is experimental functionality:</strong>
      * <ul>
      * <li>While this works well for static {@link Statement} executions, bind
@@ -209,6 +231,17 @@ public interface DSLContext extends Scope {
     @NotNull
     Connection parsingConnection();
 
+    /**
+     * The statistics of the translation cache shared by all
+     * {@link #parsingConnection()} and {@link #parsingDataSource()} instances
+     * of this {@link Configuration}, since it was last discarded.
+     * <p>
+     * If translations are not cached, or no translations have been made yet,
+     * all statistics are <code>0</code>.
+     */
+    @NotNull
+    CacheStatistics parsingConnectionStatistics();
+
     /**
      * A JDBC data source that runs each statement through the {@link #parser()}
      * first, prior to re-generating and running the SQL.
@@ -3937,6 +3970,58 @@ public interface DSLContext extends Scope {
     @Support
     Result<Record> fetchFromXML(String string);
 
+    /**
+     * Fetch all data from a binary stream.
+     * <p>
+     * This is the inverse of calling
+     * {@link Result#formatBinary(java.io.OutputStream)}. The data is read from
+     * the stream block by block, without buffering it entirely. The stream is
+     * not closed.
+     * <p>
+     * Fields are created from their qualified names and types as formatted.
+     * Values retain their Java types.
+     * <p>
+     * Values of types that the binary format does not encode explicitly are
+     * written using Java serialization. Deserialising data from untrusted
+     * sources is a well known attack vector, so this method rejects such
+     * values with a {@link DataAccessException}. Use
+     * {@link #fetchFromBinary(InputStream, Class...)} to allow for specific
+     * types.
+     *
+     * @param stream The binary stream
+     * @return The transformed result. This will never be <code>null</code>.
+     * @throws DataAccessException If anything went wrong reading the binary
+     *             data, or if the data contains serialised values
+     */
+    @NotNull
+    @Support
+    Result<Record> fetchFromBinary(InputStream stream);
+
+    /**
+     * Fetch all data from a binary stream, deserialising values of an
+     * allow-list of types.
+     * <p>
+     * This is the same as {@link #fetchFromBinary(InputStream)}, except that
+     * values written using Java serialization are deserialised if their types
+     * are subtypes of any of the argument <code>serializableTypes</code>. This
+     * includes the types of their serialised, non-primitive fields. All other
+     * types are rejected before any instances of them are created.
+     * <p>
+     * Only allow for types that cannot be abused for deserialisation attacks,
+     * and never allow for general types like {@link Object} or
+     * {@link java.io.Serializable}, unless the stream is fully trusted.
+     *
+     * @param stream The binary stream
+     * @param serializableTypes The types that may be deserialised
+     * @return The transformed result. This will never be <code>null</code>.
+     * @throws DataAccessException If anything went wrong reading the binary
+     *             data, or if the data contains serialised values of other
+     *             types
+     */
+    @NotNull
+    @Support
+    Result<Record> fetchFromBinary(InputStream stream, Class<?>... serializableTypes);
+
     /**
      * Fetch all data from a list of strings.
      * <p>
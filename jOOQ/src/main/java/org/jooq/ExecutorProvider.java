@@ -64,6 +64,10 @@ import org.jetbrains.annotations.NotNull;
  * The SPI will not be called if an asynchronous operation explicitly overrides
  * the {@link Executor}, e.g. as is the case for
  * {@link ResultQuery#fetchAsync(Executor)}.
+ * <p>
+ * Asynchronous tasks that block on JDBC calls may be better run by a
+ * dedicated {@link org.jooq.impl.BlockingExecutorProvider} than by the
+ * {@link ForkJoinPool#commonPool()}.
  *
  * @author Lukas Eder
  */
@@ -382,6 +382,27 @@ public interface Formattable {
      */
     void formatXML(OutputStream stream, XMLFormat format) throws IOException;
 
+    /**
+     * Format the data into a compact binary representation, and output it
+     * onto an {@link OutputStream}.
+     * <p>
+     * The binary representation stores the fields' metadata only once,
+     * followed by the values of blocks of rows, column by column. Columns
+     * whose values are all of the same type are stored without any per value
+     * type information, <code>null</code> values are stored as bitmaps, and
+     * columns of larger immutable types with few distinct values are
+     * dictionary encoded. The data is streamed onto the {@link OutputStream}
+     * while being formatted.
+     * <p>
+     * Values of the common JDBC and <code>java.time</code> types are encoded
+     * explicitly, other values using Java serialization. The format is
+     * versioned, and it can be read back with
+     * {@link DSLContext#fetchFromBinary(java.io.InputStream)}.
+     *
+     * @throws IOException - an unchecked wrapper for {@link java.io.IOException}, if anything goes wrong.
+     */
+    void formatBinary(OutputStream stream) throws IOException;
+
     /**
      * Like {@link #formatChart()}, but the data is output onto an {@link OutputStream}.
      *
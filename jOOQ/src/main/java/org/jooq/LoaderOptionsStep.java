@@ -340,4 +340,36 @@ public interface LoaderOptionsStep<R extends Record> extends LoaderSourceStep<R>
     @NotNull
     @Support
     LoaderOptionsStep<R> bulkAfter(int number);
+
+    /**
+     * Load rows with a given number of parallel workers.
+     * <p>
+     * The source data is read on the calling thread, and handed over in chunks
+     * to <code>number</code> workers, which run on the
+     * {@link Configuration#executorProvider()}. Each worker acquires its own
+     * connection from {@link Configuration#connectionProvider()}, and applies
+     * the BULK, BATCH, and COMMIT OPTIONS to the rows it receives. For
+     * instance, with {@link #commitAfter(int)}, each worker commits its own
+     * connection after the given number of its own batches. As workers
+     * receive chunks in no particular order, rows may be stored in any order.
+     * <p>
+     * {@link #commitAll()} cannot be combined with parallel loading, as there
+     * is no common transaction. If the connection provider only provides a
+     * single JDBC connection (e.g. when using
+     * {@link org.jooq.impl.DefaultConnectionProvider}), rows are loaded on the
+     * calling thread, instead.
+     * <p>
+     * Listeners are called on the worker threads, one at a time. Their
+     * {@link LoaderContext} and the resulting {@link Loader} report counts and
+     * errors aggregated across all workers. {@link LoaderError#rowIndex()}
+     * refers to the row's position in the source data.
+     * <p>
+     * If you don't specify a PARALLELISM OPTION, <code>1</code> will be the
+     * default, loading all rows on the calling thread.
+     *
+     * @param number The number of parallel workers.
+     */
+    @NotNull
+    @Support
+    LoaderOptionsStep<R> parallelism(int number);
 }
@@ -340,6 +340,28 @@ public interface Query extends Statement, Attachable , AutoCloseable {
     @NotNull
     Query keepStatement(boolean keepStatement);
 
+    /**
+     * Keep the query's rendered SQL string across executions.
+     * <p>
+     * This indicates to jOOQ that the SQL string and the list of bind values
+     * of this query should be rendered only once, and then be re-used for
+     * subsequent executions of the same query instance, which then only
+     * perform the binding of the current bind values. This is useful for
+     * queries that are constructed once and executed many times with
+     * different bind values, e.g. through {@link #bind(String, Object)}.
+     * <p>
+     * The kept SQL string is discarded when the query is executed with a
+     * different {@link SQLDialect} or {@link Settings} instance, or when
+     * {@link #bind(String, Object)} or {@link #bind(int, Object)} change an
+     * inline bind value. The query must not be otherwise modified after its
+     * first execution, as such modifications would not be reflected in the
+     * kept SQL string.
+     *
+     * @param keepRenderedSQL Whether to keep the rendered SQL string
+     */
+    @NotNull
+    Query keepRenderedSQL(boolean keepRenderedSQL);
+
     /**
      * Close the underlying statement.
      * <p>
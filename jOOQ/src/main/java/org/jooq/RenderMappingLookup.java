@@ -0,0 +1,329 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import static java.util.Collections.emptyList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.jooq.conf.MappedCatalog;
+import org.jooq.conf.MappedSchema;
+import org.jooq.conf.MappedTable;
+import org.jooq.conf.RenderMapping;
+
+/**
+ * A compiled form of a {@link RenderMapping}, which looks up the
+ * {@link MappedCatalog}, {@link MappedSchema}, and {@link MappedTable}
+ * entries matching a name without iterating over all entries.
+ * <p>
+ * Entries with an <code>input</code> are looked up in hash maps, whereas the
+ * results of matching names against <code>inputExpression</code> entries are
+ * memoised per name. Lookups return the same entries as iterating over the
+ * configured entries in order, and picking the first match.
+ * <p>
+ * This lookup is compiled from a copy of the {@link RenderMapping}, so it is
+ * immutable (apart from its memoised results), and it can be shared by all
+ * {@link SchemaMapping} instances whose {@link RenderMapping} has the same
+ * contents, see {@link #compiles(RenderMapping)}.
+ *
+ * @author Lukas Eder
+ */
+final class RenderMappingLookup {
+
+    private final RenderMapping                            mapping;
+    private final Lookup<MappedCatalog>                    catalogs;
+    private final Lookup<MappedSchema>                     schemata;
+    private final Map<MappedCatalog, Lookup<MappedSchema>> catalogSchemata;
+    private final Map<MappedSchema, Lookup<MappedTable>>   schemaTables;
+
+    RenderMappingLookup(RenderMapping mapping) {
+        this.mapping = copy(mapping);
+        this.catalogSchemata = new IdentityHashMap<>();
+        this.schemaTables = new IdentityHashMap<>();
+        this.catalogs = catalogs(this.mapping.getCatalogs());
+        this.schemata = schemata(this.mapping.getSchemata());
+
+        for (MappedCatalog c : this.mapping.getCatalogs())
+            catalogSchemata.put(c, schemata(c.getSchemata()));
+    }
+
+    /**
+     * Whether this lookup was compiled from a {@link RenderMapping} with the
+     * same contents as the argument mapping.
+     * <p>
+     * This compares all entries of the mapping, which is about as expensive as
+     * iterating over them once, so it should only be done when a name has not
+     * been looked up before.
+     */
+    final boolean compiles(RenderMapping m) {
+        return mapping.equals(m);
+    }
+
+    /**
+     * A deep copy of a {@link RenderMapping}, which is unaffected by changes
+     * to the original.
+     */
+    private static final RenderMapping copy(RenderMapping m) {
+        List<MappedCatalog> c = new ArrayList<>(m.getCatalogs().size());
+        for (MappedCatalog mc : m.getCatalogs())
+            c.add(new MappedCatalog()
+                .withInput(mc.getInput())
+                .withInputExpression(mc.getInputExpression())
+                .withOutput(mc.getOutput())
+                .withSchemata(copy(mc.getSchemata())));
+
+        return new RenderMapping()
+            .withDefaultCatalog(m.getDefaultCatalog())
+            .withDefaultSchema(m.getDefaultSchema())
+            .withCatalogs(c)
+            .withSchemata(copy(m.getSchemata()));
+    }
+
+    private static final List<MappedSchema> copy(List<MappedSchema> schemata) {
+        List<MappedSchema> result = new ArrayList<>(schemata.size());
+
+        for (MappedSchema ms : schemata) {
+            List<MappedTable> t = new ArrayList<>(ms.getTables().size());
+
+            for (MappedTable mt : ms.getTables())
+                t.add(new MappedTable()
+                    .withInput(mt.getInput())
+                    .withInputExpression(mt.getInputExpression())
+                    .withOutput(mt.getOutput()));
+
+            result.add(new MappedSchema()
+                .withInput(ms.getInput())
+                .withInputExpression(ms.getInputExpression())
+                .withOutput(ms.getOutput())
+                .withTables(t));
+        }
+
+        return result;
+    }
+
+    /**
+     * The first {@link MappedCatalog} matching a catalog name.
+     */
+    final MappedCatalog catalog(String catalogName) {
+        return catalogs.first(catalogName);
+    }
+
+    /**
+     * The first top level {@link MappedSchema} matching a schema name.
+     */
+    final MappedSchema schema(String schemaName) {
+        return schemata.first(schemaName);
+    }
+
+    /**
+     * All {@link MappedSchema} entries of a {@link MappedCatalog} matching a
+     * schema name, in the order of their configuration.
+     */
+    final List<MappedSchema> schemata(MappedCatalog catalog, String schemaName) {
+        return catalogSchemata.get(catalog).all(schemaName);
+    }
+
+    /**
+     * The first {@link MappedTable} of a {@link MappedSchema} matching a
+     * table name.
+     */
+    final MappedTable table(MappedSchema schema, String tableName) {
+        return schemaTables.get(schema).first(tableName);
+    }
+
+    private final Lookup<MappedCatalog> catalogs(List<MappedCatalog> list) {
+        String[] inputs = new String[list.size()];
+        Pattern[] expressions = new Pattern[list.size()];
+
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = list.get(i).getInput();
+            expressions[i] = list.get(i).getInputExpression();
+        }
+
+        return new Lookup<>(list, inputs, expressions);
+    }
+
+    private final Lookup<MappedSchema> schemata(List<MappedSchema> list) {
+        String[] inputs = new String[list.size()];
+        Pattern[] expressions = new Pattern[list.size()];
+
+        for (int i = 0; i < inputs.length; i++) {
+            MappedSchema s = list.get(i);
+
+            inputs[i] = s.getInput();
+            expressions[i] = s.getInputExpression();
+
+            if (!schemaTables.containsKey(s))
+                schemaTables.put(s, tables(s.getTables()));
+        }
+
+        return new Lookup<>(list, inputs, expressions);
+    }
+
+    private final Lookup<MappedTable> tables(List<MappedTable> list) {
+        String[] inputs = new String[list.size()];
+        Pattern[] expressions = new Pattern[list.size()];
+
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = list.get(i).getInput();
+            expressions[i] = list.get(i).getInputExpression();
+        }
+
+        return new Lookup<>(list, inputs, expressions);
+    }
+
+    /**
+     * The entries of a single list of a {@link RenderMapping}.
+     */
+    private static final class Lookup<M> {
+
+        private static final int[]       NONE = {};
+
+        private final List<M>            entries;
+        private final Map<String, int[]> exact;
+        private final int[]              expressionIndexes;
+        private final Pattern[]          expressions;
+        private final Map<String, int[]> memo;
+
+        Lookup(List<M> list, String[] inputs, Pattern[] patterns) {
+            this.entries = new ArrayList<>(list);
+            this.exact = new HashMap<>();
+
+            int count = 0;
+            for (int i = 0; i < inputs.length; i++) {
+                if (inputs[i] != null) {
+                    int[] indexes = exact.get(inputs[i]);
+
+                    if (indexes == null) {
+                        indexes = new int[] { i };
+                    }
+                    else {
+                        indexes = Arrays.copyOf(indexes, indexes.length + 1);
+                        indexes[indexes.length - 1] = i;
+                    }
+
+                    exact.put(inputs[i], indexes);
+                }
+
+                if (patterns[i] != null)
+                    count++;
+            }
+
+            this.expressionIndexes = new int[count];
+            this.expressions = new Pattern[count];
+
+            for (int i = 0, j = 0; i < patterns.length; i++) {
+                if (patterns[i] != null) {
+                    expressionIndexes[j] = i;
+                    expressions[j++] = patterns[i];
+                }
+            }
+
+            this.memo = count > 0 ? new ConcurrentHashMap<>() : null;
+        }
+
+        final M first(String name) {
+            int[] indexes = indexes(name);
+            return indexes.length == 0 ? null : entries.get(indexes[0]);
+        }
+
+        final List<M> all(String name) {
+            int[] indexes = indexes(name);
+
+            if (indexes.length == 0)
+                return emptyList();
+
+            List<M> result = new ArrayList<>(indexes.length);
+            for (int i : indexes)
+                result.add(entries.get(i));
+
+            return result;
+        }
+
+        /**
+         * The ascending indexes of the entries matching a name.
+         */
+        private final int[] indexes(String name) {
+            if (memo == null) {
+                int[] result = exact.get(name);
+                return result == null ? NONE : result;
+            }
+
+            int[] result = memo.get(name);
+
+            if (result == null) {
+                result = match(name);
+                memo.put(name, result);
+            }
+
+            return result;
+        }
+
+        private final int[] match(String name) {
+            int[] e = exact.get(name);
+            int[] result = new int[(e == null ? 0 : e.length) + expressions.length];
+            int length = 0;
+            int j = 0;
+
+            for (int i = 0; i < expressions.length; i++) {
+                if (expressions[i].matcher(name).matches()) {
+                    int index = expressionIndexes[i];
+
+                    // Merge the exact matches preceding this entry
+                    for (; e != null && j < e.length && e[j] <= index; j++)
+                        if (e[j] < index)
+                            result[length++] = e[j];
+
+                    result[length++] = index;
+                }
+            }
+
+            for (; e != null && j < e.length; j++)
+                result[length++] = e[j];
+
+            return length == 0 ? NONE : Arrays.copyOf(result, length);
+        }
+    }
+}
@@ -40,6 +40,7 @@ package org.jooq;
 
 import java.sql.ResultSet;
 import java.sql.Statement;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -2413,6 +2414,174 @@ public interface Result<R extends Record> extends List<R>, Attachable, Formattab
     @NotNull
     <T, U> U[] intoArray(Field<T> field, Converter<? super T, ? extends U> converter) throws IllegalArgumentException, DataTypeException;
 
+    /**
+     * Return all values for a field from the result as a primitive
+     * <code>int[]</code>.
+     * <p>
+     * You can access data like this
+     * <code><pre>result.intoIntArray(field)[recordIndex]</pre></code>
+     * <p>
+     * Results obtained from {@link ResultQuery#fetchColumnar()} copy their
+     * numeric columns without creating any {@link Record} or wrapper
+     * objects.
+     * <p>
+     * <code>null</code> values are represented as <code>0</code>.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws IllegalArgumentException If the argument field is not contained
+     *             in {@link #fieldsRow()}
+     * @throws DataTypeException wrapping any data type conversion exception
+     *             that might have occurred
+     */
+    @NotNull
+    int[] intoIntArray(Field<?> field) throws IllegalArgumentException, DataTypeException;
+
+    /**
+     * Return all values for a field from the result as a primitive
+     * <code>int[]</code>.
+     * <p>
+     * This is the same as {@link #intoIntArray(Field)}, except that <code>null</code>
+     * values are represented as <code>nullValue</code>.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws IllegalArgumentException If the argument field is not contained
+     *             in {@link #fieldsRow()}
+     * @throws DataTypeException wrapping any data type conversion exception
+     *             that might have occurred
+     */
+    @NotNull
+    int[] intoIntArray(Field<?> field, int nullValue) throws IllegalArgumentException, DataTypeException;
+
+    /**
+     * Return all values for a field from the result as a primitive
+     * <code>int[]</code>.
+     * <p>
+     * This is the same as {@link #intoIntArray(Field)}, except that the positions of
+     * <code>null</code> values are additionally recorded in the argument
+     * <code>nulls</code> bitmap, which is cleared first. The array contains
+     * <code>0</code> at these positions.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws IllegalArgumentException If the argument field is not contained
+     *             in {@link #fieldsRow()}
+     * @throws DataTypeException wrapping any data type conversion exception
+     *             that might have occurred
+     */
+    @NotNull
+    int[] intoIntArray(Field<?> field, BitSet nulls) throws IllegalArgumentException, DataTypeException;
+
+    /**
+     * Return all values for a field from the result as a primitive
+     * <code>long[]</code>.
+     * <p>
+     * You can access data like this
+     * <code><pre>result.intoLongArray(field)[recordIndex]</pre></code>
+     * <p>
+     * Results obtained from {@link ResultQuery#fetchColumnar()} copy their
+     * numeric columns without creating any {@link Record} or wrapper
+     * objects.
+     * <p>
+     * <code>null</code> values are represented as <code>0L</code>.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws IllegalArgumentException If the argument field is not contained
+     *             in {@link #fieldsRow()}
+     * @throws DataTypeException wrapping any data type conversion exception
+     *             that might have occurred
+     */
+    @NotNull
+    long[] intoLongArray(Field<?> field) throws IllegalArgumentException, DataTypeException;
+
+    /**
+     * Return all values for a field from the result as a primitive
+     * <code>long[]</code>.
+     * <p>
+     * This is the same as {@link #intoLongArray(Field)}, except that <code>null</code>
+     * values are represented as <code>nullValue</code>.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws IllegalArgumentException If the argument field is not contained
+     *             in {@link #fieldsRow()}
+     * @throws DataTypeException wrapping any data type conversion exception
+     *             that might have occurred
+     */
+    @NotNull
+    long[] intoLongArray(Field<?> field, long nullValue) throws IllegalArgumentException, DataTypeException;
+
+    /**
+     * Return all values for a field from the result as a primitive
+     * <code>long[]</code>.
+     * <p>
+     * This is the same as {@link #intoLongArray(Field)}, except that the positions of
+     * <code>null</code> values are additionally recorded in the argument
+     * <code>nulls</code> bitmap, which is cleared first. The array contains
+     * <code>0L</code> at these positions.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws IllegalArgumentException If the argument field is not contained
+     *             in {@link #fieldsRow()}
+     * @throws DataTypeException wrapping any data type conversion exception
+     *             that might have occurred
+     */
+    @NotNull
+    long[] intoLongArray(Field<?> field, BitSet nulls) throws IllegalArgumentException, DataTypeException;
+
+    /**
+     * Return all values for a field from the result as a primitive
+     * <code>double[]</code>.
+     * <p>
+     * You can access data like this
+     * <code><pre>result.intoDoubleArray(field)[recordIndex]</pre></code>
+     * <p>
+     * Results obtained from {@link ResultQuery#fetchColumnar()} copy their
+     * numeric columns without creating any {@link Record} or wrapper
+     * objects.
+     * <p>
+     * <code>null</code> values are represented as <code>0.0</code>.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws IllegalArgumentException If the argument field is not contained
+     *             in {@link #fieldsRow()}
+     * @throws DataTypeException wrapping any data type conversion exception
+     *             that might have occurred
+     */
+    @NotNull
+    double[] intoDoubleArray(Field<?> field) throws IllegalArgumentException, DataTypeException;
+
+    /**
+     * Return all values for a field from the result as a primitive
+     * <code>double[]</code>.
+     * <p>
+     * This is the same as {@link #intoDoubleArray(Field)}, except that <code>null</code>
+     * values are represented as <code>nullValue</code>.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws IllegalArgumentException If the argument field is not contained
+     *             in {@link #fieldsRow()}
+     * @throws DataTypeException wrapping any data type conversion exception
+     *             that might have occurred
+     */
+    @NotNull
+    double[] intoDoubleArray(Field<?> field, double nullValue) throws IllegalArgumentException, DataTypeException;
+
+    /**
+     * Return all values for a field from the result as a primitive
+     * <code>double[]</code>.
+     * <p>
+     * This is the same as {@link #intoDoubleArray(Field)}, except that the positions of
+     * <code>null</code> values are additionally recorded in the argument
+     * <code>nulls</code> bitmap, which is cleared first. The array contains
+     * <code>0.0</code> at these positions.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws IllegalArgumentException If the argument field is not contained
+     *             in {@link #fieldsRow()}
+     * @throws DataTypeException wrapping any data type conversion exception
+     *             that might have occurred
+     */
+    @NotNull
+    double[] intoDoubleArray(Field<?> field, BitSet nulls) throws IllegalArgumentException, DataTypeException;
+
     /**
      * Map results into a custom mapper callback.
      *
@@ -38,10 +38,13 @@
 
 package org.jooq;
 
+import java.io.OutputStream;
+import java.io.Writer;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -62,6 +65,7 @@ import javax.sql.DataSource;
 import org.jooq.conf.Settings;
 import org.jooq.exception.DataAccessException;
 import org.jooq.exception.DataTypeException;
+import org.jooq.exception.IOException;
 import org.jooq.exception.InvalidResultException;
 import org.jooq.exception.MappingException;
 import org.jooq.exception.NoDataFoundException;
@@ -177,6 +181,38 @@ extends
     @NotNull
     Result<R> fetch() throws DataAccessException;
 
+    /**
+     * Execute the query and return the generated result in a columnar,
+     * read-only representation.
+     * <p>
+     * This is the same as {@link #fetch()}, except that the returned
+     * {@link Result} does not hold on to {@link Record} instances. Instead,
+     * values are stored column by column, using primitive arrays for
+     * {@link Integer}, {@link Long}, and {@link Double} columns, and
+     * dictionary encoding for columns of other immutable types with few
+     * distinct values. This can drastically reduce the memory footprint of
+     * large results, in particular of numeric ones.
+     * <p>
+     * Column access, such as {@link Result#getValues(Field)},
+     * {@link Result#intoArray(Field)} or {@link Result#intoArrays()} reads
+     * the columns directly. Records are created lazily as read-only views
+     * when they are accessed, see {@link Settings#isFetchReadOnlyRecords()}.
+     * They are not attached to any {@link Configuration}. Modifying the
+     * result itself (e.g. by sorting it) converts it into a record based
+     * representation.
+     * <h3>Lifecycle guarantees</h3> This method completes the whole
+     * {@link ConnectionProvider} and {@link ExecuteListener} lifecycles,
+     * eagerly fetching all results into memory. Underlying JDBC
+     * {@link ResultSet}s are always closed. Underlying JDBC
+     * {@link PreparedStatement}s are closed, unless
+     * {@link #keepStatement(boolean)} is set.
+     *
+     * @return The result. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    Result<R> fetchColumnar() throws DataAccessException;
+
     /**
      * Execute the query and return the generated result as a JDBC
      * {@link ResultSet}.
@@ -395,6 +431,105 @@ extends
      */
     <X, A> X collect(Collector<? super R, A, X> collector) throws DataAccessException;
 
+    /**
+     * Execute the query and format the records as CSV onto an {@link OutputStream}, as
+     * they are fetched.
+     * <p>
+     * This is the same as calling {@link Cursor#formatCSV(OutputStream, CSVFormat)}
+     * on {@link #fetchLazy()}, without loading all records into memory.
+     * <h3>Lifecycle guarantees</h3> This method completes the whole
+     * {@link ConnectionProvider} and {@link ExecuteListener} lifecycles.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException - an unchecked wrapper for {@link java.io.IOException}, if anything goes wrong.
+     */
+    void formatCSV(OutputStream stream, CSVFormat format) throws DataAccessException, IOException;
+
+    /**
+     * Execute the query and format the records as CSV onto a {@link Writer}, as
+     * they are fetched.
+     * <p>
+     * This is the same as calling {@link Cursor#formatCSV(Writer, CSVFormat)}
+     * on {@link #fetchLazy()}, without loading all records into memory.
+     * <h3>Lifecycle guarantees</h3> This method completes the whole
+     * {@link ConnectionProvider} and {@link ExecuteListener} lifecycles.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException - an unchecked wrapper for {@link java.io.IOException}, if anything goes wrong.
+     */
+    void formatCSV(Writer writer, CSVFormat format) throws DataAccessException, IOException;
+
+    /**
+     * Execute the query and format the records as JSON onto an {@link OutputStream}, as
+     * they are fetched.
+     * <p>
+     * This is the same as calling {@link Cursor#formatJSON(OutputStream, JSONFormat)}
+     * on {@link #fetchLazy()}, without loading all records into memory.
+     * <h3>Lifecycle guarantees</h3> This method completes the whole
+     * {@link ConnectionProvider} and {@link ExecuteListener} lifecycles.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException - an unchecked wrapper for {@link java.io.IOException}, if anything goes wrong.
+     */
+    void formatJSON(OutputStream stream, JSONFormat format) throws DataAccessException, IOException;
+
+    /**
+     * Execute the query and format the records as JSON onto a {@link Writer}, as
+     * they are fetched.
+     * <p>
+     * This is the same as calling {@link Cursor#formatJSON(Writer, JSONFormat)}
+     * on {@link #fetchLazy()}, without loading all records into memory.
+     * <h3>Lifecycle guarantees</h3> This method completes the whole
+     * {@link ConnectionProvider} and {@link ExecuteListener} lifecycles.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException - an unchecked wrapper for {@link java.io.IOException}, if anything goes wrong.
+     */
+    void formatJSON(Writer writer, JSONFormat format) throws DataAccessException, IOException;
+
+    /**
+     * Execute the query and format the records as XML onto an {@link OutputStream}, as
+     * they are fetched.
+     * <p>
+     * This is the same as calling {@link Cursor#formatXML(OutputStream, XMLFormat)}
+     * on {@link #fetchLazy()}, without loading all records into memory.
+     * <h3>Lifecycle guarantees</h3> This method completes the whole
+     * {@link ConnectionProvider} and {@link ExecuteListener} lifecycles.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException - an unchecked wrapper for {@link java.io.IOException}, if anything goes wrong.
+     */
+    void formatXML(OutputStream stream, XMLFormat format) throws DataAccessException, IOException;
+
+    /**
+     * Execute the query and format the records as XML onto a {@link Writer}, as
+     * they are fetched.
+     * <p>
+     * This is the same as calling {@link Cursor#formatXML(Writer, XMLFormat)}
+     * on {@link #fetchLazy()}, without loading all records into memory.
+     * <h3>Lifecycle guarantees</h3> This method completes the whole
+     * {@link ConnectionProvider} and {@link ExecuteListener} lifecycles.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException - an unchecked wrapper for {@link java.io.IOException}, if anything goes wrong.
+     */
+    void formatXML(Writer writer, XMLFormat format) throws DataAccessException, IOException;
+
+    /**
+     * Execute the query and format the records in a binary representation
+     * onto an {@link OutputStream}, as they are fetched.
+     * <p>
+     * This is the same as calling
+     * {@link Cursor#formatBinary(OutputStream)} on {@link #fetchLazy()},
+     * without loading all records into memory.
+     * <h3>Lifecycle guarantees</h3> This method completes the whole
+     * {@link ConnectionProvider} and {@link ExecuteListener} lifecycles.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException - an unchecked wrapper for {@link java.io.IOException}, if anything goes wrong.
+     */
+    void formatBinary(OutputStream stream) throws DataAccessException, IOException;
+
 
 
     /**
@@ -3845,6 +3980,153 @@ extends
     @NotNull
     <T, U> U[] fetchArray(Field<T> field, Converter<? super T, ? extends U> converter) throws DataAccessException;
 
+    /**
+     * Execute the query and return all values for a field from the
+     * generated result as a primitive <code>int[]</code>.
+     * <p>
+     * You can access data like this
+     * <code><pre>query.fetchIntArray(field)[recordIndex]</pre></code>
+     * <p>
+     * Values of numeric fields without a user-defined {@link Converter} or
+     * {@link Binding} are read directly from the JDBC {@link ResultSet} using
+     * <code>ResultSet.getInt()</code>, without creating any {@link Record}
+     * or wrapper objects. Other values are read through their
+     * {@link Binding} and converted to <code>int</code>.
+     * <p>
+     * <code>null</code> values are represented as <code>0</code>.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    int[] fetchIntArray(Field<?> field) throws DataAccessException;
+
+    /**
+     * Execute the query and return all values for a field from the
+     * generated result as a primitive <code>int[]</code>.
+     * <p>
+     * This is the same as {@link #fetchIntArray(Field)}, except that <code>null</code>
+     * values are represented as <code>nullValue</code>.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    int[] fetchIntArray(Field<?> field, int nullValue) throws DataAccessException;
+
+    /**
+     * Execute the query and return all values for a field from the
+     * generated result as a primitive <code>int[]</code>.
+     * <p>
+     * This is the same as {@link #fetchIntArray(Field)}, except that the positions of
+     * <code>null</code> values are additionally recorded in the argument
+     * <code>nulls</code> bitmap, which is cleared first. The array contains
+     * <code>0</code> at these positions.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    int[] fetchIntArray(Field<?> field, BitSet nulls) throws DataAccessException;
+
+    /**
+     * Execute the query and return all values for a field from the
+     * generated result as a primitive <code>long[]</code>.
+     * <p>
+     * You can access data like this
+     * <code><pre>query.fetchLongArray(field)[recordIndex]</pre></code>
+     * <p>
+     * Values of numeric fields without a user-defined {@link Converter} or
+     * {@link Binding} are read directly from the JDBC {@link ResultSet} using
+     * <code>ResultSet.getLong()</code>, without creating any {@link Record}
+     * or wrapper objects. Other values are read through their
+     * {@link Binding} and converted to <code>long</code>.
+     * <p>
+     * <code>null</code> values are represented as <code>0L</code>.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    long[] fetchLongArray(Field<?> field) throws DataAccessException;
+
+    /**
+     * Execute the query and return all values for a field from the
+     * generated result as a primitive <code>long[]</code>.
+     * <p>
+     * This is the same as {@link #fetchLongArray(Field)}, except that <code>null</code>
+     * values are represented as <code>nullValue</code>.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    long[] fetchLongArray(Field<?> field, long nullValue) throws DataAccessException;
+
+    /**
+     * Execute the query and return all values for a field from the
+     * generated result as a primitive <code>long[]</code>.
+     * <p>
+     * This is the same as {@link #fetchLongArray(Field)}, except that the positions of
+     * <code>null</code> values are additionally recorded in the argument
+     * <code>nulls</code> bitmap, which is cleared first. The array contains
+     * <code>0L</code> at these positions.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    long[] fetchLongArray(Field<?> field, BitSet nulls) throws DataAccessException;
+
+    /**
+     * Execute the query and return all values for a field from the
+     * generated result as a primitive <code>double[]</code>.
+     * <p>
+     * You can access data like this
+     * <code><pre>query.fetchDoubleArray(field)[recordIndex]</pre></code>
+     * <p>
+     * Values of numeric fields without a user-defined {@link Converter} or
+     * {@link Binding} are read directly from the JDBC {@link ResultSet} using
+     * <code>ResultSet.getDouble()</code>, without creating any {@link Record}
+     * or wrapper objects. Other values are read through their
+     * {@link Binding} and converted to <code>double</code>.
+     * <p>
+     * <code>null</code> values are represented as <code>0.0</code>.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    double[] fetchDoubleArray(Field<?> field) throws DataAccessException;
+
+    /**
+     * Execute the query and return all values for a field from the
+     * generated result as a primitive <code>double[]</code>.
+     * <p>
+     * This is the same as {@link #fetchDoubleArray(Field)}, except that <code>null</code>
+     * values are represented as <code>nullValue</code>.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    double[] fetchDoubleArray(Field<?> field, double nullValue) throws DataAccessException;
+
+    /**
+     * Execute the query and return all values for a field from the
+     * generated result as a primitive <code>double[]</code>.
+     * <p>
+     * This is the same as {@link #fetchDoubleArray(Field)}, except that the positions of
+     * <code>null</code> values are additionally recorded in the argument
+     * <code>nulls</code> bitmap, which is cleared first. The array contains
+     * <code>0.0</code> at these positions.
+     *
+     * @return The resulting values. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    double[] fetchDoubleArray(Field<?> field, BitSet nulls) throws DataAccessException;
+
     /**
      * Fetch results into a custom mapper callback.
      *
@@ -4187,6 +4469,10 @@ extends
     @Override
     ResultQuery<R> keepStatement(boolean keepStatement);
 
+    @NotNull
+    @Override
+    ResultQuery<R> keepRenderedSQL(boolean keepRenderedSQL);
+
     /**
      * Specify the maximum number of rows returned by the underlying
      * {@link Statement}.
@@ -4228,6 +4514,45 @@ extends
     @NotNull
     ResultQuery<R> fetchSize(int rows);
 
+    /**
+     * Specify the number of rows beyond which a result fetched eagerly by
+     * {@link #fetch()} is spilled to a temporary file.
+     * <p>
+     * Once the threshold is exceeded, all records are written to a temporary
+     * file in a compact binary format, which is memory mapped after fetching.
+     * The resulting {@link Result} can be iterated, accessed randomly, and
+     * formatted like any other result, while only a sparse index is kept on
+     * the heap. Its {@link Record} instances are created on access as
+     * read-only views, see {@link Settings#isFetchReadOnlyRecords()}, which
+     * are not attached to any {@link Configuration}. The spilled result itself
+     * cannot be modified (e.g. sorted). Values of types other than the common
+     * JDBC and <code>java.time</code> types are spilled using Java
+     * serialization.
+     * <p>
+     * The temporary file is created in
+     * {@link Settings#getFetchSpillDirectory()}. Results below the threshold
+     * are not affected.
+     *
+     * @param rows The number of rows, or <code>0</code> to use
+     *            {@link Settings#getFetchSpillThresholdRows()}.
+     */
+    @NotNull
+    ResultQuery<R> spillThreshold(int rows);
+
+    /**
+     * Specify the approximate heap size in bytes beyond which a result fetched
+     * eagerly by {@link #fetch()} is spilled to a temporary file.
+     * <p>
+     * The heap size of records is estimated based on the number and types of
+     * their values. Apart from that, this works like
+     * {@link #spillThreshold(int)}.
+     *
+     * @param bytes The number of bytes, or <code>0</code> to use
+     *            {@link Settings#getFetchSpillThresholdBytes()}.
+     */
+    @NotNull
+    ResultQuery<R> spillThresholdBytes(long bytes);
+
     /**
      * Specify the <code>ResultSet</code> concurrency of <code>ResultSet</code>
      * objects created by jOOQ.
@@ -42,9 +42,10 @@ import static org.jooq.impl.DSL.schema;
 import static org.jooq.tools.StringUtils.isBlank;
 
 import java.io.Serializable;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jooq.conf.MappedCatalog;
 import org.jooq.conf.MappedSchema;
@@ -95,7 +96,15 @@ public class SchemaMapping implements Serializable {
     private static final JooqLogger                  log               = JooqLogger.getLogger(SchemaMapping.class);
     private static volatile boolean                  loggedDeprecation = false;
 
+    /**
+     * The {@link Configuration#data()} key of the {@link RenderMappingLookup}
+     * shared by all configurations derived from one another.
+     */
+    private static final String                      DATA_LOOKUP       = "org.jooq.configuration.cache.render-mapping-lookup";
+
     private final Configuration                      configuration;
+    private volatile transient RenderMappingLookup   lookup;
+    private volatile transient RenderMapping         lookupSource;
     private volatile transient Map<String, Catalog>  catalogs;
     private volatile transient Map<String, Schema>   schemata;
     private volatile transient Map<String, Table<?>> tables;
@@ -111,6 +120,70 @@ public class SchemaMapping implements Serializable {
         return SettingsTools.getRenderMapping(configuration.settings());
     }
 
+    /**
+     * The compiled lookup of the current {@link RenderMapping}.
+     * <p>
+     * The lookup is shared via {@link Configuration#data()} with all
+     * configurations whose {@link RenderMapping} has the same contents. When
+     * the {@link RenderMapping} instance is replaced, or when
+     * <code>checkContents</code> is set and the {@link RenderMapping} has been
+     * modified, a new lookup is used, and the mapped objects of this instance
+     * are discarded.
+     * <p>
+     * Contents are only checked before looking up names that have not been
+     * mapped before, which is when the previous implementation iterated over
+     * all entries of the {@link RenderMapping} as well.
+     */
+    private final RenderMappingLookup lookup(boolean checkContents) {
+        RenderMapping mapping = mapping();
+        RenderMappingLookup result = lookup;
+
+        if (result == null || lookupSource != mapping || checkContents && !result.compiles(mapping)) {
+            synchronized (this) {
+                result = lookup;
+
+                if (result == null || lookupSource != mapping || checkContents && !result.compiles(mapping)) {
+                    Object shared = configuration.data(DATA_LOOKUP);
+
+                    if (shared instanceof RenderMappingLookup && ((RenderMappingLookup) shared).compiles(mapping)) {
+                        result = (RenderMappingLookup) shared;
+                    }
+                    else {
+                        result = new RenderMappingLookup(mapping);
+                        configuration.data(DATA_LOOKUP, result);
+                    }
+
+                    if (result != lookup) {
+                        catalogs = null;
+                        schemata = null;
+                        tables = null;
+                    }
+
+                    lookup = result;
+                    lookupSource = mapping;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Discard the compiled lookup and the mapped objects after the
+     * {@link RenderMapping} has been modified.
+     */
+    private final void invalidate() {
+        synchronized (this) {
+            configuration.data().remove(DATA_LOOKUP);
+
+            lookup = null;
+            lookupSource = null;
+            catalogs = null;
+            schemata = null;
+            tables = null;
+        }
+    }
+
     private final boolean renderCatalog() {
         return Boolean.TRUE.equals(configuration.settings().isRenderCatalog());
     }
@@ -154,6 +227,7 @@ public class SchemaMapping implements Serializable {
         logDeprecation();
 
         mapping().setDefaultSchema(schemaName);
+        invalidate();
     }
 
     /**
@@ -181,6 +255,7 @@ public class SchemaMapping implements Serializable {
 
         // Add new mapping
         schema.setOutput(outputSchema);
+        invalidate();
     }
 
     /**
@@ -265,6 +340,7 @@ public class SchemaMapping implements Serializable {
 
         // Add new mapping
         table.setOutput(outputTable);
+        invalidate();
     }
 
     @Nullable
@@ -287,36 +363,42 @@ public class SchemaMapping implements Serializable {
         // [#4642] Don't initialise catalog mapping if not necessary
         if (!mapping().getCatalogs().isEmpty()) {
 
+            // Discard mapped objects if the RenderMapping was replaced
+            lookup(false);
+            Map<String, Catalog> mapped = getCatalogs();
+
             // Lazy initialise catalog mapping
-            if (!getCatalogs().containsKey(catalogName)) {
+            if (!mapped.containsKey(catalogName)) {
 
                 // [#1857] thread-safe lazy initialisation for those users who
                 // want to use a Configuration and dependent objects in a "thread-safe" manner
                 synchronized (this) {
-                    if (!getCatalogs().containsKey(catalogName)) {
-                        for (MappedCatalog c : mapping().getCatalogs()) {
 
-                            // A configured mapping was found, add a renamed catalog
-                            if (matches(c, catalogName)) {
+                    // Discard mapped objects if the RenderMapping was modified
+                    RenderMappingLookup l = lookup(true);
+                    mapped = getCatalogs();
 
-                                // Ignore self-mappings and void-mappings
-                                if (!isBlank(c.getOutput()))
-                                    if (c.getInput() != null && !c.getOutput().equals(catalogName))
-                                        result = new RenamedCatalog(result, c.getOutput());
-                                    else if (c.getInputExpression() != null)
-                                        result = new RenamedCatalog(result, c.getInputExpression().matcher(catalogName).replaceAll(c.getOutput()));
+                    if (!mapped.containsKey(catalogName)) {
+                        MappedCatalog c = l.catalog(catalogName);
 
-                                break;
-                            }
+                        // A configured mapping was found, add a renamed catalog
+                        if (c != null) {
+
+                            // Ignore self-mappings and void-mappings
+                            if (!isBlank(c.getOutput()))
+                                if (c.getInput() != null && !c.getOutput().equals(catalogName))
+                                    result = new RenamedCatalog(result, c.getOutput());
+                                else if (c.getInputExpression() != null)
+                                    result = new RenamedCatalog(result, c.getInputExpression().matcher(catalogName).replaceAll(c.getOutput()));
                         }
 
                         // Add mapped catalog or self if no mapping was found
-                        getCatalogs().put(catalogName, result);
+                        mapped.put(catalogName, result);
                     }
                 }
             }
 
-            result = getCatalogs().get(catalogName);
+            result = mapped.get(catalogName);
         }
 
         // The configured default catalog is mapped to "null". This prevents
@@ -359,61 +441,66 @@ public class SchemaMapping implements Serializable {
         // [#4642] Don't initialise schema mapping if not necessary
         if (!mapping().getSchemata().isEmpty() || !mapping().getCatalogs().isEmpty()) {
 
+            // Discard mapped objects if the RenderMapping was replaced
+            lookup(false);
+            Map<String, Schema> mapped = getSchemata();
+
             // Lazy initialise schema mapping
-            if (!getSchemata().containsKey(key)) {
+            if (!mapped.containsKey(key)) {
 
                 // [#1857] thread-safe lazy initialisation for those users who
                 // want to use a Configuration and dependent objects in a "thread-safe" manner
                 synchronized (this) {
-                    if (!getSchemata().containsKey(key)) {
-
-                        catalogLoop:
-                        for (MappedCatalog c : mapping().getCatalogs()) {
-                            if (matches(c, catalogName)) {
-                                for (MappedSchema s : c.getSchemata()) {
-                                    if (matches(s, schemaName)) {
-
-                                        // Ignore self-mappings and void-mappings
-                                        if (!isBlank(s.getOutput()))
-                                            if (s.getInput() != null && !s.getOutput().equals(schemaName))
-                                                result = new RenamedSchema(map(catalog), result, s.getOutput());
-                                            else if (s.getInputExpression() != null)
-                                                result = new RenamedSchema(map(catalog), result, s.getInputExpression().matcher(schemaName).replaceAll(s.getOutput()));
-
-                                        break catalogLoop;
-                                    }
-                                }
+
+                    // Discard mapped objects if the RenderMapping was modified
+                    RenderMappingLookup l = lookup(true);
+                    mapped = getSchemata();
+
+                    if (!mapped.containsKey(key)) {
+                        MappedCatalog c = l.catalog(catalogName);
+
+                        if (c != null) {
+                            List<MappedSchema> list = l.schemata(c, schemaName);
+
+                            if (!list.isEmpty()) {
+                                MappedSchema s = list.get(0);
+
+                                // Ignore self-mappings and void-mappings
+                                if (!isBlank(s.getOutput()))
+                                    if (s.getInput() != null && !s.getOutput().equals(schemaName))
+                                        result = new RenamedSchema(map(catalog), result, s.getOutput());
+                                    else if (s.getInputExpression() != null)
+                                        result = new RenamedSchema(map(catalog), result, s.getInputExpression().matcher(schemaName).replaceAll(s.getOutput()));
+                            }
+                            else {
 
                                 // [#7498] Even without schema mapping configuration, we may still need to map the catalog
                                 result = new RenamedSchema(map(catalog), result, schemaName);
-                                break catalogLoop;
                             }
                         }
 
-                        if (!(result instanceof RenamedSchema))
-                            for (MappedSchema s : mapping().getSchemata()) {
+                        if (!(result instanceof RenamedSchema)) {
+                            MappedSchema s = l.schema(schemaName);
 
-                                // A configured mapping was found, add a renamed schema
-                                if (matches(s, schemaName)) {
-
-                                    // Ignore self-mappings and void-mappings
-                                    if (!isBlank(s.getOutput()))
-                                        if (s.getInput() != null && !s.getOutput().equals(schemaName))
-                                            result = new RenamedSchema(catalog, result, s.getOutput());
-                                        else if (s.getInputExpression() != null)
-                                            result = new RenamedSchema(catalog, result, s.getInputExpression().matcher(schemaName).replaceAll(s.getOutput()));
+                            // A configured mapping was found, add a renamed schema
+                            if (s != null) {
 
-                                    break;
-                                }
+                                // Ignore self-mappings and void-mappings
+                                if (!isBlank(s.getOutput()))
+                                    if (s.getInput() != null && !s.getOutput().equals(schemaName))
+                                        result = new RenamedSchema(catalog, result, s.getOutput());
+                                    else if (s.getInputExpression() != null)
+                                        result = new RenamedSchema(catalog, result, s.getInputExpression().matcher(schemaName).replaceAll(s.getOutput()));
                             }
+                        }
 
                         // Add mapped schema or self if no mapping was found
-                        getSchemata().put(key, result);
+                        mapped.put(key, result);
                     }
                 }
             }
 
-            result = getSchemata().get(key);
+            result = mapped.get(key);
         }
 
         // The configured default schema is mapped to "null". This prevents
@@ -459,96 +546,85 @@ public class SchemaMapping implements Serializable {
                 (StringUtils.isEmpty(schemaName) ? tableName : (schemaName + "." + tableName))
                 : (catalogName + '.' + schemaName + '.' + tableName);
 
+            // Discard mapped objects if the RenderMapping was replaced
+            lookup(false);
+            Map<String, Table<?>> mapped = getTables();
+
             // Lazy initialise table mapping
-            if (!getTables().containsKey(key)) {
+            if (!mapped.containsKey(key)) {
 
                 // [#1857] thread-safe lazy initialisation for those users who
                 // want to use Configuration and dependent objects in a "thread-safe" manner
                 synchronized (this) {
-                    if (!getTables().containsKey(key)) {
-
-                        catalogLoop:
-                        for (MappedCatalog c : mapping().getCatalogs()) {
-                            if (matches(c, catalogName)) {
-                                for (MappedSchema s : c.getSchemata()) {
-                                    if (matches(s, schemaName)) {
-                                        for (MappedTable t : s.getTables()) {
-
-                                            // A configured mapping was found, add a renamed table
-                                            if (matches(t, tableName)) {
-
-                                                // Ignore self-mappings and void-mappings
-                                                if (!isBlank(t.getOutput()))
-                                                    if (t.getInput() != null && !t.getOutput().equals(tableName))
-                                                        result = new RenamedTable<>(map(schema), result, t.getOutput());
-                                                    else if (t.getInputExpression() != null)
-                                                        result = new RenamedTable<>(map(schema), result, t.getInputExpression().matcher(tableName).replaceAll(t.getOutput()));
-
-                                                break catalogLoop;
-                                            }
-                                        }
-                                    }
-                                }
+
+                    // Discard mapped objects if the RenderMapping was modified
+                    RenderMappingLookup l = lookup(true);
+                    mapped = getTables();
+
+                    if (!mapped.containsKey(key)) {
+
+                        MappedCatalog c = l.catalog(catalogName);
+
+                        if (c != null) {
+                            MappedTable t = null;
+
+                            for (MappedSchema s : l.schemata(c, schemaName))
+                                if ((t = l.table(s, tableName)) != null)
+                                    break;
+
+                            // A configured mapping was found, add a renamed table
+                            if (t != null) {
+
+                                // Ignore self-mappings and void-mappings
+                                if (!isBlank(t.getOutput()))
+                                    if (t.getInput() != null && !t.getOutput().equals(tableName))
+                                        result = new RenamedTable<>(map(schema), result, t.getOutput());
+                                    else if (t.getInputExpression() != null)
+                                        result = new RenamedTable<>(map(schema), result, t.getInputExpression().matcher(tableName).replaceAll(t.getOutput()));
+                            }
+                            else {
 
                                 // [#7498] Even without table mapping configuration, we may still need to map the schema
                                 result = new RenamedTable<>(map(schema), result, tableName);
-                                break catalogLoop;
                             }
                         }
 
-                        if (!(result instanceof RenamedTable))
-                            schemaLoop:
-                            for (MappedSchema s : mapping().getSchemata()) {
-                                if (matches(s, schemaName)) {
-                                    for (MappedTable t : s.getTables()) {
+                        if (!(result instanceof RenamedTable)) {
+                            MappedSchema s = l.schema(schemaName);
 
-                                        // A configured mapping was found, add a renamed table
-                                        if (matches(t, tableName)) {
+                            if (s != null) {
+                                MappedTable t = l.table(s, tableName);
 
-                                            // Ignore self-mappings and void-mappings
-                                            if (!isBlank(t.getOutput()))
-                                                if (t.getInput() != null && !t.getOutput().equals(tableName))
-                                                    result = new RenamedTable<>(map(schema), result, t.getOutput());
-                                                else if (t.getInputExpression() != null)
-                                                    result = new RenamedTable<>(map(schema), result, t.getInputExpression().matcher(tableName).replaceAll(t.getOutput()));
+                                // A configured mapping was found, add a renamed table
+                                if (t != null) {
 
-                                            break schemaLoop;
-                                        }
-                                    }
+                                    // Ignore self-mappings and void-mappings
+                                    if (!isBlank(t.getOutput()))
+                                        if (t.getInput() != null && !t.getOutput().equals(tableName))
+                                            result = new RenamedTable<>(map(schema), result, t.getOutput());
+                                        else if (t.getInputExpression() != null)
+                                            result = new RenamedTable<>(map(schema), result, t.getInputExpression().matcher(tableName).replaceAll(t.getOutput()));
+                                }
+                                else {
 
                                     // [#7498] Even without table mapping configuration, we may still need to map the schema
                                     result = new RenamedTable<>(map(schema), result, tableName);
-                                    break schemaLoop;
                                 }
                             }
+                        }
 
                         // Add mapped table or self if no mapping was found
-                        getTables().put(key, result);
+                        mapped.put(key, result);
                     }
                 }
             }
 
-            result = (Table<R>) getTables().get(key);
+            result = (Table<R>) mapped.get(key);
         }
 
         return result;
     }
 
-    private final boolean matches(MappedCatalog c, String catalogName) {
-        return (c.getInput() != null && catalogName.equals(c.getInput()))
-            || (c.getInputExpression() != null && c.getInputExpression().matcher(catalogName).matches());
-    }
-
-    private final boolean matches(MappedSchema s, String schemaName) {
-        return (s.getInput() != null && schemaName.equals(s.getInput()))
-            || (s.getInputExpression() != null && s.getInputExpression().matcher(schemaName).matches());
-    }
-
-    private final boolean matches(MappedTable t, String tableName) {
-        return (t.getInput() != null && tableName.equals(t.getInput()))
-            || (t.getInputExpression() != null && t.getInputExpression().matcher(tableName).matches());
-    }
-
     /**
      * Synonym for {@link #use(String)}. Added for better interoperability with
      * Spring
@@ -573,7 +649,7 @@ public class SchemaMapping implements Serializable {
             // want to use Configuration and dependent objects in a "thread-safe" manner
             synchronized (this) {
                 if (catalogs == null) {
-                    catalogs = new HashMap<>();
+                    catalogs = new ConcurrentHashMap<>();
                 }
             }
         }
@@ -587,7 +663,7 @@ public class SchemaMapping implements Serializable {
             // want to use Configuration and dependent objects in a "thread-safe" manner
             synchronized (this) {
                 if (schemata == null) {
-                    schemata = new HashMap<>();
+                    schemata = new ConcurrentHashMap<>();
                 }
             }
         }
@@ -601,7 +677,7 @@ public class SchemaMapping implements Serializable {
             // want to use Configuration and dependent objects in a "thread-safe" manner
             synchronized (this) {
                 if (tables == null) {
-                    tables = new HashMap<>();
+                    tables = new ConcurrentHashMap<>();
                 }
             }
         }
@@ -61,6 +61,7 @@ import static org.jooq.SQLDialect.SQLITE;
 // ...
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.jooq.exception.DataAccessException;
 import org.jooq.impl.DSL;
@@ -204,4 +205,79 @@ public interface Select<R extends Record> extends ResultQuery<R>, TableLike<R>,
      */
     @Deprecated
     int fetchCount() throws DataAccessException;
+
+    /**
+     * Execute this query in several range partitions in parallel, and merge
+     * the partitions' results into a single {@link Result}.
+     * <p>
+     * The range of values of <code>partitionBy</code> is first fetched with a
+     * <code>MIN()</code> and <code>MAX()</code> query on this query's
+     * <code>FROM</code> and <code>WHERE</code> clauses. The range is then split
+     * into up to <code>partitions</code> contiguous sub ranges, each of which
+     * is fetched by a copy of this query with an additional range predicate
+     * on <code>partitionBy</code>, e.g. <code><pre>
+     * -- Original query:
+     * SELECT id, title FROM book WHERE title LIKE '%a%'
+     *
+     * -- Partitioned queries:
+     * SELECT id, title FROM book WHERE title LIKE '%a%' AND (id &lt; 500 OR id IS NULL)
+     * SELECT id, title FROM book WHERE title LIKE '%a%' AND id &gt;= 500
+     * </pre></code>
+     * <p>
+     * The partitioned queries are executed on the {@link java.util.concurrent.Executor}
+     * provided by {@link Configuration#executorProvider()}, each one acquiring
+     * its own JDBC connection from {@link Configuration#connectionProvider()}.
+     * If this query is attached to a single JDBC connection through a
+     * {@link org.jooq.impl.DefaultConnectionProvider}, the partitioned queries
+     * are executed sequentially on that connection, instead. Note that the
+     * partitioned queries do not share a transaction, and thus possibly a
+     * consistent snapshot of the data.
+     * <p>
+     * If this query has an <code>ORDER BY</code> clause, then each partition is
+     * ordered by the database, and the partitions are merged by the client,
+     * comparing values with their natural Java ordering, which may differ from
+     * the database's collation. All <code>ORDER BY</code> expressions must be
+     * part of the <code>SELECT</code> clause for this to work. Otherwise, the
+     * partitions are merged in the order of their ranges.
+     * <p>
+     * It is the caller's responsibility to ensure that partitioning this query
+     * by <code>partitionBy</code> is correct. Specifically, aggregations must
+     * be grouped by <code>partitionBy</code>. Queries with
+     * <code>LIMIT</code>, <code>OFFSET</code>, <code>SEEK</code>, or
+     * set operations cannot be partitioned.
+     *
+     * @param partitionBy The field by which this query is partitioned.
+     * @param partitions The maximum number of partitions.
+     * @return The merged result. This will never be <code>null</code>.
+     * @throws IllegalArgumentException If <code>partitions</code> is not
+     *             positive.
+     * @throws IllegalStateException If this query cannot be partitioned.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    @Support
+    Result<R> fetchParallel(Field<? extends Number> partitionBy, int partitions) throws DataAccessException;
+
+    /**
+     * Execute this query in several range partitions in parallel, and merge
+     * the partitions' results into a single {@link Stream}.
+     * <p>
+     * This is the same as {@link #fetchParallel(Field, int)}, except that
+     * the partitions are merged lazily, as the stream is consumed. The
+     * partitioned queries are executed eagerly, when this method is called.
+     * Closing the stream cancels the partitioned queries that are still
+     * pending.
+     *
+     * @param partitionBy The field by which this query is partitioned.
+     * @param partitions The maximum number of partitions.
+     * @return The merged stream. This will never be <code>null</code>.
+     * @throws IllegalArgumentException If <code>partitions</code> is not
+     *             positive.
+     * @throws IllegalStateException If this query cannot be partitioned.
+     * @throws DataAccessException if something went wrong executing the query
+     * @see #fetchParallel(Field, int)
+     */
+    @NotNull
+    @Support
+    Stream<R> fetchStreamParallel(Field<? extends Number> partitionBy, int partitions) throws DataAccessException;
 }
@@ -159,6 +159,8 @@ public class Settings
     protected Boolean executeWithOptimisticLockingExcludeUnversioned = false;
     @XmlElement(defaultValue = "true")
     protected Boolean attachRecords = true;
+    @XmlElement(defaultValue = "false")
+    protected Boolean fetchReadOnlyRecords = false;
     @XmlElement(defaultValue = "true")
     protected Boolean insertUnchangedRecords = true;
     @XmlElement(defaultValue = "NEVER")
@@ -168,10 +170,19 @@ public class Settings
     protected Boolean updatablePrimaryKeys = false;
     @XmlElement(defaultValue = "true")
     protected Boolean reflectionCaching = true;
+    protected Integer reflectionCachingLRUCacheSize;
     @XmlElement(defaultValue = "true")
     protected Boolean cacheRecordMappers = true;
     @XmlElement(defaultValue = "true")
     protected Boolean cachePreparedStatementInLoader = true;
+    @XmlElement(defaultValue = "false")
+    protected Boolean cachePreparedStatements = false;
+    @XmlElement(defaultValue = "128")
+    protected Integer cachePreparedStatementsLRUCacheSize = 128;
+    @XmlElement(defaultValue = "true")
+    protected Boolean cacheParsingConnection = true;
+    @XmlElement(defaultValue = "8192")
+    protected Integer cacheParsingConnectionLRUCacheSize = 8192;
     @XmlElement(defaultValue = "THROW_ALL")
     @XmlSchemaType(name = "string")
     protected ThrowExceptions throwExceptions = ThrowExceptions.THROW_ALL;
@@ -191,6 +202,8 @@ public class Settings
     protected Boolean mapConstructorParameterNames = false;
     @XmlElement(defaultValue = "true")
     protected Boolean mapConstructorParameterNamesInKotlin = true;
+    @XmlElement(defaultValue = "false")
+    protected Boolean mapWithMethodHandles = false;
     @XmlElement(defaultValue = "DEFAULT")
     @XmlSchemaType(name = "string")
     protected QueryPoolable queryPoolable = QueryPoolable.DEFAULT;
@@ -200,6 +213,10 @@ public class Settings
     protected Integer maxRows = 0;
     @XmlElement(defaultValue = "0")
     protected Integer fetchSize = 0;
+    @XmlElement(defaultValue = "0")
+    protected Integer fetchSpillThresholdRows = 0;
+    protected Long fetchSpillThresholdBytes;
+    protected String fetchSpillDirectory;
     @XmlElement(defaultValue = "2147483647")
     protected Integer batchSize = 2147483647;
     @XmlElement(defaultValue = "true")
@@ -1395,6 +1412,30 @@ public class Settings
         this.attachRecords = value;
     }
 
+    /**
+     * Whether records fetched by a {@link org.jooq.ResultQuery} should be read-only records, which share their values with their originals and do not track changes. Such records are not attached to the fetching configuration, and they throw an {@link java.lang.UnsupportedOperationException} on any attempt to modify or store them.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isFetchReadOnlyRecords() {
+        return fetchReadOnlyRecords;
+    }
+
+    /**
+     * Sets the value of the fetchReadOnlyRecords property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setFetchReadOnlyRecords(Boolean value) {
+        this.fetchReadOnlyRecords = value;
+    }
+
     /**
      * Whether {@link org.jooq.TableRecord#insert()} calls should be executed if the record is unchanged. This also affects the <code>INSERT</code> part of {@link org.jooq.UpdatableRecord#store()} and {@link org.jooq.UpdatableRecord#merge()} calls.
      * 
@@ -1486,6 +1527,22 @@ public class Settings
         this.reflectionCaching = value;
     }
 
+    /**
+     * The maximum number of entries per reflection cache in the configuration, if reflection caching is active. If this is not set, or set to 0 or less, the reflection caches are unbounded.
+     * 
+     */
+    public Integer getReflectionCachingLRUCacheSize() {
+        return reflectionCachingLRUCacheSize;
+    }
+
+    /**
+     * The maximum number of entries per reflection cache in the configuration, if reflection caching is active. If this is not set, or set to 0 or less, the reflection caches are unbounded.
+     * 
+     */
+    public void setReflectionCachingLRUCacheSize(Integer value) {
+        this.reflectionCachingLRUCacheSize = value;
+    }
+
     /**
      * Whether record mappers should be cached in the configuration.
      * 
@@ -1534,6 +1591,88 @@ public class Settings
         this.cachePreparedStatementInLoader = value;
     }
 
+    /**
+     * Whether JDBC {@link java.sql.PreparedStatement} instances should be cached per connection, and reused by subsequent executions of the same SQL string.
+     * <p>
+     * This applies to connections that are not released after each execution, i.e. connections provided by a {@link org.jooq.impl.DefaultConnectionProvider}, e.g. using {@link org.jooq.impl.DSL#using(java.sql.Connection)}, or within a transaction. Cached statements are closed when their transaction ends.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isCachePreparedStatements() {
+        return cachePreparedStatements;
+    }
+
+    /**
+     * Sets the value of the cachePreparedStatements property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setCachePreparedStatements(Boolean value) {
+        this.cachePreparedStatements = value;
+    }
+
+    /**
+     * The maximum number of idle prepared statements cached per connection, if {@link #isCachePreparedStatements()} is enabled.
+     * 
+     */
+    public Integer getCachePreparedStatementsLRUCacheSize() {
+        return cachePreparedStatementsLRUCacheSize;
+    }
+
+    /**
+     * The maximum number of idle prepared statements cached per connection, if {@link #isCachePreparedStatements()} is enabled.
+     * 
+     */
+    public void setCachePreparedStatementsLRUCacheSize(Integer value) {
+        this.cachePreparedStatementsLRUCacheSize = value;
+    }
+
+    /**
+     * Whether the translations performed by the parsing connection should be cached in the configuration.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isCacheParsingConnection() {
+        return cacheParsingConnection;
+    }
+
+    /**
+     * Sets the value of the cacheParsingConnection property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setCacheParsingConnection(Boolean value) {
+        this.cacheParsingConnection = value;
+    }
+
+    /**
+     * The maximum number of translations cached by the parsing connection. A value of 0 or less deactivates the cache.
+     * 
+     */
+    public Integer getCacheParsingConnectionLRUCacheSize() {
+        return cacheParsingConnectionLRUCacheSize;
+    }
+
+    /**
+     * The maximum number of translations cached by the parsing connection. A value of 0 or less deactivates the cache.
+     * 
+     */
+    public void setCacheParsingConnectionLRUCacheSize(Integer value) {
+        this.cacheParsingConnectionLRUCacheSize = value;
+    }
+
     /**
      * A strategy defining how exceptions from the database / JDBC driver should be propagated
      * 
@@ -1739,6 +1878,30 @@ public class Settings
         this.mapConstructorParameterNamesInKotlin = value;
     }
 
+    /**
+     * Whether the DefaultRecordMapper should access POJO constructors, setters and members through pre-computed {@link java.lang.invoke.MethodHandle}s rather than through reflection. If a member cannot be accessed through a method handle, reflection is used as a fallback.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isMapWithMethodHandles() {
+        return mapWithMethodHandles;
+    }
+
+    /**
+     * Sets the value of the mapWithMethodHandles property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setMapWithMethodHandles(Boolean value) {
+        this.mapWithMethodHandles = value;
+    }
+
     /**
      * The default JDBC poolable property that should be applied to all
      * jOOQ queries, for which no specific poolable flag was specified.
@@ -1811,6 +1974,60 @@ public class Settings
         this.fetchSize = value;
     }
 
+    /**
+     * The number of rows of a result fetched eagerly by ResultQuery.fetch(), beyond which the
+     * result is spilled to a temporary file, or 0 if results are never spilled because of their number of rows.
+     * 
+     */
+    public Integer getFetchSpillThresholdRows() {
+        return fetchSpillThresholdRows;
+    }
+
+    /**
+     * The number of rows of a result fetched eagerly by ResultQuery.fetch(), beyond which the
+     * result is spilled to a temporary file, or 0 if results are never spilled because of their number of rows.
+     * 
+     */
+    public void setFetchSpillThresholdRows(Integer value) {
+        this.fetchSpillThresholdRows = value;
+    }
+
+    /**
+     * The approximate heap size in bytes of a result fetched eagerly by ResultQuery.fetch(),
+     * beyond which the result is spilled to a temporary file, or null if results are never spilled because of their size.
+     * 
+     */
+    public Long getFetchSpillThresholdBytes() {
+        return fetchSpillThresholdBytes;
+    }
+
+    /**
+     * The approximate heap size in bytes of a result fetched eagerly by ResultQuery.fetch(),
+     * beyond which the result is spilled to a temporary file, or null if results are never spilled because of their size.
+     * 
+     */
+    public void setFetchSpillThresholdBytes(Long value) {
+        this.fetchSpillThresholdBytes = value;
+    }
+
+    /**
+     * The directory in which temporary files of spilled results are created, or null to use the
+     * java.io.tmpdir directory.
+     * 
+     */
+    public String getFetchSpillDirectory() {
+        return fetchSpillDirectory;
+    }
+
+    /**
+     * The directory in which temporary files of spilled results are created, or null to use the
+     * java.io.tmpdir directory.
+     * 
+     */
+    public void setFetchSpillDirectory(String value) {
+        this.fetchSpillDirectory = value;
+    }
+
     /**
      * A property specifying a batch size that should be applied to all automatically created {@link org.jooq.tools.jdbc.BatchedConnection} instances.
      * 
@@ -2759,6 +2976,11 @@ public class Settings
         return this;
     }
 
+    public Settings withFetchReadOnlyRecords(Boolean value) {
+        setFetchReadOnlyRecords(value);
+        return this;
+    }
+
     public Settings withInsertUnchangedRecords(Boolean value) {
         setInsertUnchangedRecords(value);
         return this;
@@ -2783,6 +3005,15 @@ public class Settings
         return this;
     }
 
+    /**
+     * The maximum number of entries per reflection cache in the configuration, if reflection caching is active. If this is not set, or set to 0 or less, the reflection caches are unbounded.
+     * 
+     */
+    public Settings withReflectionCachingLRUCacheSize(Integer value) {
+        setReflectionCachingLRUCacheSize(value);
+        return this;
+    }
+
     public Settings withCacheRecordMappers(Boolean value) {
         setCacheRecordMappers(value);
         return this;
@@ -2793,6 +3024,34 @@ public class Settings
         return this;
     }
 
+    public Settings withCachePreparedStatements(Boolean value) {
+        setCachePreparedStatements(value);
+        return this;
+    }
+
+    /**
+     * The maximum number of idle prepared statements cached per connection, if {@link #isCachePreparedStatements()} is enabled.
+     * 
+     */
+    public Settings withCachePreparedStatementsLRUCacheSize(Integer value) {
+        setCachePreparedStatementsLRUCacheSize(value);
+        return this;
+    }
+
+    public Settings withCacheParsingConnection(Boolean value) {
+        setCacheParsingConnection(value);
+        return this;
+    }
+
+    /**
+     * The maximum number of translations cached by the parsing connection. A value of 0 or less deactivates the cache.
+     * 
+     */
+    public Settings withCacheParsingConnectionLRUCacheSize(Integer value) {
+        setCacheParsingConnectionLRUCacheSize(value);
+        return this;
+    }
+
     /**
      * A strategy defining how exceptions from the database / JDBC driver should be propagated
      * 
@@ -2846,6 +3105,11 @@ public class Settings
         return this;
     }
 
+    public Settings withMapWithMethodHandles(Boolean value) {
+        setMapWithMethodHandles(value);
+        return this;
+    }
+
     /**
      * The default JDBC poolable property that should be applied to all
      * jOOQ queries, for which no specific poolable flag was specified.
@@ -2886,6 +3150,36 @@ public class Settings
         return this;
     }
 
+    /**
+     * The number of rows of a result fetched eagerly by ResultQuery.fetch(), beyond which the
+     * result is spilled to a temporary file, or 0 if results are never spilled because of their number of rows.
+     * 
+     */
+    public Settings withFetchSpillThresholdRows(Integer value) {
+        setFetchSpillThresholdRows(value);
+        return this;
+    }
+
+    /**
+     * The approximate heap size in bytes of a result fetched eagerly by ResultQuery.fetch(),
+     * beyond which the result is spilled to a temporary file, or null if results are never spilled because of their size.
+     * 
+     */
+    public Settings withFetchSpillThresholdBytes(Long value) {
+        setFetchSpillThresholdBytes(value);
+        return this;
+    }
+
+    /**
+     * The directory in which temporary files of spilled results are created, or null to use the
+     * java.io.tmpdir directory.
+     * 
+     */
+    public Settings withFetchSpillDirectory(String value) {
+        setFetchSpillDirectory(value);
+        return this;
+    }
+
     /**
      * A property specifying a batch size that should be applied to all automatically created {@link org.jooq.tools.jdbc.BatchedConnection} instances.
      * 
@@ -3182,12 +3476,18 @@ public class Settings
         builder.append("executeWithOptimisticLocking", executeWithOptimisticLocking);
         builder.append("executeWithOptimisticLockingExcludeUnversioned", executeWithOptimisticLockingExcludeUnversioned);
         builder.append("attachRecords", attachRecords);
+        builder.append("fetchReadOnlyRecords", fetchReadOnlyRecords);
         builder.append("insertUnchangedRecords", insertUnchangedRecords);
         builder.append("updateUnchangedRecords", updateUnchangedRecords);
         builder.append("updatablePrimaryKeys", updatablePrimaryKeys);
         builder.append("reflectionCaching", reflectionCaching);
+        builder.append("reflectionCachingLRUCacheSize", reflectionCachingLRUCacheSize);
         builder.append("cacheRecordMappers", cacheRecordMappers);
         builder.append("cachePreparedStatementInLoader", cachePreparedStatementInLoader);
+        builder.append("cachePreparedStatements", cachePreparedStatements);
+        builder.append("cachePreparedStatementsLRUCacheSize", cachePreparedStatementsLRUCacheSize);
+        builder.append("cacheParsingConnection", cacheParsingConnection);
+        builder.append("cacheParsingConnectionLRUCacheSize", cacheParsingConnectionLRUCacheSize);
         builder.append("throwExceptions", throwExceptions);
         builder.append("fetchWarnings", fetchWarnings);
         builder.append("fetchServerOutputSize", fetchServerOutputSize);
@@ -3197,10 +3497,14 @@ public class Settings
         builder.append("mapJPAAnnotations", mapJPAAnnotations);
         builder.append("mapConstructorParameterNames", mapConstructorParameterNames);
         builder.append("mapConstructorParameterNamesInKotlin", mapConstructorParameterNamesInKotlin);
+        builder.append("mapWithMethodHandles", mapWithMethodHandles);
         builder.append("queryPoolable", queryPoolable);
         builder.append("queryTimeout", queryTimeout);
         builder.append("maxRows", maxRows);
         builder.append("fetchSize", fetchSize);
+        builder.append("fetchSpillThresholdRows", fetchSpillThresholdRows);
+        builder.append("fetchSpillThresholdBytes", fetchSpillThresholdBytes);
+        builder.append("fetchSpillDirectory", fetchSpillDirectory);
         builder.append("batchSize", batchSize);
         builder.append("debugInfoOnStackTrace", debugInfoOnStackTrace);
         builder.append("inListPadding", inListPadding);
@@ -3692,6 +3996,15 @@ public class Settings
                 return false;
             }
         }
+        if (fetchReadOnlyRecords == null) {
+            if (other.fetchReadOnlyRecords!= null) {
+                return false;
+            }
+        } else {
+            if (!fetchReadOnlyRecords.equals(other.fetchReadOnlyRecords)) {
+                return false;
+            }
+        }
         if (insertUnchangedRecords == null) {
             if (other.insertUnchangedRecords!= null) {
                 return false;
@@ -3728,6 +4041,15 @@ public class Settings
                 return false;
             }
         }
+        if (reflectionCachingLRUCacheSize == null) {
+            if (other.reflectionCachingLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!reflectionCachingLRUCacheSize.equals(other.reflectionCachingLRUCacheSize)) {
+                return false;
+            }
+        }
         if (cacheRecordMappers == null) {
             if (other.cacheRecordMappers!= null) {
                 return false;
@@ -3746,6 +4068,42 @@ public class Settings
                 return false;
             }
         }
+        if (cachePreparedStatements == null) {
+            if (other.cachePreparedStatements!= null) {
+                return false;
+            }
+        } else {
+            if (!cachePreparedStatements.equals(other.cachePreparedStatements)) {
+                return false;
+            }
+        }
+        if (cachePreparedStatementsLRUCacheSize == null) {
+            if (other.cachePreparedStatementsLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!cachePreparedStatementsLRUCacheSize.equals(other.cachePreparedStatementsLRUCacheSize)) {
+                return false;
+            }
+        }
+        if (cacheParsingConnection == null) {
+            if (other.cacheParsingConnection!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheParsingConnection.equals(other.cacheParsingConnection)) {
+                return false;
+            }
+        }
+        if (cacheParsingConnectionLRUCacheSize == null) {
+            if (other.cacheParsingConnectionLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheParsingConnectionLRUCacheSize.equals(other.cacheParsingConnectionLRUCacheSize)) {
+                return false;
+            }
+        }
         if (throwExceptions == null) {
             if (other.throwExceptions!= null) {
                 return false;
@@ -3827,6 +4185,15 @@ public class Settings
                 return false;
             }
         }
+        if (mapWithMethodHandles == null) {
+            if (other.mapWithMethodHandles!= null) {
+                return false;
+            }
+        } else {
+            if (!mapWithMethodHandles.equals(other.mapWithMethodHandles)) {
+                return false;
+            }
+        }
         if (queryPoolable == null) {
             if (other.queryPoolable!= null) {
                 return false;
@@ -3863,6 +4230,33 @@ public class Settings
                 return false;
             }
         }
+        if (fetchSpillThresholdRows == null) {
+            if (other.fetchSpillThresholdRows!= null) {
+                return false;
+            }
+        } else {
+            if (!fetchSpillThresholdRows.equals(other.fetchSpillThresholdRows)) {
+                return false;
+            }
+        }
+        if (fetchSpillThresholdBytes == null) {
+            if (other.fetchSpillThresholdBytes!= null) {
+                return false;
+            }
+        } else {
+            if (!fetchSpillThresholdBytes.equals(other.fetchSpillThresholdBytes)) {
+                return false;
+            }
+        }
+        if (fetchSpillDirectory == null) {
+            if (other.fetchSpillDirectory!= null) {
+                return false;
+            }
+        } else {
+            if (!fetchSpillDirectory.equals(other.fetchSpillDirectory)) {
+                return false;
+            }
+        }
         if (batchSize == null) {
             if (other.batchSize!= null) {
                 return false;
@@ -4180,12 +4574,18 @@ public class Settings
         result = ((prime*result)+((executeWithOptimisticLocking == null)? 0 :executeWithOptimisticLocking.hashCode()));
         result = ((prime*result)+((executeWithOptimisticLockingExcludeUnversioned == null)? 0 :executeWithOptimisticLockingExcludeUnversioned.hashCode()));
         result = ((prime*result)+((attachRecords == null)? 0 :attachRecords.hashCode()));
+        result = ((prime*result)+((fetchReadOnlyRecords == null)? 0 :fetchReadOnlyRecords.hashCode()));
         result = ((prime*result)+((insertUnchangedRecords == null)? 0 :insertUnchangedRecords.hashCode()));
         result = ((prime*result)+((updateUnchangedRecords == null)? 0 :updateUnchangedRecords.hashCode()));
         result = ((prime*result)+((updatablePrimaryKeys == null)? 0 :updatablePrimaryKeys.hashCode()));
         result = ((prime*result)+((reflectionCaching == null)? 0 :reflectionCaching.hashCode()));
+        result = ((prime*result)+((reflectionCachingLRUCacheSize == null)? 0 :reflectionCachingLRUCacheSize.hashCode()));
         result = ((prime*result)+((cacheRecordMappers == null)? 0 :cacheRecordMappers.hashCode()));
         result = ((prime*result)+((cachePreparedStatementInLoader == null)? 0 :cachePreparedStatementInLoader.hashCode()));
+        result = ((prime*result)+((cachePreparedStatements == null)? 0 :cachePreparedStatements.hashCode()));
+        result = ((prime*result)+((cachePreparedStatementsLRUCacheSize == null)? 0 :cachePreparedStatementsLRUCacheSize.hashCode()));
+        result = ((prime*result)+((cacheParsingConnection == null)? 0 :cacheParsingConnection.hashCode()));
+        result = ((prime*result)+((cacheParsingConnectionLRUCacheSize == null)? 0 :cacheParsingConnectionLRUCacheSize.hashCode()));
         result = ((prime*result)+((throwExceptions == null)? 0 :throwExceptions.hashCode()));
         result = ((prime*result)+((fetchWarnings == null)? 0 :fetchWarnings.hashCode()));
         result = ((prime*result)+((fetchServerOutputSize == null)? 0 :fetchServerOutputSize.hashCode()));
@@ -4195,10 +4595,14 @@ public class Settings
         result = ((prime*result)+((mapJPAAnnotations == null)? 0 :mapJPAAnnotations.hashCode()));
         result = ((prime*result)+((mapConstructorParameterNames == null)? 0 :mapConstructorParameterNames.hashCode()));
         result = ((prime*result)+((mapConstructorParameterNamesInKotlin == null)? 0 :mapConstructorParameterNamesInKotlin.hashCode()));
+        result = ((prime*result)+((mapWithMethodHandles == null)? 0 :mapWithMethodHandles.hashCode()));
         result = ((prime*result)+((queryPoolable == null)? 0 :queryPoolable.hashCode()));
         result = ((prime*result)+((queryTimeout == null)? 0 :queryTimeout.hashCode()));
         result = ((prime*result)+((maxRows == null)? 0 :maxRows.hashCode()));
         result = ((prime*result)+((fetchSize == null)? 0 :fetchSize.hashCode()));
+        result = ((prime*result)+((fetchSpillThresholdRows == null)? 0 :fetchSpillThresholdRows.hashCode()));
+        result = ((prime*result)+((fetchSpillThresholdBytes == null)? 0 :fetchSpillThresholdBytes.hashCode()));
+        result = ((prime*result)+((fetchSpillDirectory == null)? 0 :fetchSpillDirectory.hashCode()));
         result = ((prime*result)+((batchSize == null)? 0 :batchSize.hashCode()));
         result = ((prime*result)+((debugInfoOnStackTrace == null)? 0 :debugInfoOnStackTrace.hashCode()));
         result = ((prime*result)+((inListPadding == null)? 0 :inListPadding.hashCode()));
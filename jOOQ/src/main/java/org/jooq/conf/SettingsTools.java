@@ -387,6 +387,30 @@ public final class SettingsTools {
              : 0;
     }
 
+    /**
+     * Return <code>spillThresholdRows</code> if it is not <code>0</code>, or
+     * the specified {@link Settings#getFetchSpillThresholdRows()}.
+     */
+    public static final int getFetchSpillThresholdRows(int spillThresholdRows, Settings settings) {
+        return spillThresholdRows != 0
+             ? spillThresholdRows
+             : settings.getFetchSpillThresholdRows() != null
+             ? settings.getFetchSpillThresholdRows()
+             : 0;
+    }
+
+    /**
+     * Return <code>spillThresholdBytes</code> if it is not <code>0</code>, or
+     * the specified {@link Settings#getFetchSpillThresholdBytes()}.
+     */
+    public static final long getFetchSpillThresholdBytes(long spillThresholdBytes, Settings settings) {
+        return spillThresholdBytes != 0L
+             ? spillThresholdBytes
+             : settings.getFetchSpillThresholdBytes() != null
+             ? settings.getFetchSpillThresholdBytes()
+             : 0L;
+    }
+
     /**
      * Return the specified {@link Settings#getBatchSize()}.
      */
@@ -49,6 +49,7 @@ import static org.jooq.tools.StringUtils.abbreviate;
 import static org.jooq.tools.StringUtils.leftPad;
 import static org.jooq.tools.StringUtils.rightPad;
 
+import java.io.OutputStream;
 import java.io.Writer;
 import java.sql.Date;
 import java.sql.Timestamp;
@@ -472,71 +473,98 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
     @Override
     public final void formatCSV(Writer writer, CSVFormat format) {
         try {
+            FormatWriter w = FormatWriter.of(writer);
+
             if (format.header()) {
                 String sep1 = "";
                 for (Field<?> field : fields.fields) {
-                    writer.append(sep1);
-                    writer.append(formatCSV0(field.getName(), format));
+                    w.append(sep1);
+                    formatCSV0(field.getName(), format, w);
 
                     sep1 = format.delimiter();
                 }
 
-                writer.append(format.newline());
+                w.append(format.newline());
             }
 
             for (Record record : this) {
                 String sep2 = "";
 
                 for (int index = 0; index < fields.fields.length; index++) {
-                    writer.append(sep2);
-                    writer.append(formatCSV0(record.getValue(index), format));
+                    w.append(sep2);
+                    formatCSV0(record.getValue(index), format, w);
 
                     sep2 = format.delimiter();
                 }
 
-                writer.append(format.newline());
+                w.append(format.newline());
             }
 
-            writer.flush();
+            w.flush();
         }
         catch (java.io.IOException e) {
             throw new IOException("Exception while writing CSV", e);
         }
     }
 
-    private final String formatCSV0(Object value, CSVFormat format) {
+    private final void formatCSV0(Object value, CSVFormat format, FormatWriter writer) throws java.io.IOException {
 
         // [#2741] TODO: This logic will be externalised in new SPI
         // [#4746] Escape null and empty strings
-        if (value == null)
-            return format.nullString();
+        if (value == null) {
+            writer.append(format.nullString());
+            return;
+        }
 
-        if ("".equals(value.toString()))
-            return format.emptyString();
+        // Integer numbers never need to be escaped
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            if (format.quote() == CSVFormat.Quote.ALWAYS) {
+                writer.append(format.quoteString());
+                writer.writeLong(((Number) value).longValue());
+                writer.append(format.quoteString());
+            }
+            else
+                writer.writeLong(((Number) value).longValue());
+
+            return;
+        }
+
+        if (value instanceof String ? ((String) value).isEmpty() : "".equals(value.toString())) {
+            writer.append(format.emptyString());
+            return;
+        }
 
         // [#7802] Nested records should generate nested CSV data structures
-        String result = (value instanceof Formattable)
+        String result = (value instanceof String)
+            ? (String) value
+            : (value instanceof Formattable)
             ? ((Formattable) value).formatCSV(format)
             : format0(value, false, false);
 
         switch (format.quote()) {
             case NEVER:
-                return result;
+                writer.append(result);
+                return;
 
             case SPECIAL_CHARACTERS:
-                if (!StringUtils.containsAny(result, ',', ';', '\t', '"', '\n', '\r', '\'', '\\'))
-                    return result;
+                if (!StringUtils.containsAny(result, ',', ';', '\t', '"', '\n', '\r', '\'', '\\')) {
+                    writer.append(result);
+                    return;
+                }
 
                 // no break
             case ALWAYS:
             default:
-                return format.quoteString()
-                     + StringUtils.replace(
-                           StringUtils.replace(
-                               result, "\\", "\\\\"
-                           ), format.quoteString(), format.quoteString() + format.quoteString()
-                       )
-                     + format.quoteString();
+                if (format.quoteString().indexOf('\\') < 0)
+                    writer.writeCSV(result, format.quoteString());
+                else
+                    writer.append(format.quoteString()
+                         + StringUtils.replace(
+                               StringUtils.replace(
+                                   result, "\\", "\\\\"
+                               ), format.quoteString(), format.quoteString() + format.quoteString()
+                           )
+                         + format.quoteString());
         }
     }
 
@@ -546,28 +574,29 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
             format = JSONFormat.DEFAULT_FOR_RESULTS;
 
         try {
+            FormatWriter w = FormatWriter.of(writer);
             String separator;
             int recordLevel = format.header() ? 2 : 1;
 
             if (format.header()) {
                 if (format.format())
-                    writer.append('{').append(format.newline())
+                    w.append('{').append(format.newline())
                           .append(format.indentString(1)).append("\"fields\": [");
                 else
-                    writer.append("{\"fields\":[");
+                    w.append("{\"fields\":[");
 
                 separator = "";
 
                 for (Field<?> field : fields.fields) {
-                    writer.append(separator);
+                    w.append(separator);
 
                     if (format.format())
-                        writer.append(format.newline()).append(format.indentString(2));
+                        w.append(format.newline()).append(format.indentString(2));
 
-                    writer.append('{');
+                    w.append('{');
 
                     if (format.format())
-                        writer.append(format.newline()).append(format.indentString(3));
+                        w.append(format.newline()).append(format.indentString(3));
 
                     if (field instanceof TableField) {
                         Table<?> table = ((TableField<?, ?>) field).getTable();
@@ -576,87 +605,87 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
                             Schema schema = table.getSchema();
 
                             if (schema != null) {
-                                writer.append("\"schema\":");
+                                w.append("\"schema\":");
 
                                 if (format.format())
-                                    writer.append(' ');
+                                    w.append(' ');
 
-                                JSONValue.writeJSONString(schema.getName(), writer);
-                                writer.append(',');
+                                w.writeJSONString(schema.getName());
+                                w.append(',');
 
                                 if (format.format())
-                                    writer.append(format.newline()).append(format.indentString(3));
+                                    w.append(format.newline()).append(format.indentString(3));
                             }
 
-                            writer.append("\"table\":");
+                            w.append("\"table\":");
 
                             if (format.format())
-                                writer.append(' ');
+                                w.append(' ');
 
-                            JSONValue.writeJSONString(table.getName(), writer);
-                            writer.append(',');
+                            w.writeJSONString(table.getName());
+                            w.append(',');
 
                             if (format.format())
-                                writer.append(format.newline()).append(format.indentString(3));
+                                w.append(format.newline()).append(format.indentString(3));
                         }
                     }
 
-                    writer.append("\"name\":");
+                    w.append("\"name\":");
 
                     if (format.format())
-                        writer.append(' ');
+                        w.append(' ');
 
-                    JSONValue.writeJSONString(field.getName(), writer);
-                    writer.append(',');
+                    w.writeJSONString(field.getName());
+                    w.append(',');
 
                     if (format.format())
-                        writer.append(format.newline()).append(format.indentString(3));
+                        w.append(format.newline()).append(format.indentString(3));
 
-                    writer.append("\"type\":");
+                    w.append("\"type\":");
 
                     if (format.format())
-                        writer.append(' ');
+                        w.append(' ');
 
-                    JSONValue.writeJSONString(field.getDataType().getTypeName().toUpperCase(renderLocale(configuration.settings())), writer);
+                    w.writeJSONString(field.getDataType().getTypeName().toUpperCase(renderLocale(configuration.settings())));
 
                     if (format.format())
-                        writer.append(format.newline()).append(format.indentString(2));
+                        w.append(format.newline()).append(format.indentString(2));
 
-                    writer.append('}');
+                    w.append('}');
                     separator = ",";
                 }
 
                 if (format.format())
-                    writer.append(format.newline()).append(format.indentString(1)).append("],")
+                    w.append(format.newline()).append(format.indentString(1)).append("],")
                           .append(format.newline()).append(format.indentString(1)).append("\"records\": ");
                 else
-                    writer.append("],\"records\":");
+                    w.append("],\"records\":");
             }
 
-            writer.append('[');
+            w.append('[');
             separator = "";
 
             switch (format.recordFormat()) {
                 case ARRAY:
                     for (Record record : this) {
-                        writer.append(separator);
+                        w.append(separator);
 
                         if (format.format())
-                            writer.append(format.newline());
+                            w.append(format.newline());
 
-                        formatJSONArray0(record, fields, format, recordLevel, writer);
+                        formatJSONArray0(record, fields, format, recordLevel, w);
                         separator = ",";
                     }
 
                     break;
                 case OBJECT:
                     for (Record record : this) {
-                        writer.append(separator);
+                        w.append(separator);
 
                         if (format.format())
-                            writer.append(format.newline());
+                            w.append(format.newline());
 
-                        formatJSONMap0(record, fields, format, recordLevel, writer);
+                        formatJSONMap0(record, fields, format, recordLevel, w);
                         separator = ",";
                     }
 
@@ -666,28 +695,34 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
             }
 
             if (format.format()) {
-                writer.append(format.newline());
+                w.append(format.newline());
 
                 if (format.header())
-                    writer.append(format.indentString(1));
+                    w.append(format.indentString(1));
             }
 
-            writer.append(']');
+            w.append(']');
 
             if (format.header())
-                writer.append(format.newline()).append('}');
+                w.append(format.newline()).append('}');
 
-            writer.flush();
+            w.flush();
         }
         catch (java.io.IOException e) {
             throw new IOException("Exception while writing JSON", e);
         }
     }
 
-    private static final void formatJSON0(Object value, Writer writer, JSONFormat format) throws java.io.IOException {
+    private static final void formatJSON0(Object value, FormatWriter writer, JSONFormat format) throws java.io.IOException {
 
         // [#2741] TODO: This logic will be externalised in new SPI
-        if (value instanceof byte[]) {
+        if (value instanceof String) {
+            writer.writeJSONString((String) value);
+        }
+        else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            writer.writeLong(((Number) value).longValue());
+        }
+        else if (value instanceof byte[]) {
             JSONValue.writeJSONString(DatatypeConverter.printBase64Binary((byte[]) value), writer);
         }
 
@@ -723,7 +758,7 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
         }
     }
 
-    static final void formatJSONMap0(Record record, Fields<?> fields, JSONFormat format, int recordLevel, Writer writer) throws java.io.IOException {
+    static final void formatJSONMap0(Record record, Fields<?> fields, JSONFormat format, int recordLevel, FormatWriter writer) throws java.io.IOException {
         String separator = "";
 
         if (format.format())
@@ -737,7 +772,7 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
             if (format.format())
                 writer.append(format.newline()).append(format.indentString(recordLevel + 1));
 
-            JSONValue.writeJSONString(record.field(index).getName(), writer);
+            writer.writeJSONString(fields.fields[index].getName());
             writer.append(':');
             if (format.format())
                 writer.append(' ');
@@ -752,7 +787,7 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
         writer.append('}');
     }
 
-    static final void formatJSONArray0(Record record, Fields<?> fields, JSONFormat format, int recordLevel, Writer writer) throws java.io.IOException {
+    static final void formatJSONArray0(Record record, Fields<?> fields, JSONFormat format, int recordLevel, FormatWriter writer) throws java.io.IOException {
         String separator = "";
 
         if (format.format())
@@ -785,16 +820,18 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
         int recordLevel = format.header() ? 2 : 1;
 
         try {
-            writer.append("<result");
+            FormatWriter w = FormatWriter.of(writer);
+
+            w.append("<result");
             if (format.xmlns())
-                writer.append(" xmlns=\"" + Constants.NS_EXPORT + "\"");
-            writer.append(">");
+                w.append(" xmlns=\"" + Constants.NS_EXPORT + "\"");
+            w.append(">");
 
             if (format.header()) {
-                writer.append(newline).append(format.indentString(1)).append("<fields>");
+                w.append(newline).append(format.indentString(1)).append("<fields>");
 
                 for (Field<?> field : fields.fields) {
-                    writer.append(newline).append(format.indentString(2)).append("<field");
+                    w.append(newline).append(format.indentString(2)).append("<field");
 
                     if (field instanceof TableField) {
                         Table<?> table = ((TableField<?, ?>) field).getTable();
@@ -803,47 +840,63 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
                             Schema schema = table.getSchema();
 
                             if (schema != null) {
-                                writer.append(" schema=\"");
-                                writer.append(escapeXML(schema.getName()));
-                                writer.append("\"");
+                                w.append(" schema=\"");
+                                w.writeXML(schema.getName());
+                                w.append("\"");
                             }
 
-                            writer.append(" table=\"");
-                            writer.append(escapeXML(table.getName()));
-                            writer.append("\"");
+                            w.append(" table=\"");
+                            w.writeXML(table.getName());
+                            w.append("\"");
                         }
                     }
 
-                    writer.append(" name=\"");
-                    writer.append(escapeXML(field.getName()));
-                    writer.append("\"");
-                    writer.append(" type=\"");
-                    writer.append(field.getDataType().getTypeName().toUpperCase(renderLocale(configuration.settings())));
-                    writer.append("\"/>");
+                    w.append(" name=\"");
+                    w.writeXML(field.getName());
+                    w.append("\"");
+                    w.append(" type=\"");
+                    w.append(field.getDataType().getTypeName().toUpperCase(renderLocale(configuration.settings())));
+                    w.append("\"/>");
                 }
 
-                writer.append(newline).append(format.indentString(1)).append("</fields>");
-                writer.append(newline).append(format.indentString(1)).append("<records>");
+                w.append(newline).append(format.indentString(1)).append("</fields>");
+                w.append(newline).append(format.indentString(1)).append("<records>");
             }
 
             for (Record record : this) {
-                writer.append(newline).append(format.indentString(recordLevel));
-                formatXMLRecord(writer, format, recordLevel, record, fields);
+                w.append(newline).append(format.indentString(recordLevel));
+                formatXMLRecord(w, format, recordLevel, record, fields);
             }
 
             if (format.header())
-                writer.append(newline).append(format.indentString(1)).append("</records>");
+                w.append(newline).append(format.indentString(1)).append("</records>");
 
-            writer.append(newline).append("</result>");
-            writer.flush();
+            w.append(newline).append("</result>");
+            w.flush();
         }
         catch (java.io.IOException e) {
             throw new IOException("Exception while writing XML", e);
         }
     }
 
+    @Override
+    public final void formatBinary(OutputStream stream) {
+        try {
+            BinaryWriter writer = new BinaryWriter(stream, fields.fields);
+            writer.header();
+
+            for (R record : this)
+                writer.write(record);
+
+            writer.finish();
+        }
+        catch (java.io.IOException e) {
+            throw new IOException("Exception while writing binary data", e);
+        }
+    }
+
     static final void formatXMLRecord(
-        Writer writer,
+        FormatWriter writer,
         XMLFormat format,
         int recordLevel,
         Record record,
@@ -861,14 +914,12 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
             Object value = record.get(index);
 
             writer.append(newline).append(format.indentString(recordLevel + 1));
-            String tag = format.recordFormat() == COLUMN_NAME_ELEMENTS
-                ? escapeXML(fields.fields[index].getName())
-                : "value";
+            writer.append('<');
+            formatXMLTag(writer, format, fields.fields[index]);
 
-            writer.append("<" + tag);
             if (format.recordFormat() == VALUE_ELEMENTS_WITH_FIELD_ATTRIBUTE) {
                 writer.append(" field=\"");
-                writer.append(escapeXML(fields.fields[index].getName()));
+                writer.writeXML(fields.fields[index].getName());
                 writer.append("\"");
             }
 
@@ -882,16 +933,29 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
                     ((Formattable) value).formatXML(writer, format);
                 else if (value instanceof XML && !format.quoteNested())
                     writer.append(((XML) value).data());
+                else if (value instanceof String)
+                    writer.writeXML((String) value);
+                else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte)
+                    writer.writeLong(((Number) value).longValue());
                 else
-                    writer.append(escapeXML(format0(value, false, false)));
+                    writer.writeXML(format0(value, false, false));
 
-                writer.append("</" + tag + ">");
+                writer.append("</");
+                formatXMLTag(writer, format, fields.fields[index]);
+                writer.append('>');
             }
         }
 
         writer.append(newline).append(format.indentString(recordLevel)).append("</record>");
     }
 
+    private static final void formatXMLTag(FormatWriter writer, XMLFormat format, Field<?> field) throws java.io.IOException {
+        if (format.recordFormat() == COLUMN_NAME_ELEMENTS)
+            writer.writeXML(field.getName());
+        else
+            writer.append("value");
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public final void formatChart(Writer writer, ChartFormat format) {
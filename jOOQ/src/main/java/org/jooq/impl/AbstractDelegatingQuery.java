@@ -168,6 +168,12 @@ abstract class AbstractDelegatingQuery<Q extends Query> extends AbstractQueryPar
         return (Q) delegate.keepStatement(keepStatement);
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public final Q keepRenderedSQL(boolean keepRenderedSQL) {
+        return (Q) delegate.keepRenderedSQL(keepRenderedSQL);
+    }
+
     @Override
     public final void close() {
         delegate.close();
@@ -74,9 +74,11 @@ import org.jooq.ExecuteListener;
 import org.jooq.Param;
 import org.jooq.Query;
 import org.jooq.RenderContext;
+import org.jooq.SQLDialect;
 import org.jooq.Select;
 import org.jooq.conf.ParamType;
 import org.jooq.conf.QueryPoolable;
+import org.jooq.conf.Settings;
 import org.jooq.conf.SettingsTools;
 import org.jooq.conf.StatementType;
 import org.jooq.exception.ControlFlowSignal;
@@ -98,9 +100,11 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query {
     private int                     timeout;
     private QueryPoolable           poolable = QueryPoolable.DEFAULT;
     private boolean                 keepStatement;
+    private boolean                 keepRenderedSQL;
     transient PreparedStatement     statement;
     transient int                   statementExecutionCount;
     transient Rendered              rendered;
+    transient KeptRendered          keptRendered;
 
     AbstractQuery(Configuration configuration) {
         this.configuration = configuration;
@@ -213,6 +217,13 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query {
      */
     private final void closeIfNecessary(Param<?> param) {
 
+        // Inlined bind values are part of a kept SQL string
+        if (keptRendered != null && (
+                param.isInline()
+             || keptRendered.forceStaticStatement
+             || getParamType(configuration().settings()) == INLINED))
+            keptRendered = null;
+
         // This is relevant when there is an open statement, only
         if (keepStatement() && statement != null) {
 
@@ -267,6 +278,21 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query {
         return keepStatement;
     }
 
+    /**
+     * Subclasses may override this for covariant result types
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public Query keepRenderedSQL(boolean k) {
+        this.keepRenderedSQL = k;
+
+        if (!k)
+            keptRendered = null;
+
+        return this;
+    }
+
     @Override
     public final void close() {
         if (statement != null) {
@@ -327,7 +353,7 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query {
                 // [#385] First time statement preparing
                 else {
                     listener.renderStart(ctx);
-                    rendered = getSQL0(ctx);
+                    rendered = keepRenderedSQL ? getKeptSQL0(ctx) : getSQL0(ctx);
                     ctx.sql(rendered.sql);
                     listener.renderEnd(ctx);
                     rendered.sql = ctx.sql();
@@ -505,12 +531,59 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query {
             this.skipUpdateCounts = skipUpdateCounts;
         }
 
+        Rendered copy() {
+            return new Rendered(sql, bindValues, skipUpdateCounts);
+        }
+
         @Override
         public String toString() {
             return sql;
         }
     }
 
+    /**
+     * A {@link Rendered} SQL string that is kept across executions, along with
+     * the configuration state it was rendered with.
+     * <p>
+     * The {@link Settings} may be modified in place, so the kept SQL string is
+     * validated against a {@link SettingsSnapshot}, rather than the
+     * {@link Settings} instance.
+     */
+    static final class KeptRendered {
+        final SQLDialect       dialect;
+        final SettingsSnapshot settings;
+        final Rendered         rendered;
+        final boolean          forceStaticStatement;
+
+        KeptRendered(Configuration configuration, Rendered rendered, boolean forceStaticStatement) {
+            this.dialect = configuration.dialect();
+            this.settings = new SettingsSnapshot(configuration.settings());
+            this.rendered = rendered;
+            this.forceStaticStatement = forceStaticStatement;
+        }
+
+        final boolean valid(Configuration configuration) {
+            return dialect == configuration.dialect() && settings.rendersLike(configuration.settings());
+        }
+    }
+
+    private final Rendered getKeptSQL0(ExecuteContext ctx) {
+        KeptRendered k = keptRendered;
+
+        if (k != null && k.valid(configuration)) {
+            if (k.forceStaticStatement)
+                ctx.data(DATA_FORCE_STATIC_STATEMENT, true);
+
+            // ExecuteListeners may modify the SQL string in renderEnd(), which
+            // is written back to the Rendered object by execute()
+            return k.rendered.copy();
+        }
+
+        Rendered result = getSQL0(ctx);
+        keptRendered = new KeptRendered(configuration, result.copy(), TRUE.equals(ctx.data(DATA_FORCE_STATIC_STATEMENT)));
+        return result;
+    }
+
     private final Rendered getSQL0(ExecuteContext ctx) {
         Rendered result;
         DefaultRenderContext render;
@@ -48,6 +48,7 @@ import static org.jooq.impl.Tools.resetChangedOnNotNull;
 import static org.jooq.impl.Tools.settings;
 import static org.jooq.impl.Tools.ThreadGuard.Guard.RECORD_TOSTRING;
 
+import java.io.OutputStream;
 import java.io.Writer;
 import java.sql.ResultSet;
 import java.util.ArrayList;
@@ -98,6 +99,7 @@ import org.jooq.TXTFormat;
 import org.jooq.Table;
 import org.jooq.UniqueKey;
 import org.jooq.XMLFormat;
+import org.jooq.conf.Settings;
 import org.jooq.exception.IOException;
 import org.jooq.exception.InvalidResultException;
 import org.jooq.exception.MappingException;
@@ -125,10 +127,16 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     private static final long       serialVersionUID = -6052512608911220404L;
     private static final JooqLogger log              = JooqLogger.getLogger(AbstractRecord.class);
 
+    /**
+     * The empty {@link #changed} flags shared by all read-only records. This
+     * must never be modified.
+     */
+    private static final BitSet     READ_ONLY_CHANGED = new BitSet(0);
+
     final AbstractRow               fields;
     final Object[]                  values;
-    final Object[]                  originals;
-    final BitSet                    changed;
+    Object[]                        originals;
+    BitSet                          changed;
     boolean                         fetched;
 
     /**
@@ -153,6 +161,35 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         this.changed = new BitSet(size);
     }
 
+    // ------------------------------------------------------------------------
+    // XXX: Read-only records
+    // ------------------------------------------------------------------------
+
+    /**
+     * Turn this record into a read-only record, which shares its
+     * {@link #originals} with its {@link #values} and which does not track
+     * changes, see {@link Settings#isFetchReadOnlyRecords()}.
+     */
+    final void readOnly0() {
+        originals = values;
+        changed = READ_ONLY_CHANGED;
+    }
+
+    /**
+     * Whether this is a read-only record.
+     */
+    final boolean readOnly() {
+        return originals == values;
+    }
+
+    /**
+     * Fail fast when trying to modify a read-only record.
+     */
+    final void checkWritable() {
+        if (readOnly())
+            throw new UnsupportedOperationException("Cannot modify a read-only record. See Settings.fetchReadOnlyRecords");
+    }
+
     // ------------------------------------------------------------------------
     // XXX: Attachable API
     // ------------------------------------------------------------------------
@@ -349,6 +386,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         //        To allow for explicitly overriding default values
         // [#979] Avoid modifying chnaged flag on unchanged primary key values
 
+        checkWritable();
         UniqueKey<?> key = getPrimaryKey();
 
         // Normal fields' changed flag is always set to true
@@ -405,6 +443,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     }
 
     final void setValues(Field<?>[] fields, AbstractRecord record) {
+        checkWritable();
         fetched = record.fetched;
 
         for (Field<?> field : fields) {
@@ -511,6 +550,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final void changed(boolean c) {
+        checkWritable();
         changed.set(0, values.length, c);
 
         // [#1995] If a value is meant to be "unchanged", the "original" should
@@ -528,6 +568,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     @Override
     public final void changed(int fieldIndex, boolean c) {
         safeIndex(fieldIndex);
+        checkWritable();
 
         changed.set(fieldIndex, c);
 
@@ -549,6 +590,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final void reset() {
+        checkWritable();
         changed.clear();
 
         System.arraycopy(originals, 0, values, 0, originals.length);
@@ -562,6 +604,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     @Override
     public final void reset(int fieldIndex) {
         safeIndex(fieldIndex);
+        checkWritable();
 
         changed.clear(fieldIndex);
         values[fieldIndex] = originals[fieldIndex];
@@ -947,6 +990,8 @@ abstract class AbstractRecord extends AbstractStore implements Record {
      * public for broader use...?
      */
     protected final void from(Record source) {
+        checkWritable();
+
         for (Field<?> field : fields.fields.fields) {
             Field<?> sourceField = source.field(field);
 
@@ -982,16 +1027,20 @@ abstract class AbstractRecord extends AbstractStore implements Record {
             log.debug("JSONFormat.header currently not supported for Record.formatJSON()");
 
         try {
+            FormatWriter w = FormatWriter.of(writer);
+
             switch (format.recordFormat()) {
                 case ARRAY:
-                    AbstractCursor.formatJSONArray0(this, fields.fields, format, 0, writer);
+                    AbstractCursor.formatJSONArray0(this, fields.fields, format, 0, w);
                     break;
                 case OBJECT:
-                    AbstractCursor.formatJSONMap0(this, fields.fields, format, 0, writer);
+                    AbstractCursor.formatJSONMap0(this, fields.fields, format, 0, w);
                     break;
                 default:
                     throw new IllegalArgumentException("Format not supported: " + format);
             }
+
+            w.flushBuffer();
         }
         catch (java.io.IOException e) {
             throw new IOException("Exception while writing JSON", e);
@@ -1007,13 +1056,22 @@ abstract class AbstractRecord extends AbstractStore implements Record {
             log.debug("XMLFormat.header currently not supported for Record.formatXML()");
 
         try {
-            AbstractCursor.formatXMLRecord(writer, format, 0, this, fields.fields);
+            FormatWriter w = FormatWriter.of(writer);
+            AbstractCursor.formatXMLRecord(w, format, 0, this, fields.fields);
+            w.flushBuffer();
         }
         catch (java.io.IOException e) {
             throw new IOException("Exception while writing XML", e);
         }
     }
 
+    @Override
+    public final void formatBinary(OutputStream stream) {
+        Result<AbstractRecord> result = new ResultImpl<>(configuration(), fields.fields.fields);
+        result.add(AbstractRecord.this);
+        result.formatBinary(stream);
+    }
+
     @Override
     public final void formatHTML(Writer writer) {
         Result<AbstractRecord> result = new ResultImpl<>(configuration(), fields.fields.fields);
@@ -37,6 +37,7 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
 import static java.util.concurrent.Executors.newSingleThreadExecutor;
 // ...
 // ...
@@ -47,12 +48,14 @@ import static org.jooq.impl.Tools.blocking;
 import static org.jooq.impl.Tools.consumeResultSets;
 import static org.jooq.impl.Tools.executeStatementAndGetFirstResultSet;
 
+import java.io.OutputStream;
+import java.io.Writer;
 import java.lang.reflect.Array;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -69,6 +72,7 @@ import java.util.concurrent.Future;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
 
+import org.jooq.CSVFormat;
 import org.jooq.Configuration;
 import org.jooq.Converter;
 import org.jooq.Cursor;
@@ -76,6 +80,7 @@ import org.jooq.DSLContext;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
 import org.jooq.Field;
+import org.jooq.JSONFormat;
 import org.jooq.Name;
 import org.jooq.Record;
 import org.jooq.Record1;
@@ -107,7 +112,11 @@ import org.jooq.ResultQuery;
 import org.jooq.Results;
 import org.jooq.SQLDialect;
 import org.jooq.Table;
+import org.jooq.XMLFormat;
 import org.jooq.conf.SettingsTools;
+import org.jooq.impl.PrimitiveArray.DoubleArray;
+import org.jooq.impl.PrimitiveArray.IntArray;
+import org.jooq.impl.PrimitiveArray.LongArray;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.jdbc.MockResultSet;
 
@@ -126,8 +135,17 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
 
     private static final Set<SQLDialect>     REPORT_FETCH_SIZE_WITH_AUTOCOMMIT = SQLDialect.supportedBy(POSTGRES);
 
+    /**
+     * The maximum number of records read from a cursor at once by
+     * {@link #subscribe(org.reactivestreams.Subscriber)}, if no fetch size is
+     * specified.
+     */
+    private static final int                 DEFAULT_PREFETCH                  = 256;
+
     private int                              maxRows;
     private int                              fetchSize;
+    private int                              spillThresholdRows;
+    private long                             spillThresholdBytes;
     private int                              resultSetConcurrency;
     private int                              resultSetType;
     private int                              resultSetHoldability;
@@ -182,6 +200,12 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
         return (ResultQuery<R>) super.keepStatement(k);
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public final ResultQuery<R> keepRenderedSQL(boolean k) {
+        return (ResultQuery<R>) super.keepRenderedSQL(k);
+    }
+
     @Override
     public final ResultQuery<R> maxRows(int rows) {
         this.maxRows = rows;
@@ -194,6 +218,18 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
         return this;
     }
 
+    @Override
+    public final ResultQuery<R> spillThreshold(int rows) {
+        this.spillThresholdRows = rows;
+        return this;
+    }
+
+    @Override
+    public final ResultQuery<R> spillThresholdBytes(long bytes) {
+        this.spillThresholdBytes = bytes;
+        return this;
+    }
+
     @Override
     public final ResultQuery<R> resultSetConcurrency(int concurrency) {
         this.resultSetConcurrency = concurrency;
@@ -302,10 +338,15 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
             }
 
             Field<?>[] fields = getFields(ctx.resultSet().getMetaData());
-            cursor = new CursorImpl<>(ctx, listener, fields, intern.internIndexes(fields), keepStatement(), keepResultSet(), getRecordType(), SettingsTools.getMaxRows(maxRows, ctx.settings()), autoclosing);
+            cursor = new CursorImpl<>(ctx, listener, fields, intern.internIndexes(fields), keepStatement(), keepResultSet(), getRecordType(), SettingsTools.getMaxRows(maxRows, ctx.settings()), autoclosing, TRUE.equals(ctx.settings().isFetchReadOnlyRecords()));
 
             if (!lazy) {
-                result = cursor.fetch();
+                int rows = SettingsTools.getFetchSpillThresholdRows(spillThresholdRows, ctx.settings());
+                long bytes = SettingsTools.getFetchSpillThresholdBytes(spillThresholdBytes, ctx.settings());
+
+                result = rows > 0 || bytes > 0
+                    ? ((CursorImpl<R>) cursor).fetchSpilling(rows, bytes, ctx.settings().getFetchSpillDirectory())
+                    : cursor.fetch();
                 cursor = null;
             }
         }
@@ -334,6 +375,13 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
         return result;
     }
 
+    @Override
+    public final Result<R> fetchColumnar() {
+        try (Cursor<R> c = fetchLazyNonAutoClosing()) {
+            return ((CursorImpl<R>) c).fetchColumnar();
+        }
+    }
+
     @Override
     public final ResultSet fetchResultSet() {
         return fetchLazy().resultSet();
@@ -357,53 +405,18 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
 
     @Override
     public final void subscribe(org.reactivestreams.Subscriber<? super R> subscriber) {
-        subscriber.onSubscribe(new org.reactivestreams.Subscription() {
-            Cursor<R> c;
-            ArrayDeque<R> buffer;
-
-            @Override
-            public void request(long n) {
-                int i = (int) Math.min(n, Integer.MAX_VALUE);
-
-                try {
-                    if (c == null)
-                        c = fetchLazyNonAutoClosing();
-
-                    if (buffer == null)
-                        buffer = new ArrayDeque<>();
-
-                    if (buffer.size() < i)
-                        buffer.addAll(c.fetchNext(i - buffer.size()));
-
-                    boolean complete = buffer.size() < i;
-                    while (!buffer.isEmpty()) {
-                        subscriber.onNext(buffer.pollFirst());
-                    }
-
-                    if (complete)
-                        doComplete();
-                }
-                catch (Throwable t) {
-                    subscriber.onError(t);
-                    doComplete();
-                }
-            }
-
-            private void doComplete() {
-                close();
-                subscriber.onComplete();
-            }
+        Configuration c = Tools.configuration(this);
+        int f = SettingsTools.getFetchSize(fetchSize, c.settings());
 
-            private void close() {
-                if (c != null)
-                    c.close();
-            }
+        ResultQuerySubscription<R> subscription = new ResultQuerySubscription<>(
+            this,
+            subscriber,
+            c.executorProvider().provide(),
+            f > 0 ? f : DEFAULT_PREFETCH
+        );
 
-            @Override
-            public void cancel() {
-                close();
-            }
-        });
+        subscriber.onSubscribe(subscription);
+        subscription.start();
     }
 
     @Override
@@ -443,6 +456,55 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
         }
     }
 
+    @Override
+    public final void formatCSV(OutputStream stream, CSVFormat format) {
+        try (Cursor<R> c = fetchLazyNonAutoClosing()) {
+            c.formatCSV(stream, format);
+        }
+    }
+
+    @Override
+    public final void formatCSV(Writer writer, CSVFormat format) {
+        try (Cursor<R> c = fetchLazyNonAutoClosing()) {
+            c.formatCSV(writer, format);
+        }
+    }
+
+    @Override
+    public final void formatJSON(OutputStream stream, JSONFormat format) {
+        try (Cursor<R> c = fetchLazyNonAutoClosing()) {
+            c.formatJSON(stream, format);
+        }
+    }
+
+    @Override
+    public final void formatJSON(Writer writer, JSONFormat format) {
+        try (Cursor<R> c = fetchLazyNonAutoClosing()) {
+            c.formatJSON(writer, format);
+        }
+    }
+
+    @Override
+    public final void formatXML(OutputStream stream, XMLFormat format) {
+        try (Cursor<R> c = fetchLazyNonAutoClosing()) {
+            c.formatXML(stream, format);
+        }
+    }
+
+    @Override
+    public final void formatXML(Writer writer, XMLFormat format) {
+        try (Cursor<R> c = fetchLazyNonAutoClosing()) {
+            c.formatXML(writer, format);
+        }
+    }
+
+    @Override
+    public final void formatBinary(OutputStream stream) {
+        try (Cursor<R> c = fetchLazyNonAutoClosing()) {
+            c.formatBinary(stream);
+        }
+    }
+
 
 
     @Override
@@ -1464,6 +1526,57 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
         return fetch().intoArray(field, converter);
     }
 
+    @Override
+    public final int[] fetchIntArray(Field<?> field) {
+        return fetchIntArray(field, 0);
+    }
+
+    @Override
+    public final int[] fetchIntArray(Field<?> field, int nullValue) {
+        return fetchPrimitives(field, new IntArray(nullValue, null));
+    }
+
+    @Override
+    public final int[] fetchIntArray(Field<?> field, BitSet nulls) {
+        return fetchPrimitives(field, new IntArray(0, nulls));
+    }
+
+    @Override
+    public final long[] fetchLongArray(Field<?> field) {
+        return fetchLongArray(field, 0L);
+    }
+
+    @Override
+    public final long[] fetchLongArray(Field<?> field, long nullValue) {
+        return fetchPrimitives(field, new LongArray(nullValue, null));
+    }
+
+    @Override
+    public final long[] fetchLongArray(Field<?> field, BitSet nulls) {
+        return fetchPrimitives(field, new LongArray(0L, nulls));
+    }
+
+    @Override
+    public final double[] fetchDoubleArray(Field<?> field) {
+        return fetchDoubleArray(field, 0.0);
+    }
+
+    @Override
+    public final double[] fetchDoubleArray(Field<?> field, double nullValue) {
+        return fetchPrimitives(field, new DoubleArray(nullValue, null));
+    }
+
+    @Override
+    public final double[] fetchDoubleArray(Field<?> field, BitSet nulls) {
+        return fetchPrimitives(field, new DoubleArray(0.0, nulls));
+    }
+
+    private final <A> A fetchPrimitives(Field<?> field, PrimitiveArray<A> array) {
+        try (Cursor<R> c = fetchLazyNonAutoClosing()) {
+            return ((CursorImpl<R>) c).fetchPrimitives(field, array);
+        }
+    }
+
     @Override
     public final <E> Set<E> fetchSet(RecordMapper<? super R, E> mapper) {
         return fetch().intoSet(mapper);
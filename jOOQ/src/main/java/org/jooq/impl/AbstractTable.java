@@ -131,6 +131,7 @@ abstract class AbstractTable<R extends Record> extends AbstractNamed implements
     private Schema                   tableschema;
     private transient DataType<R>    tabletype;
     private transient Identity<R, ?> identity;
+    private transient volatile RecordRow recordRow;
 
     AbstractTable(TableOptions options, Name name) {
         this(options, name, null, null);
@@ -218,6 +219,32 @@ abstract class AbstractTable<R extends Record> extends AbstractNamed implements
     }
 
 
+    /**
+     * A row that is shared by all {@link TableRecordImpl} instances of this
+     * table, such that the row's {@link Fields} lookup index is built only
+     * once.
+     */
+    final AbstractRow recordRow() {
+        Field<?>[] source = fields0().fields;
+        RecordRow result = recordRow;
+
+        // The row is rebuilt if fields were added to this table
+        if (result == null || result.source != source)
+            recordRow = result = new RecordRow(source, (AbstractRow) fieldsRow());
+
+        return result.row;
+    }
+
+    private static final class RecordRow {
+        final Field<?>[]  source;
+        final AbstractRow row;
+
+        RecordRow(Field<?>[] source, AbstractRow row) {
+            this.source = source;
+            this.row = row;
+        }
+    }
+
     @Override
     public final Stream<Field<?>> fieldStream() {
         return Stream.of(fields());
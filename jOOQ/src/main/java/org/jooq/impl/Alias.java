@@ -82,6 +82,7 @@ import static org.jooq.impl.Tools.BooleanDataKey.DATA_UNALIAS_ALIASED_EXPRESSION
 import static org.jooq.impl.Tools.DataKey.DATA_SELECT_ALIASES;
 import static org.jooq.impl.Values.NO_SUPPORT_VALUES;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -366,4 +367,39 @@ final class Alias<Q extends QueryPart> extends AbstractQueryPart {
     public final boolean declaresTables() {
         return true;
     }
+
+    // ------------------------------------------------------------------------
+    // XXX: Object API
+    // ------------------------------------------------------------------------
+
+    @Override
+    public int hashCode() {
+
+        // The wrapped object is not included, as its hash code may be
+        // expensive to compute. Equal aliases still have equal hash codes.
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + alias.hashCode();
+        result = prime * result + Arrays.hashCode(fieldAliases);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that)
+            return true;
+
+        // The aliases are compared first, as they are cheaper to compare than
+        // the (possibly derived) wrapped objects
+        if (that instanceof Alias) {
+            Alias<?> other = (Alias<?>) that;
+            return
+                wrapInParentheses == other.wrapInParentheses &&
+                alias.equals(other.alias) &&
+                Arrays.equals(fieldAliases, other.fieldAliases) &&
+                wrapped.equals(other.wrapped);
+        }
+
+        return super.equals(that);
+    }
 }
@@ -0,0 +1,429 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * A compact, type tagged binary encoding of individual values, as used to
+ * spill records to disk, and to format results in a binary representation.
+ * <p>
+ * Values of common JDBC and <code>java.time</code> types are encoded
+ * explicitly. Other values are encoded using Java serialization, and must
+ * thus be {@link java.io.Serializable}. When reading data from untrusted
+ * sources, the types that may be deserialised must be restricted.
+ *
+ * @author Lukas Eder
+ */
+final class BinaryCodec {
+
+    static final byte NULL             = 0;
+    static final byte BOOLEAN          = 1;
+    static final byte BYTE             = 2;
+    static final byte SHORT            = 3;
+    static final byte INTEGER          = 4;
+    static final byte LONG             = 5;
+    static final byte FLOAT            = 6;
+    static final byte DOUBLE           = 7;
+    static final byte STRING           = 8;
+    static final byte BIG_INTEGER      = 9;
+    static final byte BIG_DECIMAL      = 10;
+    static final byte BYTES            = 11;
+    static final byte DATE             = 12;
+    static final byte TIME             = 13;
+    static final byte TIMESTAMP        = 14;
+    static final byte LOCAL_DATE       = 15;
+    static final byte LOCAL_TIME       = 16;
+    static final byte LOCAL_DATE_TIME  = 17;
+    static final byte OFFSET_DATE_TIME = 18;
+    static final byte UUID             = 19;
+    static final byte SERIALIZED       = 127;
+
+    private BinaryCodec() {}
+
+    /**
+     * Write a tagged value.
+     */
+    static final void writeValue(DataOutput out, Object value) throws IOException {
+        byte tag = tag(value);
+
+        out.writeByte(tag);
+        write(out, tag, value);
+    }
+
+    /**
+     * Read a tagged value.
+     */
+    static final Object readValue(DataInput in) throws IOException {
+        return readValue(in, null);
+    }
+
+    /**
+     * Read a tagged value, deserialising only the argument types, or any
+     * types if the argument is <code>null</code>.
+     */
+    static final Object readValue(DataInput in, Class<?>[] serializableTypes) throws IOException {
+        return read(in, in.readByte(), serializableTypes);
+    }
+
+    /**
+     * The tag of a value.
+     */
+    static final byte tag(Object value) {
+        if (value == null)
+            return NULL;
+
+        // Only the exact types are encoded explicitly, subtypes of the
+        // non-final JDBC types would otherwise lose their state
+        Class<?> type = value.getClass();
+
+        if (type == Integer.class)
+            return INTEGER;
+        else if (type == Long.class)
+            return LONG;
+        else if (type == String.class)
+            return STRING;
+        else if (type == Double.class)
+            return DOUBLE;
+        else if (type == Boolean.class)
+            return BOOLEAN;
+        else if (type == Byte.class)
+            return BYTE;
+        else if (type == Short.class)
+            return SHORT;
+        else if (type == Float.class)
+            return FLOAT;
+        else if (type == BigInteger.class)
+            return BIG_INTEGER;
+        else if (type == BigDecimal.class)
+            return BIG_DECIMAL;
+        else if (type == byte[].class)
+            return BYTES;
+        else if (type == Date.class)
+            return DATE;
+        else if (type == Time.class)
+            return TIME;
+        else if (type == Timestamp.class)
+            return TIMESTAMP;
+        else if (type == LocalDate.class)
+            return LOCAL_DATE;
+        else if (type == LocalTime.class)
+            return LOCAL_TIME;
+        else if (type == LocalDateTime.class)
+            return LOCAL_DATE_TIME;
+        else if (type == OffsetDateTime.class)
+            return OFFSET_DATE_TIME;
+        else if (type == java.util.UUID.class)
+            return UUID;
+        else
+            return SERIALIZED;
+    }
+
+    /**
+     * Write a value without its tag.
+     */
+    static final void write(DataOutput out, byte tag, Object value) throws IOException {
+        switch (tag) {
+            case NULL:
+                break;
+            case BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case BYTE:
+                out.writeByte((Byte) value);
+                break;
+            case SHORT:
+                out.writeShort((Short) value);
+                break;
+            case INTEGER:
+                out.writeInt((Integer) value);
+                break;
+            case LONG:
+                out.writeLong((Long) value);
+                break;
+            case FLOAT:
+                out.writeFloat((Float) value);
+                break;
+            case DOUBLE:
+                out.writeDouble((Double) value);
+                break;
+            case STRING:
+                writeBytes(out, ((String) value).getBytes(UTF_8));
+                break;
+            case BIG_INTEGER:
+                writeBytes(out, ((BigInteger) value).toByteArray());
+                break;
+            case BIG_DECIMAL:
+                out.writeInt(((BigDecimal) value).scale());
+                writeBytes(out, ((BigDecimal) value).unscaledValue().toByteArray());
+                break;
+            case BYTES:
+                writeBytes(out, (byte[]) value);
+                break;
+            case DATE:
+                out.writeLong(((Date) value).getTime());
+                break;
+            case TIME:
+                out.writeLong(((Time) value).getTime());
+                break;
+            case TIMESTAMP:
+                out.writeLong(((Timestamp) value).getTime());
+                out.writeInt(((Timestamp) value).getNanos());
+                break;
+            case LOCAL_DATE:
+                out.writeLong(((LocalDate) value).toEpochDay());
+                break;
+            case LOCAL_TIME:
+                out.writeLong(((LocalTime) value).toNanoOfDay());
+                break;
+            case LOCAL_DATE_TIME:
+                out.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+                out.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+                break;
+            case OFFSET_DATE_TIME:
+                out.writeLong(((OffsetDateTime) value).toLocalDate().toEpochDay());
+                out.writeLong(((OffsetDateTime) value).toLocalTime().toNanoOfDay());
+                out.writeInt(((OffsetDateTime) value).getOffset().getTotalSeconds());
+                break;
+            case UUID:
+                out.writeLong(((java.util.UUID) value).getMostSignificantBits());
+                out.writeLong(((java.util.UUID) value).getLeastSignificantBits());
+                break;
+            default: {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+                try (ObjectOutputStream o = new ObjectOutputStream(bytes)) {
+                    o.writeObject(value);
+                }
+
+                writeBytes(out, bytes.toByteArray());
+                break;
+            }
+        }
+    }
+
+    /**
+     * Read a value without its tag.
+     */
+    static final Object read(DataInput in, byte tag) throws IOException {
+        return read(in, tag, null);
+    }
+
+    /**
+     * Read a value without its tag, deserialising only the argument types, or
+     * any types if the argument is <code>null</code>.
+     */
+    static final Object read(DataInput in, byte tag, Class<?>[] serializableTypes) throws IOException {
+        switch (tag) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return in.readBoolean();
+            case BYTE:
+                return in.readByte();
+            case SHORT:
+                return in.readShort();
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case FLOAT:
+                return in.readFloat();
+            case DOUBLE:
+                return in.readDouble();
+            case STRING:
+                return new String(readBytes(in), UTF_8);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(in));
+            case BIG_DECIMAL: {
+                int scale = in.readInt();
+                return new BigDecimal(new BigInteger(readBytes(in)), scale);
+            }
+            case BYTES:
+                return readBytes(in);
+            case DATE:
+                return new Date(in.readLong());
+            case TIME:
+                return new Time(in.readLong());
+            case TIMESTAMP: {
+                Timestamp result = new Timestamp(in.readLong());
+                result.setNanos(in.readInt());
+                return result;
+            }
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(in.readLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(in.readLong());
+            case LOCAL_DATE_TIME: {
+                LocalDate date = LocalDate.ofEpochDay(in.readLong());
+                return LocalDateTime.of(date, LocalTime.ofNanoOfDay(in.readLong()));
+            }
+            case OFFSET_DATE_TIME: {
+                LocalDate date = LocalDate.ofEpochDay(in.readLong());
+                LocalTime time = LocalTime.ofNanoOfDay(in.readLong());
+                return OffsetDateTime.of(date, time, ZoneOffset.ofTotalSeconds(in.readInt()));
+            }
+            case UUID:
+                return new java.util.UUID(in.readLong(), in.readLong());
+            case SERIALIZED:
+                try (ObjectInputStream o = serializableTypes == null
+                        ? new ObjectInputStream(new ByteArrayInputStream(readBytes(in)))
+                        : new RestrictedObjectInputStream(new ByteArrayInputStream(readBytes(in)), serializableTypes)) {
+                    return o.readObject();
+                }
+                catch (ClassNotFoundException e) {
+                    throw new IOException("Cannot deserialise value", e);
+                }
+            default:
+                throw new StreamCorruptedException("Unknown value tag: " + tag);
+        }
+    }
+
+    private static final void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static final byte[] readBytes(DataInput in) throws IOException {
+        byte[] result = new byte[in.readInt()];
+        in.readFully(result);
+        return result;
+    }
+
+    /**
+     * An {@link ObjectInputStream} that only resolves an allow-list of types,
+     * their subtypes and their supertypes, and arrays thereof. Classes are
+     * checked before any instances are created.
+     */
+    static final class RestrictedObjectInputStream extends ObjectInputStream {
+        private final Class<?>[] types;
+
+        RestrictedObjectInputStream(InputStream in, Class<?>[] types) throws IOException {
+            super(in);
+
+            this.types = types;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            Class<?> result = super.resolveClass(desc);
+
+            if (!allowed(result))
+                throw new InvalidClassException(desc.getName(), "Deserialisation of this type is not allowed");
+
+            return result;
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaces) throws IOException, ClassNotFoundException {
+            throw new InvalidClassException("Deserialisation of proxies is not allowed");
+        }
+
+        private final boolean allowed(Class<?> type) {
+            while (type.isArray())
+                type = type.getComponentType();
+
+            if (type.isPrimitive())
+                return true;
+
+            // Supertypes are resolved for the serialised fields they declare
+            for (Class<?> t : types)
+                if (t.isAssignableFrom(type) || type.isAssignableFrom(t))
+                    return true;
+
+            return false;
+        }
+    }
+
+    /**
+     * An {@link InputStream} reading from a {@link ByteBuffer}, e.g. a memory
+     * mapped file region.
+     */
+    static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public final int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public final int read(byte[] b, int off, int len) {
+            if (len == 0)
+                return 0;
+            else if (!buffer.hasRemaining())
+                return -1;
+
+            int result = Math.min(len, buffer.remaining());
+            buffer.get(b, off, result);
+            return result;
+        }
+
+        @Override
+        public final int available() {
+            return buffer.remaining();
+        }
+    }
+}
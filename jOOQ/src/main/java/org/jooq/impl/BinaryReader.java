@@ -0,0 +1,216 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.BinaryWriter.DICTIONARY;
+import static org.jooq.impl.BinaryWriter.MAGIC;
+import static org.jooq.impl.BinaryWriter.NULLS;
+import static org.jooq.impl.BinaryWriter.PLAIN;
+import static org.jooq.impl.BinaryWriter.TYPED;
+import static org.jooq.impl.BinaryWriter.VERSION;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DefaultDataType.getDataType;
+import static org.jooq.impl.DefaultDataType.registeredType;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+
+import org.jooq.DSLContext;
+import org.jooq.DataType;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.exception.DataAccessException;
+
+/**
+ * A reader for the binary format written by {@link BinaryWriter}.
+ *
+ * @author Lukas Eder
+ */
+final class BinaryReader {
+
+    private final DSLContext ctx;
+    private final Class<?>[] serializableTypes;
+
+    BinaryReader(DSLContext ctx, Class<?>[] serializableTypes) {
+        this.ctx = ctx;
+        this.serializableTypes = serializableTypes;
+    }
+
+    final Result<Record> read(InputStream stream) {
+        try {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(stream, 1 << 16));
+
+            if (in.readInt() != MAGIC)
+                throw new DataAccessException("Not a binary result");
+
+            byte version = in.readByte();
+            if (version > VERSION)
+                throw new DataAccessException("Unsupported binary result version: " + version);
+
+            Field<?>[] fields = new Field[in.readInt()];
+
+            for (int i = 0; i < fields.length; i++)
+                fields[i] = readField(in);
+
+            Result<Record> result = ctx.newResult(fields);
+            Object[][] block = new Object[fields.length][];
+            RowInitialiser initialiser = new RowInitialiser(block);
+
+            for (int rows = in.readInt(); rows > 0; rows = in.readInt()) {
+                for (int i = 0; i < fields.length; i++)
+                    block[i] = readColumn(in, rows);
+
+                for (initialiser.row = 0; initialiser.row < rows; initialiser.row++)
+                    result.add(Tools.newRecord(true, RecordImplN.class, fields, ctx.configuration()).operate(initialiser));
+            }
+
+            return result;
+        }
+        catch (IOException e) {
+            throw new DataAccessException("Could not read the binary result", e);
+        }
+    }
+
+    private final Field<?> readField(DataInputStream in) throws IOException {
+        String[] name = new String[in.readByte()];
+
+        for (int i = 0; i < name.length; i++)
+            name[i] = in.readUTF();
+
+        String typeName = in.readUTF();
+        String typeClass = in.readUTF();
+        DataType<?> type = getDataType(ctx.dialect(), typeName);
+
+        // Prefer the original Java type, if it is a registered type. Classes
+        // are never loaded by the name found in the stream.
+        if (!type.getType().getName().equals(typeClass)) {
+            try {
+                Class<?> c = registeredType(ctx.dialect(), typeClass);
+
+                if (c != null)
+                    type = getDataType(ctx.dialect(), c, null);
+            }
+            catch (Exception ignore) {}
+        }
+
+        return field(name(name), type);
+    }
+
+    private final Object[] readColumn(DataInputStream in, int rows) throws IOException {
+        Object[] result = new Object[rows];
+        byte encoding = in.readByte();
+        byte[] nulls = null;
+
+        if ((encoding & NULLS) != 0) {
+            nulls = new byte[(rows + 7) / 8];
+            in.readFully(nulls);
+        }
+
+        switch (encoding & ~NULLS) {
+            case PLAIN:
+                for (int i = 0; i < rows; i++)
+                    if (!isNull(nulls, i))
+                        result[i] = BinaryCodec.readValue(in, serializableTypes);
+
+                break;
+
+            case TYPED: {
+                byte tag = in.readByte();
+
+                for (int i = 0; i < rows; i++)
+                    if (!isNull(nulls, i))
+                        result[i] = BinaryCodec.read(in, tag, serializableTypes);
+
+                break;
+            }
+
+            case DICTIONARY: {
+                byte tag = in.readByte();
+                Object[] dictionary = new Object[in.readInt()];
+
+                for (int i = 0; i < dictionary.length; i++)
+                    dictionary[i] = BinaryCodec.read(in, tag, serializableTypes);
+
+                for (int i = 0; i < rows; i++)
+                    if (!isNull(nulls, i))
+                        result[i] = dictionary[
+                              dictionary.length <= 0x100
+                            ? in.readUnsignedByte()
+                            : dictionary.length <= 0x10000
+                            ? in.readUnsignedShort()
+                            : in.readInt()
+                        ];
+
+                break;
+            }
+
+            default:
+                throw new StreamCorruptedException("Unknown column encoding: " + encoding);
+        }
+
+        return result;
+    }
+
+    private static final boolean isNull(byte[] nulls, int row) {
+        return nulls != null && (nulls[row >>> 3] & (1 << (row & 7))) != 0;
+    }
+
+    private static final class RowInitialiser implements RecordOperation<AbstractRecord, RuntimeException> {
+        private final Object[][] block;
+        int                      row;
+
+        RowInitialiser(Object[][] block) {
+            this.block = block;
+        }
+
+        @Override
+        public final AbstractRecord operate(AbstractRecord record) {
+            for (int i = 0; i < block.length; i++) {
+                record.values[i] = block[i][row];
+                record.originals[i] = block[i][row];
+            }
+
+            return record;
+        }
+    }
+}
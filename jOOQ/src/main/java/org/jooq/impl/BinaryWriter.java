@@ -0,0 +1,288 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.BinaryCodec.BOOLEAN;
+import static org.jooq.impl.BinaryCodec.BYTE;
+import static org.jooq.impl.BinaryCodec.BYTES;
+import static org.jooq.impl.BinaryCodec.DATE;
+import static org.jooq.impl.BinaryCodec.FLOAT;
+import static org.jooq.impl.BinaryCodec.INTEGER;
+import static org.jooq.impl.BinaryCodec.NULL;
+import static org.jooq.impl.BinaryCodec.SERIALIZED;
+import static org.jooq.impl.BinaryCodec.SHORT;
+import static org.jooq.impl.BinaryCodec.TIME;
+import static org.jooq.impl.BinaryCodec.TIMESTAMP;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jooq.Field;
+import org.jooq.Record;
+
+/**
+ * A writer for the binary format of {@link org.jooq.Formattable#formatBinary(OutputStream)}.
+ * <p>
+ * The format consists of:
+ * <ul>
+ * <li>A header with a magic number, the format version, and the fields with
+ * their qualified names, SQL type names, and Java types.</li>
+ * <li>Blocks of up to {@link #BLOCK_SIZE} rows, each prefixed by its number of
+ * rows. Within a block, values are stored column by column, each column
+ * prefixed by its encoding and an optional <code>null</code> bitmap. Columns
+ * whose values are all of the same type are stored without per value type
+ * tags. Columns of larger immutable types with few distinct values are
+ * dictionary encoded.</li>
+ * <li>An empty block terminating the data.</li>
+ * </ul>
+ * Records are written in blocks as they are passed to the writer, such that
+ * the data can be streamed.
+ *
+ * @author Lukas Eder
+ */
+final class BinaryWriter {
+
+    /**
+     * The magic number <code>"jOOQ"</code> starting the binary format.
+     */
+    static final int              MAGIC      = 0x6A4F4F51;
+
+    /**
+     * The version of the binary format.
+     */
+    static final byte             VERSION    = 1;
+
+    /**
+     * The maximum number of rows per block.
+     */
+    static final int              BLOCK_SIZE = 1024;
+
+    // Column encodings
+    static final byte             PLAIN      = 0;
+    static final byte             TYPED      = 1;
+    static final byte             DICTIONARY = 2;
+    static final byte             NULLS      = (byte) 0x80;
+
+    private final DataOutputStream out;
+    private final Field<?>[]       fields;
+    private final Object[][]       block;
+    private int                    rows;
+
+    BinaryWriter(OutputStream stream, Field<?>[] fields) {
+        this.out = new DataOutputStream(new BufferedOutputStream(stream, 1 << 16));
+        this.fields = fields;
+        this.block = new Object[fields.length][BLOCK_SIZE];
+    }
+
+    final void header() throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeInt(fields.length);
+
+        for (Field<?> field : fields) {
+            String[] name = field.getQualifiedName().getName();
+
+            out.writeByte(name.length);
+            for (String part : name)
+                out.writeUTF(part);
+
+            out.writeUTF(field.getDataType().getTypeName());
+            out.writeUTF(field.getType().getName());
+        }
+    }
+
+    final void write(Record record) throws IOException {
+        for (int i = 0; i < block.length; i++)
+            block[i][rows] = record.get(i);
+
+        if (++rows == BLOCK_SIZE)
+            flush();
+    }
+
+    /**
+     * Write the remaining records and terminate the data.
+     */
+    final void finish() throws IOException {
+        flush();
+        out.writeInt(0);
+        out.flush();
+    }
+
+    private final void flush() throws IOException {
+        if (rows == 0)
+            return;
+
+        out.writeInt(rows);
+
+        for (Object[] column : block)
+            writeColumn(column);
+
+        for (Object[] column : block)
+            Arrays.fill(column, 0, rows, null);
+
+        rows = 0;
+    }
+
+    private final void writeColumn(Object[] values) throws IOException {
+        byte tag = NULL;
+        boolean nulls = false;
+        boolean mixed = false;
+
+        for (int i = 0; i < rows; i++) {
+            if (values[i] == null) {
+                nulls = true;
+            }
+            else {
+                byte t = BinaryCodec.tag(values[i]);
+
+                if (tag == NULL)
+                    tag = t;
+                else if (tag != t)
+                    mixed = true;
+            }
+        }
+
+        byte flags = nulls ? NULLS : 0;
+
+        if (mixed || tag == SERIALIZED) {
+            out.writeByte(PLAIN | flags);
+            writeNulls(values, nulls);
+
+            for (int i = 0; i < rows; i++)
+                if (values[i] != null)
+                    BinaryCodec.writeValue(out, values[i]);
+        }
+        else if (!dictionary(values, tag, flags, nulls)) {
+            out.writeByte(TYPED | flags);
+            writeNulls(values, nulls);
+            out.writeByte(tag);
+
+            for (int i = 0; i < rows; i++)
+                if (values[i] != null)
+                    BinaryCodec.write(out, tag, values[i]);
+        }
+    }
+
+    /**
+     * Try writing a dictionary encoded column, if this is worthwhile.
+     */
+    private final boolean dictionary(Object[] values, byte tag, byte flags, boolean nulls) throws IOException {
+        if (!dictionaryEncodable(tag))
+            return false;
+
+        Map<Object, Integer> lookup = new HashMap<>();
+        int[] codes = new int[rows];
+        int nonNull = 0;
+
+        for (int i = 0; i < rows; i++) {
+            if (values[i] != null) {
+                Integer code = lookup.get(values[i]);
+
+                if (code == null)
+                    lookup.put(values[i], code = lookup.size());
+
+                codes[nonNull++] = code;
+            }
+        }
+
+        if (lookup.size() > nonNull / 2)
+            return false;
+
+        Object[] dictionary = new Object[lookup.size()];
+        for (Map.Entry<Object, Integer> entry : lookup.entrySet())
+            dictionary[entry.getValue()] = entry.getKey();
+
+        out.writeByte(DICTIONARY | flags);
+        writeNulls(values, nulls);
+        out.writeByte(tag);
+        out.writeInt(dictionary.length);
+
+        for (Object value : dictionary)
+            BinaryCodec.write(out, tag, value);
+
+        for (int i = 0; i < nonNull; i++)
+            if (dictionary.length <= 0x100)
+                out.writeByte(codes[i]);
+            else if (dictionary.length <= 0x10000)
+                out.writeShort(codes[i]);
+            else
+                out.writeInt(codes[i]);
+
+        return true;
+    }
+
+    /**
+     * Values shared by several rows must be immutable, and be larger than
+     * their dictionary codes.
+     */
+    private static final boolean dictionaryEncodable(byte tag) {
+        switch (tag) {
+            case NULL:
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INTEGER:
+            case FLOAT:
+            case BYTES:
+            case DATE:
+            case TIME:
+            case TIMESTAMP:
+            case SERIALIZED:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private final void writeNulls(Object[] values, boolean nulls) throws IOException {
+        if (nulls) {
+            byte[] bitmap = new byte[(rows + 7) / 8];
+
+            for (int i = 0; i < rows; i++)
+                if (values[i] == null)
+                    bitmap[i >>> 3] |= 1 << (i & 7);
+
+            out.write(bitmap);
+        }
+    }
+}
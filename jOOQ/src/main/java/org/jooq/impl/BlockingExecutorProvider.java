@@ -0,0 +1,332 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jooq.Configuration;
+import org.jooq.ExecutorProvider;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * An {@link ExecutorProvider} for asynchronous tasks that block on JDBC
+ * calls, such as those of {@link org.jooq.ResultQuery#fetchAsync()} or
+ * {@link org.jooq.Query#executeAsync()}.
+ * <p>
+ * Unlike the {@link DefaultExecutor}, which runs tasks in the
+ * {@link ForkJoinPool#commonPool()} that is sized for CPU bound work, this
+ * provider runs tasks:
+ * <ul>
+ * <li>In a new virtual thread per task, on JDK 21 and later, unless this is
+ * turned off explicitly.</li>
+ * <li>In a pool of named daemon threads otherwise. The pool grows up to a
+ * maximum number of threads, beyond which tasks are queued. Idle threads are
+ * terminated after a minute.</li>
+ * </ul>
+ * <p>
+ * The same {@link Executor} is provided to all tasks, and the number of queued,
+ * active, and completed tasks can be monitored through this provider. Use it
+ * with {@link Configuration#set(ExecutorProvider)}, e.g.
+ *
+ * <pre>
+ * <code>
+ * BlockingExecutorProvider provider = new BlockingExecutorProvider();
+ * DSLContext ctx = DSL.using(new DefaultConfiguration()
+ *     .set(dataSource)
+ *     .set(SQLDialect.POSTGRES)
+ *     .set(provider));
+ * </code>
+ * </pre>
+ * <p>
+ * Threads are created lazily, when the first task is executed. Call
+ * {@link #close()} to shut them down, once they're no longer needed.
+ *
+ * @author Lukas Eder
+ */
+public class BlockingExecutorProvider implements ExecutorProvider, AutoCloseable {
+
+    private static final JooqLogger    log                 = JooqLogger.getLogger(BlockingExecutorProvider.class);
+    private static final AtomicInteger POOLS               = new AtomicInteger();
+
+    /**
+     * The default maximum number of platform threads.
+     */
+    public static final int            DEFAULT_MAX_THREADS = Math.max(32, 4 * Runtime.getRuntime().availableProcessors());
+
+    private final boolean              virtualThreads;
+    private final int                  maxThreads;
+    private final String               name;
+    private final Executor             executor;
+    private final AtomicInteger        queued;
+    private final AtomicInteger        active;
+    private final AtomicLong           completed;
+    private volatile ExecutorService   delegate;
+    private boolean                    closed;
+
+    /**
+     * Create a provider using virtual threads if available, or at most
+     * {@link #DEFAULT_MAX_THREADS} platform threads otherwise.
+     */
+    public BlockingExecutorProvider() {
+        this(true, DEFAULT_MAX_THREADS);
+    }
+
+    /**
+     * Create a provider using virtual threads if available, or at most
+     * <code>maxThreads</code> platform threads otherwise.
+     */
+    public BlockingExecutorProvider(int maxThreads) {
+        this(true, maxThreads);
+    }
+
+    /**
+     * Create a provider.
+     *
+     * @param virtualThreads Whether to use virtual threads if they're
+     *            available.
+     * @param maxThreads The maximum number of platform threads, if virtual
+     *            threads are not used.
+     */
+    public BlockingExecutorProvider(boolean virtualThreads, int maxThreads) {
+        if (maxThreads <= 0)
+            throw new IllegalArgumentException("maxThreads must be positive: " + maxThreads);
+
+        this.virtualThreads = virtualThreads;
+        this.maxThreads = maxThreads;
+        this.name = "jooq-async-" + POOLS.incrementAndGet();
+        this.queued = new AtomicInteger();
+        this.active = new AtomicInteger();
+        this.completed = new AtomicLong();
+        this.executor = new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                BlockingExecutorProvider.this.execute(command);
+            }
+        };
+    }
+
+    @Override
+    public final Executor provide() {
+        return executor;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Metrics
+    // -------------------------------------------------------------------------
+
+    /**
+     * Whether tasks are run in virtual threads.
+     * <p>
+     * This is only known after the first task has been executed, and is
+     * <code>false</code> before.
+     */
+    public final boolean usesVirtualThreads() {
+        return delegate != null && !(delegate instanceof ThreadPoolExecutor);
+    }
+
+    /**
+     * The number of tasks that have been submitted, but not yet started.
+     */
+    public final int queuedTasks() {
+        return queued.get();
+    }
+
+    /**
+     * The number of tasks that are currently running.
+     */
+    public final int activeTasks() {
+        return active.get();
+    }
+
+    /**
+     * The number of tasks that have completed, normally or exceptionally.
+     */
+    public final long completedTasks() {
+        return completed.get();
+    }
+
+    /**
+     * The number of live platform threads of the pool, or <code>0</code> if
+     * virtual threads are used.
+     */
+    public final int poolSize() {
+        ExecutorService d = delegate;
+        return d instanceof ThreadPoolExecutor ? ((ThreadPoolExecutor) d).getPoolSize() : 0;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Lifecycle
+    // -------------------------------------------------------------------------
+
+    /**
+     * Shut down the threads of this provider.
+     * <p>
+     * Tasks that have already been submitted are still run, but new tasks are
+     * rejected.
+     */
+    @Override
+    public final void close() {
+        ExecutorService d;
+
+        synchronized (this) {
+            closed = true;
+            d = delegate;
+        }
+
+        if (d != null)
+            d.shutdown();
+    }
+
+    private final void execute(final Runnable command) {
+        queued.incrementAndGet();
+
+        try {
+            delegate().execute(new Runnable() {
+                @Override
+                public void run() {
+                    queued.decrementAndGet();
+                    active.incrementAndGet();
+
+                    try {
+                        command.run();
+                    }
+                    finally {
+                        active.decrementAndGet();
+                        completed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        catch (RuntimeException e) {
+            queued.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private final ExecutorService delegate() {
+        ExecutorService result = delegate;
+
+        if (result == null) {
+            synchronized (this) {
+                if (closed)
+                    throw new RejectedExecutionException("BlockingExecutorProvider has been closed");
+
+                result = delegate;
+
+                if (result == null) {
+                    result = virtualThreads ? virtualThreadExecutor() : null;
+
+                    if (result == null)
+                        result = threadPoolExecutor();
+
+                    delegate = result;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Create an executor starting a new virtual thread per task, if this is
+     * supported by the JDK.
+     */
+    private final ExecutorService virtualThreadExecutor() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, name + "-", 1L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            Method method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            ExecutorService result = (ExecutorService) method.invoke(null, factory);
+
+            log.debug("Executor", "Using virtual threads for asynchronous tasks");
+            return result;
+        }
+
+        // Virtual threads are not supported prior to JDK 21
+        catch (Exception e) {
+            log.debug("Executor", "Virtual threads are not available, using a thread pool instead");
+            return null;
+        }
+    }
+
+    private final ExecutorService threadPoolExecutor() {
+        final AtomicInteger count = new AtomicInteger();
+
+        ThreadPoolExecutor result = new ThreadPoolExecutor(
+            maxThreads,
+            maxThreads,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<Runnable>(),
+            new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, name + "-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            }
+        );
+
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "BlockingExecutorProvider [" + name
+            + (usesVirtualThreads() ? ", virtual threads" : ", threads: " + poolSize() + "/" + maxThreads)
+            + ", queued: " + queuedTasks()
+            + ", active: " + activeTasks()
+            + ", completed: " + completedTasks()
+            + "]";
+    }
+}
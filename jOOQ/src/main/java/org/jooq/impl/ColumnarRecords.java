@@ -0,0 +1,520 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.readOnlyRecordFactory;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.Temporal;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.UUID;
+
+import org.jooq.Field;
+import org.jooq.Record;
+
+/**
+ * The records of a columnar {@link ResultImpl}, see
+ * {@link org.jooq.ResultQuery#fetchColumnar()}.
+ * <p>
+ * Values are stored per column, rather than per record:
+ * <ul>
+ * <li>{@link Integer}, {@link Long} and {@link Double} values are stored in
+ * primitive arrays, with a separate bitmap for <code>null</code> values.</li>
+ * <li>Values of other immutable types are dictionary encoded, as long as the
+ * number of distinct values is low compared to the number of rows.</li>
+ * <li>All other values are stored in plain object arrays.</li>
+ * </ul>
+ * <p>
+ * {@link Record} instances are read-only views, which are created on access,
+ * when the records are not accessed through a column fast path of
+ * {@link ResultImpl}. When the list is modified, all records are materialised
+ * and the columns are discarded.
+ *
+ * @author Lukas Eder
+ */
+final class ColumnarRecords<R extends Record> extends AbstractList<R> implements RandomAccess, Serializable {
+
+    /**
+     * Generated UID
+     */
+    private static final long     serialVersionUID = -5367620137939004813L;
+
+    /**
+     * The initial capacity of columns.
+     */
+    private static final int      INITIAL_CAPACITY = 16;
+
+    /**
+     * The minimum number of rows before dictionary encoding may be abandoned.
+     */
+    private static final int      DICTIONARY_MIN   = 1024;
+
+    private final F0<? extends R> factory;
+    private Column[]              columns;
+    private int                   size;
+    private List<R>               materialized;
+
+    ColumnarRecords(Class<? extends R> type, Field<?>[] fields) {
+        this.factory = readOnlyRecordFactory(type, fields);
+        this.columns = new Column[fields.length];
+
+        for (int i = 0; i < fields.length; i++)
+            columns[i] = column(fields[i].getType());
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Columnar API
+    // -------------------------------------------------------------------------
+
+    /**
+     * Append a record's values to the columns.
+     */
+    final void append(Record record) {
+        for (int i = 0; i < columns.length; i++)
+            columns[i] = columns[i].add(size, record.get(i));
+
+        size++;
+    }
+
+    /**
+     * Trim the columns to their size, once no more records are appended.
+     */
+    final void compact() {
+        for (int i = 0; i < columns.length; i++)
+            columns[i] = columns[i].compact(size);
+    }
+
+    /**
+     * Whether the values are still stored in columns.
+     */
+    final boolean columnar() {
+        return materialized == null;
+    }
+
+    /**
+     * The values of a column, without creating any records.
+     */
+    final List<Object> values(int fieldIndex) {
+        Column column = columns[fieldIndex];
+        List<Object> result = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++)
+            result.add(column.get(i));
+
+        return result;
+    }
+
+    /**
+     * Collect the values of a column into a primitive array, without creating
+     * any records, or boxing any primitive values.
+     */
+    final void into(int fieldIndex, PrimitiveArray<?> array) {
+        columns[fieldIndex].into(array, size);
+    }
+
+    /**
+     * The values of a row, without creating a record.
+     */
+    final Object[] row(int index) {
+        Object[] result = new Object[columns.length];
+
+        for (int i = 0; i < columns.length; i++)
+            result[i] = columns[i].get(index);
+
+        return result;
+    }
+
+    private final List<R> materialize() {
+        if (materialized == null) {
+            List<R> result = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++)
+                result.add(get(i));
+
+            materialized = result;
+            columns = null;
+        }
+
+        return materialized;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: List API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final R get(int index) {
+        if (materialized != null)
+            return materialized.get(index);
+
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+        R result = factory.apply();
+        AbstractRecord record = (AbstractRecord) result;
+
+        for (int i = 0; i < columns.length; i++)
+            record.values[i] = columns[i].get(index);
+
+        record.fetched = true;
+        return result;
+    }
+
+    @Override
+    public final int size() {
+        return materialized != null ? materialized.size() : size;
+    }
+
+    @Override
+    public final R set(int index, R element) {
+        return materialize().set(index, element);
+    }
+
+    @Override
+    public final void add(int index, R element) {
+        materialize().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public final R remove(int index) {
+        R result = materialize().remove(index);
+        modCount++;
+        return result;
+    }
+
+    @Override
+    public final void clear() {
+        materialize().clear();
+        modCount++;
+    }
+
+    /**
+     * Columns are not serialised, only the records.
+     */
+    private final Object writeReplace() {
+        return new ArrayList<>(this);
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Columns
+    // -------------------------------------------------------------------------
+
+    private static final Column column(Class<?> type) {
+        if (type == Integer.class)
+            return new IntColumn();
+        else if (type == Long.class)
+            return new LongColumn();
+        else if (type == Double.class)
+            return new DoubleColumn();
+        else if (dictionaryEncodable(type))
+            return new DictionaryColumn();
+        else
+            return new ObjectColumn();
+    }
+
+    /**
+     * Only immutable values can be shared between rows of a dictionary
+     * encoded column.
+     */
+    private static final boolean dictionaryEncodable(Class<?> type) {
+        return type == String.class
+            || type == Boolean.class
+            || type == BigDecimal.class
+            || type == BigInteger.class
+            || type == UUID.class
+            || type.isEnum()
+            || Temporal.class.isAssignableFrom(type) && type.getName().startsWith("java.time.");
+    }
+
+    private static final int grow(int length) {
+        return Math.max(INITIAL_CAPACITY, length * 2);
+    }
+
+    /**
+     * A column of values.
+     */
+    private static abstract class Column {
+
+        /**
+         * Set the value at the (next) row index, returning the column that
+         * holds the value, which may be a more general replacement for this
+         * column.
+         */
+        abstract Column add(int index, Object value);
+
+        /**
+         * Get the value at a row index.
+         */
+        abstract Object get(int index);
+
+        /**
+         * Trim the column to its size.
+         */
+        abstract Column compact(int size);
+
+        /**
+         * Collect the column's values into a primitive array.
+         */
+        void into(PrimitiveArray<?> array, int size) {
+            for (int i = 0; i < size; i++)
+                array.add(get(i));
+        }
+
+        /**
+         * Replace this column by an {@link ObjectColumn}, e.g. when a value of
+         * an unexpected type is encountered.
+         */
+        final ObjectColumn generalise(int size) {
+            ObjectColumn result = new ObjectColumn();
+
+            for (int i = 0; i < size; i++)
+                result.add(i, get(i));
+
+            return result;
+        }
+    }
+
+    private static final class IntColumn extends Column {
+        private int[]        values = {};
+        private final BitSet nulls  = new BitSet();
+
+        @Override
+        final Column add(int index, Object value) {
+            if (value == null)
+                nulls.set(index);
+            else if (!(value instanceof Integer))
+                return generalise(index).add(index, value);
+
+            if (index == values.length)
+                values = Arrays.copyOf(values, grow(values.length));
+            if (value != null)
+                values[index] = (Integer) value;
+
+            return this;
+        }
+
+        @Override
+        final Object get(int index) {
+            return nulls.get(index) ? null : Integer.valueOf(values[index]);
+        }
+
+        @Override
+        final void into(PrimitiveArray<?> array, int size) {
+            for (int i = 0; i < size; i++)
+                if (nulls.get(i))
+                    array.addNull();
+                else
+                    array.addInt(values[i]);
+        }
+
+        @Override
+        final Column compact(int size) {
+            values = Arrays.copyOf(values, size);
+            return this;
+        }
+    }
+
+    private static final class LongColumn extends Column {
+        private long[]       values = {};
+        private final BitSet nulls  = new BitSet();
+
+        @Override
+        final Column add(int index, Object value) {
+            if (value == null)
+                nulls.set(index);
+            else if (!(value instanceof Long))
+                return generalise(index).add(index, value);
+
+            if (index == values.length)
+                values = Arrays.copyOf(values, grow(values.length));
+            if (value != null)
+                values[index] = (Long) value;
+
+            return this;
+        }
+
+        @Override
+        final Object get(int index) {
+            return nulls.get(index) ? null : Long.valueOf(values[index]);
+        }
+
+        @Override
+        final void into(PrimitiveArray<?> array, int size) {
+            for (int i = 0; i < size; i++)
+                if (nulls.get(i))
+                    array.addNull();
+                else
+                    array.addLong(values[i]);
+        }
+
+        @Override
+        final Column compact(int size) {
+            values = Arrays.copyOf(values, size);
+            return this;
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+        private double[]     values = {};
+        private final BitSet nulls  = new BitSet();
+
+        @Override
+        final Column add(int index, Object value) {
+            if (value == null)
+                nulls.set(index);
+            else if (!(value instanceof Double))
+                return generalise(index).add(index, value);
+
+            if (index == values.length)
+                values = Arrays.copyOf(values, grow(values.length));
+            if (value != null)
+                values[index] = (Double) value;
+
+            return this;
+        }
+
+        @Override
+        final Object get(int index) {
+            return nulls.get(index) ? null : Double.valueOf(values[index]);
+        }
+
+        @Override
+        final void into(PrimitiveArray<?> array, int size) {
+            for (int i = 0; i < size; i++)
+                if (nulls.get(i))
+                    array.addNull();
+                else
+                    array.addDouble(values[i]);
+        }
+
+        @Override
+        final Column compact(int size) {
+            values = Arrays.copyOf(values, size);
+            return this;
+        }
+    }
+
+    /**
+     * A column storing an index into a dictionary of distinct values per row,
+     * and <code>-1</code> for <code>null</code>.
+     */
+    private static final class DictionaryColumn extends Column {
+        private int[]                codes      = {};
+        private Object[]             dictionary = {};
+        private int                  distinct;
+        private Map<Object, Integer> lookup     = new HashMap<>();
+
+        @Override
+        final Column add(int index, Object value) {
+            int code = -1;
+
+            if (value != null) {
+                Integer c = lookup.get(value);
+
+                if (c == null) {
+
+                    // Too many distinct values to profit from the encoding
+                    if (index >= DICTIONARY_MIN && distinct >= index / 2)
+                        return generalise(index).add(index, value);
+
+                    if (distinct == dictionary.length)
+                        dictionary = Arrays.copyOf(dictionary, grow(dictionary.length));
+
+                    dictionary[distinct] = value;
+                    lookup.put(value, c = distinct++);
+                }
+
+                code = c;
+            }
+
+            if (index == codes.length)
+                codes = Arrays.copyOf(codes, grow(codes.length));
+
+            codes[index] = code;
+            return this;
+        }
+
+        @Override
+        final Object get(int index) {
+            int code = codes[index];
+            return code == -1 ? null : dictionary[code];
+        }
+
+        @Override
+        final Column compact(int size) {
+            codes = Arrays.copyOf(codes, size);
+            dictionary = Arrays.copyOf(dictionary, distinct);
+            lookup = null;
+            return this;
+        }
+    }
+
+    private static final class ObjectColumn extends Column {
+        private Object[] values = {};
+
+        @Override
+        final Column add(int index, Object value) {
+            if (index == values.length)
+                values = Arrays.copyOf(values, grow(values.length));
+
+            values[index] = value;
+            return this;
+        }
+
+        @Override
+        final Object get(int index) {
+            return values[index];
+        }
+
+        @Override
+        final Column compact(int size) {
+            values = Arrays.copyOf(values, size);
+            return this;
+        }
+    }
+}
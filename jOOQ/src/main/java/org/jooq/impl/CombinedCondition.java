@@ -220,4 +220,30 @@ final class CombinedCondition extends AbstractCondition {
                .sql(')');
         }
     }
+
+    // ------------------------------------------------------------------------
+    // XXX: Object API
+    // ------------------------------------------------------------------------
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + operator.hashCode();
+        result = prime * result + conditions.hashCode();
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that)
+            return true;
+
+        if (that instanceof CombinedCondition) {
+            CombinedCondition other = (CombinedCondition) that;
+            return operator == other.operator && conditions.equals(other.conditions);
+        }
+
+        return super.equals(that);
+    }
 }
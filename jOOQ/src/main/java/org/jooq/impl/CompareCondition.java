@@ -91,6 +91,7 @@ import org.jooq.Field;
 import org.jooq.LikeEscapeStep;
 import org.jooq.SQLDialect;
 import org.jooq.conf.ParamType;
+import org.jooq.tools.StringUtils;
 
 /**
  * @author Lukas Eder
@@ -191,4 +192,38 @@ final class CompareCondition extends AbstractCondition implements LikeEscapeStep
     public final Clause[] clauses(Context<?> ctx) {
         return CLAUSES;
     }
+
+    // ------------------------------------------------------------------------
+    // XXX: Object API
+    // ------------------------------------------------------------------------
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + comparator.hashCode();
+        result = prime * result + field1.hashCode();
+        result = prime * result + field2.hashCode();
+        result = prime * result + ((escape == null) ? 0 : escape.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that)
+            return true;
+
+        // Two comparisons are equal if their operands and operators are,
+        // which can be decided without rendering either of them
+        if (that instanceof CompareCondition) {
+            CompareCondition other = (CompareCondition) that;
+            return
+                comparator == other.comparator &&
+                field1.equals(other.field1) &&
+                field2.equals(other.field2) &&
+                StringUtils.equals(escape, other.escape);
+        }
+
+        return super.equals(that);
+    }
 }
@@ -40,6 +40,8 @@ package org.jooq.impl;
 // ...
 import static org.jooq.impl.Tools.embeddedFields;
 import static org.jooq.impl.Tools.embeddedRecordType;
+import static org.jooq.impl.Tools.indexOrFail;
+import static org.jooq.impl.Tools.readOnlyRecordFactory;
 import static org.jooq.impl.Tools.recordFactory;
 
 import java.io.InputStream;
@@ -63,6 +65,8 @@ import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Calendar;
 import java.util.Iterator;
 import java.util.List;
@@ -85,8 +89,12 @@ import org.jooq.Record;
 import org.jooq.RecordHandler;
 import org.jooq.RecordMapper;
 import org.jooq.Result;
+import org.jooq.ResultQuery;
 import org.jooq.Table;
 import org.jooq.exception.ControlFlowSignal;
+import org.jooq.impl.PrimitiveArray.DoubleArray;
+import org.jooq.impl.PrimitiveArray.IntArray;
+import org.jooq.impl.PrimitiveArray.LongArray;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.jdbc.JDBC41ResultSet;
 import org.jooq.tools.jdbc.JDBCUtils;
@@ -105,6 +113,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
     private final boolean                                  keepStatement;
     private final boolean                                  autoclosing;
     private final int                                      maxRows;
+    private final Class<? extends R>                       type;
     private final F0<? extends R>                          factory;
     private boolean                                        isClosed;
 
@@ -122,15 +131,16 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
 
     @SuppressWarnings("unchecked")
     CursorImpl(ExecuteContext ctx, ExecuteListener listener, Field<?>[] fields, int[] internIndexes, boolean keepStatement, boolean keepResultSet) {
-        this(ctx, listener, fields, internIndexes, keepStatement, keepResultSet, (Class<? extends R>) RecordImplN.class, 0, true);
+        this(ctx, listener, fields, internIndexes, keepStatement, keepResultSet, (Class<? extends R>) RecordImplN.class, 0, true, false);
     }
 
-    CursorImpl(ExecuteContext ctx, ExecuteListener listener, Field<?>[] fields, int[] internIndexes, boolean keepStatement, boolean keepResultSet, Class<? extends R> type, int maxRows, boolean autoclosing) {
+    CursorImpl(ExecuteContext ctx, ExecuteListener listener, Field<?>[] fields, int[] internIndexes, boolean keepStatement, boolean keepResultSet, Class<? extends R> type, int maxRows, boolean autoclosing, boolean readOnly) {
         super(ctx.configuration(), new Fields<>(fields));
 
         this.ctx = ctx;
         this.listener = (listener != null ? listener : ExecuteListeners.getAndStart(ctx));
-        this.factory = recordFactory(type, fields);
+        this.type = type;
+        this.factory = readOnly ? readOnlyRecordFactory(type, fields) : recordFactory(type, fields);
         this.keepStatement = keepStatement;
         this.keepResultSet = keepResultSet;
         this.rs = new CursorResultSet();
@@ -338,11 +348,15 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
 
     @Override
     public final Result<R> fetchNext(int number) {
+        return fetchNext(number, new ArrayList<>());
+    }
+
+    private final Result<R> fetchNext(int number, List<R> records) {
         // [#1157] This invokes listener.fetchStart(ctx), which has to be called
         // Before listener.resultStart(ctx)
         iterator();
 
-        ResultImpl<R> result = new ResultImpl<>(((DefaultExecuteContext) ctx).originalConfiguration(), fields.fields);
+        ResultImpl<R> result = new ResultImpl<>(((DefaultExecuteContext) ctx).originalConfiguration(), new Fields<>(fields.fields), records);
 
         ctx.result(result);
         listener.resultStart(ctx);
@@ -357,6 +371,120 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
         return result;
     }
 
+    /**
+     * Fetch all remaining records into a result that is spilled to disk
+     * beyond a threshold, see {@link ResultQuery#spillThreshold(int)}.
+     */
+    final Result<R> fetchSpilling(int thresholdRows, long thresholdBytes, String directory) {
+        SpilledRecords<R> records = new SpilledRecords<>(type, fields.fields, thresholdRows, thresholdBytes, directory);
+
+        try {
+            Result<R> result = fetchNext(Integer.MAX_VALUE, records);
+            records.complete();
+            return result;
+        }
+
+        // Errors, such as an OutOfMemoryError, must not leak the spill file
+        // and its memory mappings either
+        catch (RuntimeException | Error e) {
+            records.discard();
+            throw e;
+        }
+    }
+
+    /**
+     * Fetch all remaining records into a columnar result, see
+     * {@link ResultQuery#fetchColumnar()}.
+     */
+    final Result<R> fetchColumnar() {
+        iterator();
+
+        ColumnarRecords<R> records = new ColumnarRecords<>(type, fields.fields);
+        ResultImpl<R> result = new ResultImpl<>(((DefaultExecuteContext) ctx).originalConfiguration(), new Fields<>(fields.fields), records);
+
+        ctx.result(result);
+        listener.resultStart(ctx);
+
+        // The records are only needed until their values are in the columns
+        while (iterator().hasNext())
+            records.append(iterator().next());
+
+        records.compact();
+
+        ctx.result(result);
+        listener.resultEnd(ctx);
+
+        return result;
+    }
+
+    @Override
+    public final int[] fetchIntArray(Field<?> field) {
+        return fetchIntArray(field, 0);
+    }
+
+    @Override
+    public final int[] fetchIntArray(Field<?> field, int nullValue) {
+        return fetchPrimitives(field, new IntArray(nullValue, null));
+    }
+
+    @Override
+    public final int[] fetchIntArray(Field<?> field, BitSet nulls) {
+        return fetchPrimitives(field, new IntArray(0, nulls));
+    }
+
+    @Override
+    public final long[] fetchLongArray(Field<?> field) {
+        return fetchLongArray(field, 0L);
+    }
+
+    @Override
+    public final long[] fetchLongArray(Field<?> field, long nullValue) {
+        return fetchPrimitives(field, new LongArray(nullValue, null));
+    }
+
+    @Override
+    public final long[] fetchLongArray(Field<?> field, BitSet nulls) {
+        return fetchPrimitives(field, new LongArray(0L, nulls));
+    }
+
+    @Override
+    public final double[] fetchDoubleArray(Field<?> field) {
+        return fetchDoubleArray(field, 0.0);
+    }
+
+    @Override
+    public final double[] fetchDoubleArray(Field<?> field, double nullValue) {
+        return fetchPrimitives(field, new DoubleArray(nullValue, null));
+    }
+
+    @Override
+    public final double[] fetchDoubleArray(Field<?> field, BitSet nulls) {
+        return fetchPrimitives(field, new DoubleArray(0.0, nulls));
+    }
+
+    /**
+     * Fetch the values of a single column of all remaining records into a
+     * primitive array, see {@link ResultQuery#fetchIntArray(Field)}.
+     */
+    final <A> A fetchPrimitives(Field<?> field, PrimitiveArray<A> array) {
+        int index = indexOrFail(fields, field);
+
+        ((CursorIterator) iterator()).fetchPrimitives(index, array, readDirectly(index, array));
+        return array.array();
+    }
+
+    /**
+     * Whether a column can be read directly from the JDBC {@link ResultSet},
+     * which requires JDBC indexes not to be shifted by nested records.
+     */
+    private final boolean readDirectly(int index, PrimitiveArray<?> array) {
+        for (Field<?> f : fields.fields)
+            if (f instanceof RowField || f.getDataType().isEmbeddable())
+                return false;
+
+        return PrimitiveArray.readDirectly(fields.fields[index], array);
+    }
+
     @Override
     public final <H extends RecordHandler<? super R>> H fetchNextInto(H handler) {
         handler.next(fetchNext());
@@ -1636,6 +1764,60 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
             throw new UnsupportedOperationException();
         }
 
+        /**
+         * Collect the values of a column of all remaining rows.
+         */
+        final void fetchPrimitives(int index, PrimitiveArray<?> array, boolean direct) {
+            if (!direct) {
+                while (hasNext())
+                    array.add(next().get(index));
+
+                return;
+            }
+
+            // A record may have been prefetched by hasNext()
+            if (hasNext != null) {
+                if (!hasNext)
+                    return;
+
+                array.add(next().get(index));
+            }
+
+            boolean exhausted = false;
+
+            try {
+                while (!isClosed && (maxRows <= 0 || rows < maxRows)) {
+                    if (!rs.next()) {
+                        exhausted = true;
+                        break;
+                    }
+
+                    array.read(rs, index + 1);
+                    rows++;
+                }
+            }
+
+            // [#3427] ControlFlowSignals must not be passed on to ExecuteListners
+            catch (ControlFlowSignal e) {
+                throw e;
+            }
+            catch (RuntimeException e) {
+                ctx.exception(e);
+                listener.exception(ctx);
+                throw ctx.exception();
+            }
+            catch (SQLException e) {
+                ctx.sqlException(e);
+                listener.exception(ctx);
+                throw ctx.exception();
+            }
+
+            hasNext = false;
+
+            if (exhausted && autoclosing)
+                CursorImpl.this.close();
+        }
+
         private class CursorRecordInitialiser implements RecordOperation<AbstractRecord, SQLException> {
 
             private final Field<?>[] initialiserFields;
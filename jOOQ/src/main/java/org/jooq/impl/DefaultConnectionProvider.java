@@ -65,6 +65,7 @@ public class DefaultConnectionProvider implements ConnectionProvider {
     private static final JooqLogger log = JooqLogger.getLogger(DefaultConnectionProvider.class);
     Connection                      connection;
     final boolean                   finalize;
+    StatementCache                  statementCache;
 
     public DefaultConnectionProvider(Connection connection) {
         this(connection, false);
@@ -88,6 +89,29 @@ public class DefaultConnectionProvider implements ConnectionProvider {
     @Override
     public final void release(Connection released) {}
 
+    /**
+     * The cache of prepared statements of the current connection, see
+     * {@link org.jooq.conf.Settings#isCachePreparedStatements()}.
+     */
+    final synchronized StatementCache statementCache(int size) {
+        if (statementCache == null || statementCache.connection != connection) {
+            invalidateStatementCache();
+            statementCache = new StatementCache(connection, size);
+        }
+
+        return statementCache;
+    }
+
+    /**
+     * Close the cached prepared statements of the current connection, if any.
+     */
+    final synchronized void invalidateStatementCache() {
+        if (statementCache != null) {
+            statementCache.invalidate();
+            statementCache = null;
+        }
+    }
+
     @Override
     protected void finalize() throws Throwable {
         if (finalize)
@@ -101,6 +125,7 @@ public class DefaultConnectionProvider implements ConnectionProvider {
     // -------------------------------------------------------------------------
 
     public final void setConnection(Connection connection) {
+        invalidateStatementCache();
         this.connection = connection;
     }
 
@@ -63,6 +63,7 @@ import static org.jooq.impl.Tools.list;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
 import java.io.StringReader;
 import java.math.BigInteger;
@@ -281,13 +282,15 @@ import org.jooq.exception.DataAccessException;
 import org.jooq.exception.InvalidResultException;
 import org.jooq.exception.SQLDialectNotSupportedException;
 import org.jooq.impl.BatchCRUD.Action;
-import org.jooq.tools.csv.CSVReader;
+import org.jooq.impl.Tools.Cache;
+import org.jooq.tools.csv.CSVTokenizer;
 import org.jooq.tools.jdbc.BatchedConnection;
 import org.jooq.tools.jdbc.JDBCUtils;
 import org.jooq.tools.jdbc.MockCallable;
 import org.jooq.tools.jdbc.MockConfiguration;
 import org.jooq.tools.jdbc.MockDataProvider;
 import org.jooq.tools.jdbc.MockRunnable;
+import org.jooq.tools.metrics.CacheStatistics;
 import org.jooq.util.xml.jaxb.InformationSchema;
 
 /**
@@ -361,6 +364,11 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
         return Tools.getMappedTable(configuration(), table);
     }
 
+    @Override
+    public CacheStatistics reflectionCacheStatistics() {
+        return Cache.statistics(configuration());
+    }
+
     // -------------------------------------------------------------------------
     // XXX Convenience methods accessing the underlying Connection
     // -------------------------------------------------------------------------
@@ -375,6 +383,11 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
         return new ParsingConnection(configuration());
     }
 
+    @Override
+    public CacheStatistics parsingConnectionStatistics() {
+        return ParsingConnection.statistics(configuration());
+    }
+
     @Override
     public DataSource parsingDataSource() {
         return new ParsingDataSource(configuration());
@@ -1450,7 +1463,7 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
 
     @Override
     public Result<Record> fetchFromCSV(String string, boolean header, char delimiter) {
-        CSVReader reader = new CSVReader(new StringReader(string), delimiter);
+        CSVTokenizer reader = new CSVTokenizer(new StringReader(string), delimiter);
         List<String[]> list = null;
 
         try {
@@ -1474,6 +1487,16 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
         return new JSONReader(this).read(string);
     }
 
+    @Override
+    public Result<Record> fetchFromBinary(InputStream stream) {
+        return new BinaryReader(this, new Class[0]).read(stream);
+    }
+
+    @Override
+    public Result<Record> fetchFromBinary(InputStream stream, Class<?>... serializableTypes) {
+        return new BinaryReader(this, serializableTypes.clone()).read(stream);
+    }
+
     @Override
     public Result<Record> fetchFromXML(String string) {
         try {
@@ -46,6 +46,7 @@ import static org.jooq.impl.DSL.unquotedName;
 import static org.jooq.impl.DefaultBinding.binding;
 import static org.jooq.tools.reflect.Reflect.wrapper;
 
+import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Collection;
@@ -588,6 +589,30 @@ public class DefaultDataType<T> extends AbstractDataType<T> {
         return getDataType(dialect, type, null);
     }
 
+    /**
+     * Get a registered type by its class name, without loading any classes,
+     * or <code>null</code> if no such type is registered.
+     */
+    static final Class<?> registeredType(SQLDialect dialect, String className) {
+
+        // Recurse for arrays
+        if (className.startsWith("[L") && className.endsWith(";")) {
+            Class<?> componentType = registeredType(dialect, className.substring(2, className.length() - 1));
+            return componentType == null ? null : Array.newInstance(componentType, 0).getClass();
+        }
+
+        if (dialect != null)
+            for (Class<?> type : TYPES_BY_TYPE[dialect.family().ordinal()].keySet())
+                if (type.getName().equals(className))
+                    return type;
+
+        for (Class<?> type : SQL_DATATYPES_BY_TYPE.keySet())
+            if (type.getName().equals(className))
+                return type;
+
+        return null;
+    }
+
     public static final <T> DataType<T> getDataType(SQLDialect dialect, Class<T> type, DataType<T> fallbackDataType) {
 
         // Treat primitive types the same way as their respective wrapper types
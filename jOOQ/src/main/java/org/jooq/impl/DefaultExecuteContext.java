@@ -37,6 +37,8 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
+import static org.jooq.conf.SettingsTools.executePreparedStatements;
 import static org.jooq.conf.SettingsTools.renderLocale;
 import static org.jooq.impl.Tools.EMPTY_INT;
 import static org.jooq.impl.Tools.EMPTY_QUERY;
@@ -667,7 +669,22 @@ class DefaultExecuteContext implements ExecuteContext {
     }
 
     private final SettingsEnabledConnection wrapConnection(ConnectionProvider provider, Connection c) {
-        return new SettingsEnabledConnection(new ProviderEnabledConnection(provider, c), derivedConfiguration.settings());
+        Settings settings = derivedConfiguration.settings();
+        Connection result = new ProviderEnabledConnection(provider, c);
+
+        // Statements can be cached only on connections that are not released
+        // after each execution
+        if (TRUE.equals(settings.isCachePreparedStatements())
+                && executePreparedStatements(settings)
+                && provider instanceof DefaultConnectionProvider
+                && ((DefaultConnectionProvider) provider).connection == c) {
+            Integer size = settings.getCachePreparedStatementsLRUCacheSize();
+
+            if (size == null || size > 0)
+                result = ((DefaultConnectionProvider) provider).statementCache(size == null ? 128 : size).wrap(result);
+        }
+
+        return new SettingsEnabledConnection(result, settings);
     }
 
     final void incrementStatementExecutionCount() {
@@ -52,7 +52,10 @@ import static org.jooq.impl.Tools.hasColumnAnnotations;
 import static org.jooq.tools.reflect.Reflect.accessible;
 
 import java.beans.ConstructorProperties;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
@@ -96,6 +99,7 @@ import org.jooq.TableRecord;
 import org.jooq.conf.Settings;
 import org.jooq.exception.MappingException;
 import org.jooq.tools.Convert;
+import org.jooq.tools.JooqLogger;
 import org.jooq.tools.StringUtils;
 import org.jooq.tools.reflect.Reflect;
 import org.jooq.tools.reflect.ReflectException;
@@ -293,6 +297,8 @@ import org.jooq.tools.reflect.ReflectException;
 @SuppressWarnings("unchecked")
 public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R, E> {
 
+    private static final JooqLogger  log = JooqLogger.getLogger(DefaultRecordMapper.class);
+
     /**
      * The record type.
      */
@@ -311,6 +317,12 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
      */
     private final Configuration      configuration;
 
+    /**
+     * Whether {@link MethodHandle}s should be used instead of reflection, see
+     * {@link Settings#isMapWithMethodHandles()}.
+     */
+    private final boolean            methodHandles;
+
     /**
      * A delegate mapper created from type information in <code>type</code>.
      */
@@ -345,6 +357,7 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         this.fields = rowType.fields();
         this.type = type;
         this.configuration = configuration != null ? configuration : new DefaultConfiguration();
+        this.methodHandles = TRUE.equals(this.configuration.settings().isMapWithMethodHandles());
 
         init(instance);
     }
@@ -385,7 +398,7 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
 
         // [#1340] Allow for using non-public default constructors
         try {
-            MutablePOJOMapper m = new MutablePOJOMapper(new ConstructorCall<>(accessible(type.getDeclaredConstructor())), instance);
+            MutablePOJOMapper m = new MutablePOJOMapper(constructorCall(accessible(type.getDeclaredConstructor())), instance);
 
             // [#10194] Check if the POJO is really mutable. There might as well
             //          be a no-args constructor for other reasons, e.g. when
@@ -707,6 +720,93 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         }
     }
 
+    private static final class MethodHandleConstructorCall<E> implements Callable<E> {
+        private final MethodHandle constructor;
+
+        MethodHandleConstructorCall(MethodHandle constructor) {
+            this.constructor = constructor;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E call() throws Exception {
+            try {
+                return (E) constructor.invokeExact();
+            }
+            catch (Exception | Error e) {
+                throw e;
+            }
+            catch (Throwable e) {
+                throw new MappingException("An error ocurred when calling constructor", e);
+            }
+        }
+    }
+
+    private final Callable<E> constructorCall(Constructor<? extends E> constructor) {
+        if (methodHandles) {
+            try {
+                return new MethodHandleConstructorCall<>(
+                    MethodHandles.lookup().unreflectConstructor(constructor).asType(MethodType.methodType(Object.class))
+                );
+            }
+            catch (IllegalAccessException e) {
+                log.debug("Cannot access constructor through method handle. Falling back to reflection", constructor);
+            }
+        }
+
+        return new ConstructorCall<>(constructor);
+    }
+
+    /**
+     * A pre-computed {@link MethodHandle} that sets a POJO member or calls a
+     * POJO setter, for use with {@link Settings#isMapWithMethodHandles()}.
+     */
+    private static final class MethodHandleSetter {
+
+        /**
+         * The setter handle of type <code>(Object, Object)void</code>.
+         */
+        final MethodHandle handle;
+
+        /**
+         * The type to convert the record value to.
+         */
+        final Class<?>     type;
+
+        /**
+         * [#3082] The component type for nested collection types, or
+         * <code>null</code> if no collection conversion is needed.
+         */
+        final Class<?>     componentType;
+
+        MethodHandleSetter(MethodHandle handle, Class<?> type, java.lang.reflect.Type genericType) {
+            this.handle = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+            this.type = type;
+            this.componentType = List.class.isAssignableFrom(type) && genericType instanceof ParameterizedType
+                ? rawType(((ParameterizedType) genericType).getActualTypeArguments()[0])
+                : null;
+        }
+
+        private static final Class<?> rawType(java.lang.reflect.Type t) {
+            if (t instanceof Class)
+                return (Class<?>) t;
+            else if (t instanceof ParameterizedType)
+                return rawType(((ParameterizedType) t).getRawType());
+            else
+                return Object.class;
+        }
+
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        final void set(Record record, int index, Object result) throws Throwable {
+            Object value = record.get(index, type);
+
+            if (componentType != null && value instanceof Collection)
+                value = Convert.convert((Collection) value, componentType);
+
+            handle.invokeExact(result, value);
+        }
+    }
+
     /**
      * Convert a record into a mutable POJO type
      * <p>
@@ -723,6 +823,7 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         private Map<String, List<Field<?>>>                     nestedMappedFields;
         private Map<String, List<Integer>>                      nestedIndexLookup;
         private final E                                         instance;
+        private MethodHandleSetter[][]                          setters;
 
         MutablePOJOMapper(Callable<E> constructor, E instance) {
             this.constructor = constructor;
@@ -800,6 +901,42 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
                     nestedMappers.put(prefix, list);
                 }
             }
+
+            if (methodHandles)
+                this.setters = setters();
+        }
+
+        /**
+         * Pre-compute a {@link MethodHandleSetter} for each non-final member
+         * and setter of each top-level field, or return <code>null</code> if
+         * any of them cannot be accessed through a method handle.
+         */
+        private final MethodHandleSetter[][] setters() {
+            Lookup lookup = MethodHandles.lookup();
+            MethodHandleSetter[][] result = new MethodHandleSetter[fields.length][];
+
+            try {
+                for (int i = 0; i < fields.length; i++) {
+                    List<MethodHandleSetter> list = new ArrayList<>();
+
+                    for (java.lang.reflect.Field member : members[i])
+
+                        // [#935] Avoid setting final fields
+                        if ((member.getModifiers() & Modifier.FINAL) == 0)
+                            list.add(new MethodHandleSetter(lookup.unreflectSetter(member), member.getType(), member.getGenericType()));
+
+                    for (Method method : methods[i])
+                        list.add(new MethodHandleSetter(lookup.unreflect(method).asFixedArity(), method.getParameterTypes()[0], method.getGenericParameterTypes()[0]));
+
+                    result[i] = list.toArray(new MethodHandleSetter[0]);
+                }
+
+                return result;
+            }
+            catch (IllegalAccessException e) {
+                log.debug("Cannot access members through method handles. Falling back to reflection", type);
+                return null;
+            }
         }
 
         final boolean isMutable() {
@@ -821,7 +958,12 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
             try {
                 E result = instance != null ? instance : constructor.call();
 
-                for (int i = 0; i < fields.length; i++) {
+                if (setters != null) {
+                    for (int i = 0; i < setters.length; i++)
+                        for (MethodHandleSetter setter : setters[i])
+                            setter.set(record, i, result);
+                }
+                else for (int i = 0; i < fields.length; i++) {
                     for (java.lang.reflect.Field member : members[i])
 
                         // [#935] Avoid setting final fields
@@ -873,7 +1015,10 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
 
                 return result;
             }
-            catch (Exception e) {
+            catch (Error e) {
+                throw e;
+            }
+            catch (Throwable e) {
                 throw new MappingException("An error ocurred when mapping record to " + type, e);
             }
         }
@@ -951,6 +1096,7 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
     private class ImmutablePOJOMapper implements RecordMapper<R, E> {
 
         final Constructor<E>                         constructor;
+        final MethodHandle                           constructorHandle;
         final Class<?>[]                             parameterTypes;
         private final boolean                        nested;
         private final int[]                          nonNestedIndexLookup;
@@ -960,6 +1106,7 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
 
         ImmutablePOJOMapper(Constructor<E> constructor, Class<?>[] parameterTypes, boolean supportsNesting) {
             this.constructor = accessible(constructor);
+            this.constructorHandle = constructorHandle(this.constructor);
             this.parameterTypes = parameterTypes;
             this.nestedMappedFields = new List[prefixes().size()];
             this.nestedMappers = new RecordMapper[prefixes().size()];
@@ -1008,12 +1155,42 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
             this.nested = hasNestedFields;
         }
 
+        /**
+         * A spreading constructor handle of type <code>(Object[])Object</code>,
+         * or <code>null</code> if reflection should be used.
+         */
+        private final MethodHandle constructorHandle(Constructor<E> c) {
+            if (methodHandles) {
+                try {
+                    return MethodHandles.lookup()
+                        .unreflectConstructor(c)
+                        .asFixedArity()
+                        .asSpreader(Object[].class, c.getParameterCount())
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+                }
+                catch (IllegalAccessException e) {
+                    log.debug("Cannot access constructor through method handle. Falling back to reflection", c);
+                }
+            }
+
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
         @Override
         public final E map(R record) {
             try {
-                return constructor.newInstance(nested ? mapNested(record) : mapNonnested(record));
+                Object[] args = nested ? mapNested(record) : mapNonnested(record);
+
+                if (constructorHandle != null)
+                    return (E) constructorHandle.invokeExact(args);
+                else
+                    return constructor.newInstance(args);
             }
-            catch (Exception e) {
+            catch (Error e) {
+                throw e;
+            }
+            catch (Throwable e) {
                 throw new MappingException("An error ocurred when mapping record to " + type, e);
             }
         }
@@ -46,10 +46,8 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 
 import org.jooq.Configuration;
@@ -216,20 +214,4 @@ final class DiagnosticsConnection extends DefaultConnection {
         else
             return null;
     }
-
-    // See https://stackoverflow.com/a/1953516/521799
-    static class LRU<V> extends LinkedHashMap<String, V> {
-        private static final long serialVersionUID = 5287799057535876982L;
-        private final int         size;
-
-        LRU(int size) {
-            super(size + 1, 1.0f, true);
-            this.size = size;
-        }
-
-        @Override
-        protected boolean removeEldestEntry(Entry<String, V> eldest) {
-            return size() > size;
-        }
-    }
 }
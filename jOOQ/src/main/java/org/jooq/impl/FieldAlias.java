@@ -86,4 +86,24 @@ final class FieldAlias<T> extends AbstractField<T> {
 
         return null;
     }
+
+    // ------------------------------------------------------------------------
+    // XXX: Object API
+    // ------------------------------------------------------------------------
+
+    @Override
+    public int hashCode() {
+        return alias.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that)
+            return true;
+
+        if (that instanceof FieldAlias)
+            return alias.equals(((FieldAlias<?>) that).alias);
+
+        return super.equals(that);
+    }
 }
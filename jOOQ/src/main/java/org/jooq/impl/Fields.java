@@ -46,7 +46,9 @@ import java.sql.SQLWarning;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.jooq.Context;
 import org.jooq.DataType;
@@ -68,8 +70,23 @@ final class Fields<R extends Record> extends AbstractQueryPart implements Record
 
     private static final long       serialVersionUID = -6911012275707591576L;
     private static final JooqLogger log              = JooqLogger.getLogger(Fields.class);
+
+    /**
+     * The number of fields beyond which lookups use a {@link #index}, rather
+     * than linear searches. Rows of up to this degree are usually created per
+     * record, so they would have to build their own index, whereas wider rows
+     * are shared by all records of a {@link org.jooq.Result} or
+     * {@link org.jooq.Cursor}, see {@link Tools#recordFactory(Class, Field[])}.
+     */
+    private static final int        INDEX_THRESHOLD  = 22;
+
     Field<?>[]                      fields;
 
+    /**
+     * The lazily built index of field positions by unqualified field name.
+     */
+    private transient volatile Map<String, int[]> index;
+
     Fields(Field<?>... fields) {
         this.fields = fields;
     }
@@ -93,6 +110,9 @@ final class Fields<R extends Record> extends AbstractQueryPart implements Record
         if (field == null)
             return result.resultNull();
 
+        if (fields.length > INDEX_THRESHOLD)
+            return field0(field, result, index().get(field.getName()));
+
         // [#4540] Try finding a match by identity
         for (int i = 0; i < fields.length; i++) {
             Field<?> f = fields[i];
@@ -152,6 +172,96 @@ final class Fields<R extends Record> extends AbstractQueryPart implements Record
         return result.result(columnMatch, indexMatch);
     }
 
+    /**
+     * The same as {@link #field0(Field, FieldOrIndex)}, preferring the
+     * <code>candidates</code> that share the argument field's unqualified name.
+     * Fields that match by identity, or by table and column name, always share
+     * their unqualified name. So do equal fields, if the argument field is an
+     * {@link AbstractNamed}, whose {@link Field#equals(Object)} rejects fields
+     * of other names early. Only bind values, which are equal by value, and
+     * fields that do not extend {@link AbstractNamed} need to be compared with
+     * the fields of other names.
+     */
+    private final <U> U field0(Field<?> field, FieldOrIndex<U> result, int[] candidates) {
+        if (candidates != null) {
+
+            // [#4540] Try finding a match by identity
+            for (int i : candidates)
+                if (fields[i] == field)
+                    return result.result(fields[i], i);
+
+            // [#1802] Try finding an exact match (e.g. exact matching qualified name)
+            for (int i : candidates)
+                if (fields[i].equals(field))
+                    return result.result(fields[i], i);
+        }
+
+        // [#1802] Try finding an exact match among the fields of other names
+        if (!(field instanceof AbstractNamed) || field instanceof AbstractParam) {
+            String fieldName = field.getName();
+
+            for (int i = 0; i < fields.length; i++) {
+                Field<?> f = fields[i];
+
+                if (!f.getName().equals(fieldName) && f.equals(field))
+                    return result.result(f, i);
+            }
+        }
+
+        if (candidates == null)
+            return result.result(null, -1);
+
+        // [#4283] table / column matches are better than only column matches
+        String tableName = tableName(field);
+
+        if (tableName != null) {
+            for (int i : candidates) {
+                String tName = tableName(fields[i]);
+
+                if (tName != null && tableName.equals(tName))
+                    return result.result(fields[i], i);
+            }
+        }
+
+        // [#4476] [#4477] This might be unintentional from a user
+        //                 perspective, e.g. when ambiguous ID columns are present.
+        if (candidates.length > 1)
+            if (log.isInfoEnabled())
+                log.info("Ambiguous match found for " + field.getName() + ". Both " + fields[candidates[0]] + " and " + fields[candidates[candidates.length - 1]] + " match.", new SQLWarning());
+
+        return result.result(fields[candidates[0]], candidates[0]);
+    }
+
+    /**
+     * Get the index of field positions by unqualified field name, building it
+     * if necessary.
+     */
+    private final Map<String, int[]> index() {
+        Map<String, int[]> result = index;
+
+        if (result == null) {
+            Field<?>[] f = fields;
+            result = new HashMap<>(f.length * 4 / 3 + 1);
+
+            for (int i = 0; i < f.length; i++) {
+                int[] positions = result.get(f[i].getName());
+
+                if (positions == null) {
+                    result.put(f[i].getName(), new int[] { i });
+                }
+                else {
+                    positions = Arrays.copyOf(positions, positions.length + 1);
+                    positions[positions.length - 1] = i;
+                    result.put(f[i].getName(), positions);
+                }
+            }
+
+            index = result;
+        }
+
+        return result;
+    }
+
     private final String tableName(Field<?> field) {
         if (field instanceof TableField) {
             Table<?> table = ((TableField<?, ?>) field).getTable();
@@ -172,6 +282,20 @@ final class Fields<R extends Record> extends AbstractQueryPart implements Record
         if (fieldName == null)
             return result.resultNull();
 
+        if (fields.length > INDEX_THRESHOLD) {
+            int[] candidates = index().get(fieldName);
+
+            if (candidates == null)
+                return result.result(null, -1);
+
+            // [#4476] [#4477] [#5046] This might be unintentional from a user
+            // perspective, e.g. when ambiguous ID columns are present.
+            for (int i = 1; i < candidates.length; i++)
+                log.info("Ambiguous match found for " + fieldName + ". Both " + fields[candidates[0]] + " and " + fields[candidates[i]] + " match.", new SQLWarning());
+
+            return result.result(fields[candidates[0]], candidates[0]);
+        }
+
         Field<?> columnMatch = null;
         int indexMatch = -1;
 
@@ -410,6 +534,7 @@ final class Fields<R extends Record> extends AbstractQueryPart implements Record
         result[fields.length] = f;
 
         fields = result;
+        index = null;
     }
 
 
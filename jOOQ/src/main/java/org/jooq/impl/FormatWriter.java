@@ -0,0 +1,271 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A {@link Writer} used by the <code>formatXYZ()</code> methods, which
+ * collects characters in a reusable buffer, and which formats and escapes
+ * common values directly into that buffer, without creating intermediary
+ * {@link String} instances.
+ *
+ * @author Lukas Eder
+ */
+final class FormatWriter extends Writer {
+
+    private static final int    BUFFER_SIZE = 8192;
+    private static final char[] HEX         = "0123456789ABCDEF".toCharArray();
+
+    private final Writer        writer;
+    private final char[]        buffer;
+    private int                 position;
+
+    private FormatWriter(Writer writer) {
+        this.writer = writer;
+        this.buffer = new char[BUFFER_SIZE];
+    }
+
+    /**
+     * Wrap a {@link Writer}, unless it is already a {@link FormatWriter}, e.g.
+     * when formatting nested records.
+     */
+    static final FormatWriter of(Writer writer) {
+        return writer instanceof FormatWriter ? (FormatWriter) writer : new FormatWriter(writer);
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Formatting API
+    // -------------------------------------------------------------------------
+
+    /**
+     * Write an integer number.
+     */
+    final void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            write(Long.toString(value));
+            return;
+        }
+
+        // A long has at most 19 digits and a sign
+        if (position + 20 > buffer.length)
+            flushBuffer();
+
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+
+        int end = position + digits(value);
+        int i = end;
+
+        do {
+            buffer[--i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        while (value != 0);
+
+        position = end;
+    }
+
+    private static final int digits(long value) {
+        int result = 1;
+
+        while (value >= 10) {
+            value /= 10;
+            result++;
+        }
+
+        return result;
+    }
+
+    /**
+     * Write a quoted and escaped JSON string, like
+     * {@link org.jooq.tools.json.JSONValue#writeJSONString(Object, Writer)}.
+     */
+    final void writeJSONString(String string) throws IOException {
+        write('"');
+
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+
+            switch (c) {
+                case '"':  write('\\'); write('"');  break;
+                case '\\': write('\\'); write('\\'); break;
+                case '\b': write('\\'); write('b');  break;
+                case '\f': write('\\'); write('f');  break;
+                case '\n': write('\\'); write('n');  break;
+                case '\r': write('\\'); write('r');  break;
+                case '\t': write('\\'); write('t');  break;
+                case '/':  write('\\'); write('/');  break;
+                default:
+                    if ((c >= '\u0000' && c <= '\u001F') || (c >= '\u007F' && c <= '\u009F') || (c >= '\u2000' && c <= '\u20FF')) {
+                        write('\\');
+                        write('u');
+                        write(HEX[(c >> 12) & 0xF]);
+                        write(HEX[(c >> 8) & 0xF]);
+                        write(HEX[(c >> 4) & 0xF]);
+                        write(HEX[c & 0xF]);
+                    }
+                    else
+                        write(c);
+            }
+        }
+
+        write('"');
+    }
+
+    /**
+     * Write an escaped XML string.
+     */
+    final void writeXML(String string) throws IOException {
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+
+            switch (c) {
+                case '"':  write("&quot;"); break;
+                case '\'': write("&apos;"); break;
+                case '<':  write("&lt;");   break;
+                case '>':  write("&gt;");   break;
+                case '&':  write("&amp;");  break;
+                default:   write(c);
+            }
+        }
+    }
+
+    /**
+     * Write a quoted CSV string, escaping backslashes and quotes.
+     */
+    final void writeCSV(String string, String quote) throws IOException {
+        write(quote);
+
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+
+            if (c == '\\') {
+                write('\\');
+                write('\\');
+            }
+            else if (!quote.isEmpty() && string.startsWith(quote, i)) {
+                write(quote);
+                write(quote);
+                i += quote.length() - 1;
+            }
+            else
+                write(c);
+        }
+
+        write(quote);
+    }
+
+    /**
+     * Write the buffered characters to the underlying {@link Writer}, without
+     * flushing it.
+     */
+    final void flushBuffer() throws IOException {
+        if (position > 0) {
+            writer.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Writer API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final void write(int c) throws IOException {
+        if (position == buffer.length)
+            flushBuffer();
+
+        buffer[position++] = (char) c;
+    }
+
+    @Override
+    public final void write(char[] chars, int off, int len) throws IOException {
+        if (len > buffer.length) {
+            flushBuffer();
+            writer.write(chars, off, len);
+            return;
+        }
+
+        if (position + len > buffer.length)
+            flushBuffer();
+
+        System.arraycopy(chars, off, buffer, position, len);
+        position += len;
+    }
+
+    @Override
+    public final void write(String string, int off, int len) throws IOException {
+        if (len > buffer.length) {
+            flushBuffer();
+            writer.write(string, off, len);
+            return;
+        }
+
+        if (position + len > buffer.length)
+            flushBuffer();
+
+        string.getChars(off, off + len, buffer, position);
+        position += len;
+    }
+
+    @Override
+    public final Writer append(CharSequence csq) throws IOException {
+        if (csq instanceof String)
+            write((String) csq);
+        else
+            write(String.valueOf(csq));
+
+        return this;
+    }
+
+    @Override
+    public final void flush() throws IOException {
+        flushBuffer();
+        writer.flush();
+    }
+
+    @Override
+    public final void close() throws IOException {
+        flushBuffer();
+        writer.close();
+    }
+}
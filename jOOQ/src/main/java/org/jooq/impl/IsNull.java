@@ -87,4 +87,26 @@ final class IsNull extends AbstractCondition {
     public final Clause[] clauses(Context<?> ctx) {
         return isNull ? CLAUSES_NULL : CLAUSES_NULL_NOT;
     }
+
+    // ------------------------------------------------------------------------
+    // XXX: Object API
+    // ------------------------------------------------------------------------
+
+    @Override
+    public int hashCode() {
+        return field.hashCode() * 31 + (isNull ? 1 : 0);
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that)
+            return true;
+
+        if (that instanceof IsNull) {
+            IsNull other = (IsNull) that;
+            return isNull == other.isNull && field.equals(other.field);
+        }
+
+        return super.equals(that);
+    }
 }
@@ -0,0 +1,299 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DefaultDataType.getDataType;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+import static org.jooq.tools.StringUtils.defaultIfBlank;
+
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.exception.DataAccessException;
+import org.jooq.exception.IOException;
+import org.jooq.tools.json.ContentHandler;
+import org.jooq.tools.json.JSONParser;
+import org.jooq.tools.json.JSONValue;
+import org.jooq.tools.json.ParseException;
+
+/**
+ * A streaming variant of {@link JSONReader}, which reads the records of a
+ * JSON document one at a time.
+ * <p>
+ * The same formats are supported as by {@link JSONReader}, i.e. those produced
+ * by {@link org.jooq.Formattable#formatJSON()}. The document is parsed with
+ * the resumable {@link JSONParser#parse(Reader, ContentHandler, boolean)}
+ * method, which is suspended after each record. Only the current record is
+ * kept in memory, never the <code>"records"</code> array itself.
+ * <p>
+ * Record values are returned as parsed, without any data type conversion.
+ * Nested JSON objects or arrays are returned as JSON strings.
+ *
+ * @author Lukas Eder
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+final class JSONStreamReader implements Iterator<Object[]> {
+
+    /**
+     * A marker for the <code>"records"</code> array, whose elements are not
+     * collected.
+     */
+    private static final List<Object>  RECORDS = new ArrayList<>(0);
+
+    private final DSLContext           ctx;
+    private final Reader               reader;
+    private final JSONParser           parser;
+    private final Handler              handler;
+    private Field<?>[]                 fields;
+    private Map<String, Integer>       fieldIndexes;
+    private Object[]                   next;
+    private boolean                    done;
+
+    JSONStreamReader(DSLContext ctx, Reader reader) {
+        this.ctx = ctx;
+        this.reader = reader;
+        this.parser = new JSONParser();
+        this.handler = new Handler();
+    }
+
+    /**
+     * The fields of the document, which are available after the first call to
+     * {@link #hasNext()}, or <code>null</code> if the document is empty.
+     */
+    final Field<?>[] fields() {
+        hasNext();
+        return fields;
+    }
+
+    @Override
+    public final boolean hasNext() {
+        if (next == null && !done) {
+            try {
+                parser.parse(reader, handler, true);
+            }
+            catch (java.io.IOException e) {
+                throw new IOException("Exception while reading JSON", e);
+            }
+            catch (ParseException e) {
+                throw new DataAccessException("Exception while parsing JSON", e);
+            }
+
+            if (handler.record == null)
+                done = true;
+            else
+                next = row(handler.record);
+
+            handler.record = null;
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public final Object[] next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        Object[] result = next;
+        next = null;
+        return result;
+    }
+
+    private final Object[] row(Object record) {
+        if (record instanceof Map) {
+            Map<String, Object> map = (Map<String, Object>) record;
+
+            if (fieldIndexes == null) {
+                fieldIndexes = new LinkedHashMap<>();
+
+                for (String key : map.keySet())
+                    fieldIndexes.put(key, fieldIndexes.size());
+
+                if (fields == null) {
+                    fields = new Field[fieldIndexes.size()];
+
+                    int i = 0;
+                    for (String key : fieldIndexes.keySet())
+                        fields[i++] = field(name(key), VARCHAR);
+                }
+            }
+
+            Object[] result = new Object[fieldIndexes.size()];
+            for (Entry<String, Object> entry : map.entrySet()) {
+                Integer index = fieldIndexes.get(entry.getKey());
+
+                // Attributes that are not present in the first record are ignored
+                if (index != null)
+                    result[index] = value(entry.getValue());
+            }
+
+            return result;
+        }
+        else {
+            List<Object> list = record instanceof List ? (List<Object>) record : Collections.singletonList(record);
+
+            if (fields == null)
+                fields = Tools.fields(list.size());
+
+            Object[] result = new Object[list.size()];
+            for (int i = 0; i < result.length; i++)
+                result[i] = value(list.get(i));
+
+            return result;
+        }
+    }
+
+    private static final Object value(Object value) {
+        return value instanceof Map || value instanceof List
+            ? JSONValue.toJSONString(value)
+            : value;
+    }
+
+    private final void fields(List<Map<String, Object>> list) {
+        fields = new Field[list.size()];
+
+        for (int i = 0; i < fields.length; i++) {
+            Map<String, Object> field = list.get(i);
+            String catalog = (String) field.get("catalog");
+            String schema = (String) field.get("schema");
+            String table = (String) field.get("table");
+            String name = (String) field.get("name");
+            String type = (String) field.get("type");
+
+            fields[i] = field(name(catalog, schema, table, name), getDataType(ctx.dialect(), defaultIfBlank(type, "VARCHAR")));
+        }
+    }
+
+    /**
+     * A {@link ContentHandler} that builds containers for all values, except
+     * for the <code>"records"</code> array. Parsing is suspended whenever a
+     * record has been built.
+     */
+    private final class Handler implements ContentHandler {
+        final Deque<Object> stack = new ArrayDeque<>();
+        final Deque<String> keys  = new ArrayDeque<>();
+        Object              record;
+
+        @Override
+        public void startJSON() {}
+
+        @Override
+        public void endJSON() {}
+
+        @Override
+        public boolean startObject() {
+            stack.push(new LinkedHashMap<>());
+            return true;
+        }
+
+        @Override
+        public boolean endObject() {
+            return add(stack.pop());
+        }
+
+        @Override
+        public boolean startObjectEntry(String key) {
+            keys.push(key);
+
+            // The "fields" always precede the "records" in formatJSON() output
+            if (stack.size() == 1 && "records".equals(key)) {
+                List<Map<String, Object>> list = (List) ((Map) stack.peek()).get("fields");
+
+                if (list != null)
+                    fields(list);
+            }
+
+            return true;
+        }
+
+        @Override
+        public boolean endObjectEntry() {
+            keys.pop();
+            return true;
+        }
+
+        @Override
+        public boolean startArray() {
+            if (stack.isEmpty() || stack.size() == 1 && stack.peek() instanceof Map && "records".equals(keys.peek()))
+                stack.push(RECORDS);
+            else
+                stack.push(new ArrayList<>());
+
+            return true;
+        }
+
+        @Override
+        public boolean endArray() {
+            Object array = stack.pop();
+            return array == RECORDS || add(array);
+        }
+
+        @Override
+        public boolean primitive(Object value) {
+            return add(value);
+        }
+
+        private final boolean add(Object value) {
+            Object parent = stack.peek();
+
+            if (parent == RECORDS) {
+                record = value;
+                return false;
+            }
+            else if (parent instanceof Map)
+                ((Map) parent).put(keys.peek(), value);
+            else if (parent instanceof List)
+                ((List) parent).add(value);
+
+            return true;
+        }
+    }
+}
@@ -38,6 +38,7 @@
 package org.jooq.impl;
 
 import static java.lang.Boolean.FALSE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 // ...
 import static org.jooq.SQLDialect.MARIADB;
 // ...
@@ -59,11 +60,20 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import javax.xml.bind.DatatypeConverter;
@@ -89,7 +99,6 @@ import org.jooq.LoaderRowListener;
 import org.jooq.LoaderRowsStep;
 import org.jooq.LoaderXMLStep;
 import org.jooq.Record;
-import org.jooq.Result;
 import org.jooq.SQLDialect;
 import org.jooq.Source;
 import org.jooq.Table;
@@ -98,7 +107,7 @@ import org.jooq.exception.LoaderConfigurationException;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.StringUtils;
 import org.jooq.tools.csv.CSVParser;
-import org.jooq.tools.csv.CSVReader;
+import org.jooq.tools.csv.CSVTokenizer;
 import org.jooq.tools.jdbc.DefaultPreparedStatement;
 
 import org.xml.sax.InputSource;
@@ -122,6 +131,11 @@ final class LoaderImpl<R extends Record> implements
     private static final JooqLogger      log                              = JooqLogger.getLogger(LoaderImpl.class);
     private static final Set<SQLDialect> NO_SUPPORT_ROWCOUNT_ON_DUPLICATE = SQLDialect.supportedBy(MARIADB, MYSQL);
 
+    /**
+     * The approximate number of rows handed over to a parallel worker at once.
+     */
+    private static final int             PARALLEL_CHUNK_SIZE              = 256;
+
     // Configuration constants
     // -----------------------
     private static final int             ON_DUPLICATE_KEY_ERROR           = 0;
@@ -160,6 +174,7 @@ final class LoaderImpl<R extends Record> implements
     private int                          batchAfter                       = 1;
     private int                          bulk                             = BULK_NONE;
     private int                          bulkAfter                        = 1;
+    private int                          parallelism                      = 1;
     private int                          content                          = CONTENT_CSV;
     private Source                       input;
     private Iterator<? extends Object[]> arrays;
@@ -186,14 +201,52 @@ final class LoaderImpl<R extends Record> implements
     private int                          stored;
     private int                          executed;
     private int                          buffered;
+    private long                         chunkStart;
     private final List<LoaderError>      errors;
 
+    // Parallel execution data
+    // -----------------------
+    private List<LoaderImpl<R>>          workers;
+    private ChunkIterator                chunks;
+
     LoaderImpl(Configuration configuration, Table<R> table) {
         this.configuration = configuration;
         this.table = table;
         this.errors = new ArrayList<>();
     }
 
+    /**
+     * Create a worker of a parallel load, which shares the parent's options.
+     */
+    private LoaderImpl(LoaderImpl<R> parent, Configuration configuration, ChunkIterator chunks) {
+        this.configuration = configuration;
+        this.table = parent.table;
+        this.errors = Collections.synchronizedList(new ArrayList<>());
+        this.chunks = chunks;
+
+        this.onDuplicate = parent.onDuplicate;
+        this.onError = parent.onError;
+        this.commit = parent.commit;
+        this.commitAfter = parent.commitAfter;
+        this.batch = parent.batch;
+        this.batchAfter = parent.batchAfter;
+        this.bulk = parent.bulk;
+        this.bulkAfter = parent.bulkAfter;
+        this.nullString = parent.nullString;
+        this.source = parent.source;
+        this.fields = parent.fields;
+        this.fieldMapper = parent.fieldMapper;
+        this.fieldsCorresponding = parent.fieldsCorresponding;
+        this.primaryKey = parent.primaryKey;
+        this.rowCtx = new ParallelLoaderContext(parent);
+
+        // Listeners need not be thread safe
+        if (parent.onRowStart != null)
+            this.onRowStart = ctx -> { synchronized (parent) { parent.onRowStart.row(ctx); } };
+        if (parent.onRowEnd != null)
+            this.onRowEnd = ctx -> { synchronized (parent) { parent.onRowEnd.row(ctx); } };
+    }
+
     // -------------------------------------------------------------------------
     // Configuration setup
     // -------------------------------------------------------------------------
@@ -298,6 +351,12 @@ final class LoaderImpl<R extends Record> implements
         return this;
     }
 
+    @Override
+    public final LoaderImpl<R> parallelism(int number) {
+        parallelism = number;
+        return this;
+    }
+
     @Override
     public final LoaderRowsStep<R> loadArrays(Object[]... a) {
         return loadArrays(Arrays.asList(a));
@@ -464,15 +523,21 @@ final class LoaderImpl<R extends Record> implements
 
     @Override
     public final LoaderImpl<R> loadXML(InputSource s) {
-        content = CONTENT_XML;
-        throw new UnsupportedOperationException("This is not yet implemented");
+        if (s.getCharacterStream() != null)
+            return loadXML(s.getCharacterStream());
+        else if (s.getByteStream() != null)
+            return s.getEncoding() != null
+                ? loadXML(s.getByteStream(), s.getEncoding())
+                : loadXML(s.getByteStream());
+        else
+            throw new LoaderConfigurationException("Only InputSources with a character stream or a byte stream are supported");
     }
 
     @Override
     public final LoaderImpl<R> loadXML(Source s) {
         content = CONTENT_XML;
         input = s;
-        throw new UnsupportedOperationException("This is not yet implemented");
+        return this;
     }
 
     @Override
@@ -672,7 +737,7 @@ final class LoaderImpl<R extends Record> implements
         if (content == CONTENT_CSV)
             executeCSV();
         else if (content == CONTENT_XML)
-            throw new UnsupportedOperationException();
+            executeXML();
         else if (content == CONTENT_JSON)
             executeJSON();
         else if (content == CONTENT_ARRAYS)
@@ -686,6 +751,8 @@ final class LoaderImpl<R extends Record> implements
     private final void checkFlags() {
         if (bulk != BULK_NONE && onDuplicate != ON_DUPLICATE_KEY_ERROR)
             throw new LoaderConfigurationException("Cannot apply bulk loading with onDuplicateKey flags. Turn off either flag.");
+        if (parallelism > 1 && commit == COMMIT_ALL)
+            throw new LoaderConfigurationException("Cannot apply parallelism with commitAll(), as each worker uses its own connection. Turn off either flag.");
     }
 
     private final void executeJSON() {
@@ -693,13 +760,27 @@ final class LoaderImpl<R extends Record> implements
 
         try {
             reader = input.reader();
-            Result<Record> r = new JSONReader(configuration.dsl()).read(reader);
-            source = r.fields();
 
-            // The current json format is not designed for streaming. Thats why
-            // all records are loaded at once.
-            List<Object[]> allRecords = Arrays.asList(r.intoArrays());
-            executeSQL(allRecords.iterator());
+            // Records are read one at a time, as they are loaded
+            JSONStreamReader json = new JSONStreamReader(configuration.dsl(), reader);
+            source = json.fields();
+            executeSQL(json);
+        }
+        finally {
+            safeClose(reader);
+        }
+    }
+
+    private final void executeXML() {
+        Reader reader = null;
+
+        try {
+            reader = input.reader();
+
+            // Records are read one at a time, as they are loaded
+            XMLRecordReader xml = new XMLRecordReader(configuration.dsl(), reader);
+            source = xml.fields();
+            executeSQL(xml);
         }
         finally {
             safeClose(reader);
@@ -707,15 +788,15 @@ final class LoaderImpl<R extends Record> implements
     }
 
     private final void executeCSV() {
-        CSVReader reader = null;
+        CSVTokenizer reader = null;
 
         try {
             if (ignoreRows == 1) {
-                reader = new CSVReader(input.reader(), separator, quote, 0);
+                reader = new CSVTokenizer(input.reader(), separator, quote, 0);
                 source = Tools.fieldsByName(reader.next());
             }
             else {
-                reader = new CSVReader(input.reader(), separator, quote, ignoreRows);
+                reader = new CSVTokenizer(input.reader(), separator, quote, ignoreRows);
             }
 
             executeSQL(reader);
@@ -771,6 +852,17 @@ final class LoaderImpl<R extends Record> implements
     }
 
     private final void executeSQL(final Iterator<? extends Object[]> iterator) {
+        if (parallelism > 1) {
+
+            // Loads on a single JDBC connection cannot run in parallel
+            if (configuration.connectionProvider() instanceof DefaultConnectionProvider)
+                log.debug("Parallel load", "Loading sequentially on a single JDBC connection");
+            else {
+                executeParallel(iterator);
+                return;
+            }
+        }
+
         configuration.dsl().connection(new ConnectionRunnable() {
             @Override
             public void run(Connection connection) throws Exception {
@@ -805,6 +897,7 @@ final class LoaderImpl<R extends Record> implements
         BatchBindStep bind = null;
         InsertQuery<R> insert = null;
         boolean newRecord = false;
+        chunkStart = System.nanoTime();
 
         execution: {
             rows: while (iterator.hasNext() && ((row = iterator.next()) != null)) {
@@ -918,6 +1011,7 @@ final class LoaderImpl<R extends Record> implements
                         stored += totalRowCounts;
                         ignored += buffered - totalRowCounts;
                         executed++;
+                        logChunk();
 
                         buffered = 0;
                         bind = null;
@@ -928,7 +1022,7 @@ final class LoaderImpl<R extends Record> implements
                                 commit();
                     }
                     catch (DataAccessException e) {
-                        errors.add(new LoaderErrorImpl(e, row, processed - 1, insert));
+                        errors.add(new LoaderErrorImpl(e, row, rowIndex(), insert));
                         ignored += buffered;
                         buffered = 0;
 
@@ -954,11 +1048,12 @@ final class LoaderImpl<R extends Record> implements
 
                     stored += buffered;
                     executed++;
+                    logChunk();
 
                     buffered = 0;
                 }
                 catch (DataAccessException e) {
-                    errors.add(new LoaderErrorImpl(e, row, processed - 1, insert));
+                    errors.add(new LoaderErrorImpl(e, row, rowIndex(), insert));
                     ignored += buffered;
                     buffered = 0;
                 }
@@ -988,7 +1083,151 @@ final class LoaderImpl<R extends Record> implements
             }
         }
         catch (DataAccessException e) {
-            errors.add(new LoaderErrorImpl(e, null, processed - 1, null));
+            errors.add(new LoaderErrorImpl(e, null, rowIndex(), null));
+        }
+    }
+
+    /**
+     * Execute the load with {@link #parallelism} workers.
+     * <p>
+     * The calling thread reads the <code>iterator</code> and hands over chunks
+     * of rows to a bounded queue. Each worker is a {@link LoaderImpl} with the
+     * same options as this one, which acquires its own connection, and which
+     * processes rows taken from the queue through the usual
+     * {@link #executeSQL(Iterator)} logic. Counts and errors are aggregated
+     * once all workers are done.
+     */
+    private final void executeParallel(Iterator<? extends Object[]> iterator) {
+        int unit = (bulk == BULK_AFTER ? bulkAfter : 1) * (batch == BATCH_AFTER ? batchAfter : 1);
+        int chunkSize = unit * Math.max(1, PARALLEL_CHUNK_SIZE / unit);
+
+        BlockingQueue<Chunk> queue = new ArrayBlockingQueue<>(2 * parallelism);
+        AtomicBoolean stop = new AtomicBoolean();
+        Executor executor = configuration.executorProvider().provide();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(parallelism);
+        Throwable failure = null;
+
+        workers = Collections.synchronizedList(new ArrayList<>(parallelism));
+        for (int i = 0; i < parallelism; i++)
+            futures.add(CompletableFuture.runAsync(() -> executeWorker(new ChunkIterator(queue, stop)), executor));
+
+        try {
+            List<Object[]> rows = new ArrayList<>(chunkSize);
+            int offset = 0;
+            Object[] row;
+
+            while (!stop.get() && iterator.hasNext() && ((row = iterator.next()) != null)) {
+                rows.add(row);
+
+                if (rows.size() == chunkSize) {
+                    put(queue, new Chunk(offset, rows), stop);
+                    offset += chunkSize;
+                    rows = new ArrayList<>(chunkSize);
+                }
+            }
+
+            if (!rows.isEmpty())
+                put(queue, new Chunk(offset, rows), stop);
+
+            for (int i = 0; i < parallelism; i++)
+                put(queue, Chunk.END, stop);
+        }
+        catch (RuntimeException | Error e) {
+            stop.set(true);
+            failure = e;
+        }
+
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            }
+            catch (CompletionException e) {
+                if (failure == null)
+                    failure = e.getCause();
+            }
+        }
+
+        for (LoaderImpl<R> worker : workers) {
+            processed += worker.processed;
+            stored += worker.stored;
+            ignored += worker.ignored;
+            executed += worker.executed;
+            errors.addAll(worker.errors);
+        }
+
+        errors.sort(Comparator.comparingInt(LoaderError::rowIndex));
+        workers = null;
+
+        if (failure instanceof RuntimeException)
+            throw (RuntimeException) failure;
+        else if (failure instanceof Error)
+            throw (Error) failure;
+        else if (failure != null)
+            throw new DataAccessException("Error while loading", failure);
+    }
+
+    /**
+     * Hand over a chunk to the workers, unless the load has been stopped.
+     */
+    private static final void put(BlockingQueue<Chunk> queue, Chunk chunk, AtomicBoolean stop) {
+        try {
+            while (!queue.offer(chunk, 10, MILLISECONDS))
+                if (stop.get())
+                    return;
+        }
+        catch (InterruptedException e) {
+            stop.set(true);
+            Thread.currentThread().interrupt();
+            throw new DataAccessException("Interrupted while loading", e);
+        }
+    }
+
+    /**
+     * The body of a worker of a parallel load, which loads rows from
+     * <code>chunks</code> on its own connection.
+     */
+    private final void executeWorker(ChunkIterator chunks) {
+        try {
+            Connection connection = configuration.connectionProvider().acquire();
+
+            try {
+
+                // The worker's commits must go to the worker's connection
+                LoaderImpl<R> worker = new LoaderImpl<>(this, configuration.derive(new DefaultConnectionProvider(connection)), chunks);
+                workers.add(worker);
+                worker.executeSQL(chunks);
+
+                if (onError == ON_ERROR_ABORT && !worker.errors.isEmpty())
+                    chunks.stop.set(true);
+            }
+            finally {
+                configuration.connectionProvider().release(connection);
+            }
+        }
+        catch (RuntimeException | Error e) {
+            chunks.stop.set(true);
+            throw e;
+        }
+    }
+
+    /**
+     * The index of the row that is currently being processed.
+     */
+    private final int rowIndex() {
+        return chunks != null ? chunks.index : processed - 1;
+    }
+
+    /**
+     * Log the throughput of the chunk of {@link #buffered} rows that has just
+     * been executed.
+     */
+    private final void logChunk() {
+        if (log.isDebugEnabled()) {
+            long now = System.nanoTime();
+            long micros = Math.max(1L, (now - chunkStart) / 1000L);
+
+            log.debug("Loader chunk", "Executed chunk " + executed + " with " + buffered + " rows in " + (micros / 1000L) + "ms (" + (buffered * 1000000L / micros) + " rows/s). Total processed: " + processed + ", stored: " + stored + ", ignored: " + ignored);
+            chunkStart = now;
         }
     }
 
@@ -1062,6 +1301,161 @@ final class LoaderImpl<R extends Record> implements
         return rowCtx;
     }
 
+    /**
+     * A chunk of rows of a parallel load, and the global index of its first
+     * row.
+     */
+    private static final class Chunk {
+        static final Chunk   END = new Chunk(-1, Collections.emptyList());
+
+        final int            offset;
+        final List<Object[]> rows;
+
+        Chunk(int offset, List<Object[]> rows) {
+            this.offset = offset;
+            this.rows = rows;
+        }
+    }
+
+    /**
+     * A row iterator of a parallel load worker, which takes chunks of rows from
+     * a queue until the {@link Chunk#END} chunk is taken, or the load is
+     * stopped.
+     */
+    private static final class ChunkIterator implements Iterator<Object[]> {
+        final BlockingQueue<Chunk> queue;
+        final AtomicBoolean        stop;
+        Iterator<Object[]>         current;
+        boolean                    done;
+
+        /**
+         * The global index of the row returned last from {@link #next()}.
+         */
+        int                        index = -1;
+
+        ChunkIterator(BlockingQueue<Chunk> queue, AtomicBoolean stop) {
+            this.queue = queue;
+            this.stop = stop;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!done && (current == null || !current.hasNext())) {
+                try {
+                    Chunk chunk = null;
+
+                    while (chunk == null && !stop.get())
+                        chunk = queue.poll(10, MILLISECONDS);
+
+                    if (chunk == null || chunk == Chunk.END)
+                        done = true;
+                    else {
+                        current = chunk.rows.iterator();
+                        index = chunk.offset - 1;
+                    }
+                }
+                catch (InterruptedException e) {
+                    stop.set(true);
+                    Thread.currentThread().interrupt();
+                    throw new DataAccessException("Interrupted while loading", e);
+                }
+            }
+
+            return !done && !stop.get();
+        }
+
+        @Override
+        public Object[] next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            index++;
+            return current.next();
+        }
+    }
+
+    /**
+     * The {@link LoaderContext} of a parallel load worker, which reports counts
+     * and errors aggregated across all workers.
+     */
+    private class ParallelLoaderContext implements LoaderContext {
+        final LoaderImpl<R> parent;
+        Object[]            row;
+
+        ParallelLoaderContext(LoaderImpl<R> parent) {
+            this.parent = parent;
+        }
+
+        private final List<LoaderImpl<R>> workers() {
+            synchronized (parent.workers) {
+                return new ArrayList<>(parent.workers);
+            }
+        }
+
+        @Override
+        public final LoaderContext row(Object[] r) {
+            this.row = r;
+            return this;
+        }
+
+        @Override
+        public final Object[] row() {
+            return row;
+        }
+
+        @Override
+        public final List<LoaderError> errors() {
+            List<LoaderError> result = new ArrayList<>();
+
+            for (LoaderImpl<R> worker : workers())
+                synchronized (worker.errors) {
+                    result.addAll(worker.errors);
+                }
+
+            return result;
+        }
+
+        @Override
+        public final int processed() {
+            int result = 0;
+
+            for (LoaderImpl<R> worker : workers())
+                result += worker.processed;
+
+            return result;
+        }
+
+        @Override
+        public final int executed() {
+            int result = 0;
+
+            for (LoaderImpl<R> worker : workers())
+                result += worker.executed;
+
+            return result;
+        }
+
+        @Override
+        public final int ignored() {
+            int result = 0;
+
+            for (LoaderImpl<R> worker : workers())
+                result += worker.ignored;
+
+            return result;
+        }
+
+        @Override
+        public final int stored() {
+            int result = 0;
+
+            for (LoaderImpl<R> worker : workers())
+                result += worker.stored;
+
+            return result;
+        }
+    }
+
     private class DefaultLoaderContext implements LoaderContext {
         Object[] row;
 
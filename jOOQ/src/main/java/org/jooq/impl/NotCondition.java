@@ -70,4 +70,24 @@ final class NotCondition extends AbstractCondition {
     public final Clause[] clauses(Context<?> ctx) {
         return CLAUSES;
     }
+
+    // ------------------------------------------------------------------------
+    // XXX: Object API
+    // ------------------------------------------------------------------------
+
+    @Override
+    public int hashCode() {
+        return ~condition.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that)
+            return true;
+
+        if (that instanceof NotCondition)
+            return condition.equals(((NotCondition) that).condition);
+
+        return super.equals(that);
+    }
 }
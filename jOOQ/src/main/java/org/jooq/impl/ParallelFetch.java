@@ -0,0 +1,423 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.SortOrder.DESC;
+import static org.jooq.impl.DSL.max;
+import static org.jooq.impl.DSL.min;
+import static org.jooq.impl.DSL.noCondition;
+import static org.jooq.impl.Tools.blocking;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jooq.Condition;
+import org.jooq.Configuration;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SortField;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * The implementation of {@link org.jooq.Select#fetchParallel(Field, int)} and
+ * {@link org.jooq.Select#fetchStreamParallel(Field, int)}.
+ * <p>
+ * A query is split into range partitions on a numeric field, whose bounds are
+ * computed from a <code>MIN()</code> and <code>MAX()</code> query. The first
+ * partition also contains <code>NULL</code> values, and the first and last
+ * partitions are open ended, such that rows that are inserted between the
+ * bounds query and the partitioned queries are not lost.
+ *
+ * @author Lukas Eder
+ */
+final class ParallelFetch<R extends Record> {
+
+    private static final JooqLogger          log = JooqLogger.getLogger(ParallelFetch.class);
+
+    private final SelectQueryImpl<R>         query;
+    private final Field<Number>              partitionBy;
+    private final int                        partitions;
+    private final Comparator<R>              comparator;
+    private final List<SortField<?>>         orderBy;
+    private final List<SelectQueryImpl<R>>   queries;
+    private final List<CompletableFuture<Result<R>>> futures;
+
+    @SuppressWarnings("unchecked")
+    ParallelFetch(SelectQueryImpl<R> query, Field<? extends Number> partitionBy, int partitions) {
+        if (partitions < 1)
+            throw new IllegalArgumentException("Number of partitions must be positive: " + partitions);
+        if (query.getLimit().isApplicable() || !query.getSeek().isEmpty() || query.hasUnions())
+            throw new IllegalStateException("Cannot partition a query with LIMIT, OFFSET, SEEK, or set operations");
+
+        this.query = query;
+        this.partitionBy = (Field<Number>) partitionBy;
+        this.partitions = partitions;
+        this.comparator = comparator();
+        this.orderBy = orderBy();
+        this.queries = new ArrayList<>();
+        this.futures = new ArrayList<>();
+    }
+
+    /**
+     * Merge the partitions into a {@link Result}.
+     */
+    final Result<R> fetch() {
+        execute();
+
+        try {
+            Result<R> first = join(futures.get(0));
+
+            if (futures.size() == 1)
+                return first;
+
+            Result<R> result = new ResultImpl<>(query.configuration(), first.fields());
+            for (Iterator<R> it = iterator(); it.hasNext();)
+                result.add(it.next());
+
+            return result;
+        }
+        catch (RuntimeException | Error e) {
+            cancel();
+            throw e;
+        }
+    }
+
+    /**
+     * Merge the partitions lazily into a {@link Stream}.
+     */
+    final Stream<R> stream() {
+        execute();
+
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL),
+            false
+        ).onClose(this::cancel);
+    }
+
+    private final void execute() {
+        Configuration configuration = Tools.configuration(query);
+
+        // Queries on a single JDBC connection cannot run in parallel
+        Executor executor;
+        if (configuration.connectionProvider() instanceof DefaultConnectionProvider) {
+            log.debug("Parallel fetch", "Executing partitions sequentially on a single JDBC connection");
+            executor = Runnable::run;
+        }
+        else
+            executor = configuration.executorProvider().provide();
+
+        for (Condition condition : conditions()) {
+            SelectQueryImpl<R> q = query.copy();
+            q.addConditions(condition);
+
+            if (orderBy != null) {
+                q.getOrderBy().clear();
+                q.addOrderBy(orderBy);
+            }
+
+            queries.add(q);
+            futures.add(CompletableFuture.supplyAsync(blocking(q::fetch), executor));
+        }
+    }
+
+    private final void cancel() {
+        for (int i = 0; i < futures.size(); i++) {
+            if (!futures.get(i).isDone()) {
+                futures.get(i).cancel(false);
+
+                try {
+                    queries.get(i).cancel();
+                }
+                catch (RuntimeException e) {
+                    log.debug("Error while cancelling statement", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Compute the partition predicates from the range of values of
+     * {@link #partitionBy}.
+     */
+    private final List<Condition> conditions() {
+        List<Condition> result = new ArrayList<>();
+
+        if (partitions > 1) {
+            Record bounds = query.copyFromWhere(min(partitionBy), max(partitionBy)).fetchOne();
+            Number lo = bounds == null ? null : (Number) bounds.get(0);
+            Number hi = bounds == null ? null : (Number) bounds.get(1);
+
+            if (lo != null && hi != null) {
+                Field<Number> f = partitionBy;
+                Number previous = null;
+
+                for (Number bound : bounds(lo, hi)) {
+                    result.add(previous == null
+                        ? f.lt(bound).or(f.isNull())
+                        : f.ge(previous).and(f.lt(bound)));
+
+                    previous = bound;
+                }
+
+                if (previous != null)
+                    result.add(f.ge(previous));
+            }
+        }
+
+        if (result.isEmpty())
+            result.add(noCondition());
+
+        return result;
+    }
+
+    /**
+     * Split <code>[lo, hi]</code> into up to {@link #partitions} ranges, and
+     * return the distinct inner bounds.
+     */
+    private final List<Number> bounds(Number lo, Number hi) {
+        Class<?> type = partitionBy.getType();
+        boolean integral = type == Byte.class
+                        || type == Short.class
+                        || type == Integer.class
+                        || type == Long.class
+                        || type == BigInteger.class;
+
+        BigDecimal l = new BigDecimal(lo.toString());
+        BigDecimal h = new BigDecimal(hi.toString());
+        BigDecimal step = h.subtract(l).divide(BigDecimal.valueOf(partitions), MathContext.DECIMAL128);
+        TreeSet<BigDecimal> set = new TreeSet<>();
+
+        for (int i = 1; i < partitions; i++) {
+            BigDecimal b = l.add(step.multiply(BigDecimal.valueOf(i)));
+
+            if (integral)
+                b = b.setScale(0, RoundingMode.CEILING);
+
+            if (b.compareTo(l) > 0 && b.compareTo(h) <= 0)
+                set.add(b);
+        }
+
+        List<Number> result = new ArrayList<>(set.size());
+        for (BigDecimal b : set)
+            result.add(partitionBy.getDataType().convert(b));
+
+        return result;
+    }
+
+    /**
+     * A comparator for the query's <code>ORDER BY</code> clause, or
+     * <code>null</code> if there is no such clause.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private final Comparator<R> comparator() {
+        if (query.getOrderBy().isEmpty())
+            return null;
+
+        Fields<?> fields = new Fields<>(query.getSelect());
+        Comparator<R> result = null;
+
+        for (SortField<?> s : query.getOrderBy()) {
+            int index = s instanceof SortFieldImpl ? fields.indexOf(((SortFieldImpl<?>) s).getField()) : -1;
+
+            if (index < 0)
+                throw new IllegalStateException("Cannot merge partitions ordered by an expression that is not selected: " + s);
+
+            boolean desc = s.getOrder() == DESC;
+            boolean nullsFirst = nullsFirst((SortFieldImpl<?>) s);
+
+            Comparator<Object> values = (a, b) -> a instanceof Comparable ? ((Comparable) a).compareTo(b) : 0;
+            if (desc)
+                values = values.reversed();
+
+            Comparator<R> c = Comparator.comparing(
+                r -> r.get(index),
+                nullsFirst ? Comparator.nullsFirst(values) : Comparator.nullsLast(values)
+            );
+
+            result = result == null ? c : result.thenComparing(c);
+        }
+
+        return result;
+    }
+
+    /**
+     * The query's <code>ORDER BY</code> clause with an explicit
+     * <code>NULLS FIRST</code> or <code>NULLS LAST</code> clause on each
+     * {@link SortField}, or <code>null</code> if there is no such clause.
+     * <p>
+     * The default ordering of <code>NULL</code> values differs between
+     * dialects, but the {@link #comparator} must know the order in which each
+     * partition arrives.
+     */
+    private final List<SortField<?>> orderBy() {
+        if (comparator == null)
+            return null;
+
+        List<SortField<?>> result = new ArrayList<>();
+
+        // SortFieldImpl is mutable, and shared by all copies of the query
+        for (SortField<?> s : query.getOrderBy()) {
+            SortField<?> sort = ((SortFieldImpl<?>) s).getField().sort(s.getOrder());
+            result.add(nullsFirst((SortFieldImpl<?>) s) ? sort.nullsFirst() : sort.nullsLast());
+        }
+
+        return result;
+    }
+
+    /**
+     * Whether <code>NULL</code> values are sorted first.
+     * <p>
+     * Unless specified otherwise, <code>NULL</code> values are sorted as if
+     * they were larger than any other value.
+     */
+    private static final boolean nullsFirst(SortFieldImpl<?> s) {
+        return s.getNullsFirst() || (!s.getNullsLast() && s.getOrder() == DESC);
+    }
+
+    /**
+     * An iterator over all partitions, which are either concatenated in
+     * partition order, or merged by {@link #comparator}.
+     */
+    private final Iterator<R> iterator() {
+        return comparator == null ? new ConcatIterator() : new MergeIterator();
+    }
+
+    private static final <R extends Record> Result<R> join(CompletableFuture<Result<R>> future) {
+        try {
+            return future.join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            else if (e.getCause() instanceof Error)
+                throw (Error) e.getCause();
+            else
+                throw e;
+        }
+    }
+
+    private final class ConcatIterator implements Iterator<R> {
+        private int         partition = -1;
+        private Iterator<R> current;
+
+        @Override
+        public boolean hasNext() {
+            while (current == null || !current.hasNext()) {
+                if (++partition >= futures.size())
+                    return false;
+
+                current = join(futures.get(partition)).iterator();
+            }
+
+            return true;
+        }
+
+        @Override
+        public R next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            return current.next();
+        }
+    }
+
+    private final class MergeIterator implements Iterator<R> {
+        private PriorityQueue<Head> heads;
+
+        @Override
+        public boolean hasNext() {
+            if (heads == null) {
+                heads = new PriorityQueue<>(futures.size(), Comparator
+                    .comparing((Head h) -> h.record, comparator)
+                    .thenComparingInt(h -> h.partition));
+
+                for (int i = 0; i < futures.size(); i++) {
+                    Iterator<R> it = join(futures.get(i)).iterator();
+
+                    if (it.hasNext())
+                        heads.add(new Head(it.next(), it, i));
+                }
+            }
+
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public R next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            Head head = heads.poll();
+            R result = head.record;
+
+            if (head.iterator.hasNext())
+                heads.add(new Head(head.iterator.next(), head.iterator, head.partition));
+
+            return result;
+        }
+    }
+
+    private final class Head {
+        final R           record;
+        final Iterator<R> iterator;
+        final int         partition;
+
+        Head(R record, Iterator<R> iterator, int partition) {
+            this.record = record;
+            this.iterator = iterator;
+            this.partition = partition;
+        }
+    }
+}
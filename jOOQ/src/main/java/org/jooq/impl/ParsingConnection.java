@@ -37,16 +37,25 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.FALSE;
+import static org.jooq.impl.Tools.DataCacheKey.DATA_CACHE_PARSING_CONNECTION;
+
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jooq.Configuration;
 import org.jooq.DSLContext;
 import org.jooq.Parser;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.jdbc.DefaultConnection;
+import org.jooq.tools.metrics.CacheStatistics;
 
 /**
  * @author Lukas Eder
@@ -68,6 +77,34 @@ final class ParsingConnection extends DefaultConnection {
     }
 
     final String translate(String sql) {
+        TranslationCache cache = TranslationCache.get(configuration);
+
+        if (cache == null)
+            return translate0(sql);
+
+        String result = cache.translations.get(sql);
+
+        if (result != null) {
+            cache.hits.incrementAndGet();
+
+            if (log.isTraceEnabled())
+                log.trace("Translation cache hit", sql);
+        }
+        else {
+            cache.misses.incrementAndGet();
+            result = translate0(sql);
+            cache.translations.put(sql, result);
+        }
+
+        return result;
+    }
+
+    static final CacheStatistics statistics(Configuration configuration) {
+        TranslationCache cache = (TranslationCache) configuration.data(DATA_CACHE_PARSING_CONNECTION);
+        return cache == null ? new CacheStatistics(0, 0, 0) : cache.statistics();
+    }
+
+    private final String translate0(String sql) {
         log.debug("Translating from", sql);
         String result = ctx.render(parser.parseQuery(sql));
         log.debug("Translating to", result);
@@ -136,6 +173,76 @@ final class ParsingConnection extends DefaultConnection {
 
     @Override
     public final void close() throws SQLException {
+        if (log.isDebugEnabled()) {
+            TranslationCache cache = (TranslationCache) configuration.data(DATA_CACHE_PARSING_CONNECTION);
+
+            if (cache != null)
+                log.debug("Translation cache", cache);
+        }
+
         configuration.connectionProvider().release(getDelegate());
     }
+
+    /**
+     * A bounded cache of translations, shared by all {@link ParsingConnection}
+     * instances created from the same {@link Configuration}.
+     * <p>
+     * The translation of a SQL string depends on the {@link SQLDialect} and the
+     * {@link Settings} of the configuration. If either is replaced on the
+     * configuration, or if the {@link Settings} are modified, the cache is
+     * discarded. Modifications are detected by a {@link SettingsSnapshot} taken
+     * when the cache was created.
+     */
+    static final class TranslationCache {
+
+        final SQLDialect          dialect;
+        final SettingsSnapshot    settings;
+        final Map<String, String> translations;
+        final AtomicLong          hits   = new AtomicLong();
+        final AtomicLong          misses = new AtomicLong();
+
+        TranslationCache(SQLDialect dialect, Settings settings, int size) {
+            this.dialect = dialect;
+            this.settings = new SettingsSnapshot(settings);
+            this.translations = Collections.synchronizedMap(new LRU<>(size));
+        }
+
+        static final TranslationCache get(Configuration configuration) {
+            Settings settings = configuration.settings();
+
+            if (FALSE.equals(settings.isCacheParsingConnection()))
+                return null;
+
+            Integer size = settings.getCacheParsingConnectionLRUCacheSize();
+            if (size != null && size <= 0)
+                return null;
+
+            TranslationCache cache = (TranslationCache) configuration.data(DATA_CACHE_PARSING_CONNECTION);
+            if (cache == null || !cache.valid(configuration)) {
+                synchronized (DATA_CACHE_PARSING_CONNECTION) {
+                    cache = (TranslationCache) configuration.data(DATA_CACHE_PARSING_CONNECTION);
+
+                    if (cache == null || !cache.valid(configuration)) {
+                        cache = new TranslationCache(configuration.dialect(), settings, size == null ? 8192 : size);
+                        configuration.data(DATA_CACHE_PARSING_CONNECTION, cache);
+                    }
+                }
+            }
+
+            return cache;
+        }
+
+        private final boolean valid(Configuration configuration) {
+            return dialect == configuration.dialect() && settings.translatesLike(configuration.settings());
+        }
+
+        final CacheStatistics statistics() {
+            return new CacheStatistics(hits.get(), misses.get(), translations.size());
+        }
+
+        @Override
+        public String toString() {
+            return statistics().toString();
+        }
+    }
 }
@@ -0,0 +1,327 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.jooq.Binding;
+import org.jooq.Field;
+import org.jooq.impl.DefaultBinding.AbstractBinding;
+import org.jooq.impl.DefaultBinding.DefaultByteBinding;
+import org.jooq.impl.DefaultBinding.DefaultDoubleBinding;
+import org.jooq.impl.DefaultBinding.DefaultFloatBinding;
+import org.jooq.impl.DefaultBinding.DefaultIntegerBinding;
+import org.jooq.impl.DefaultBinding.DefaultLongBinding;
+import org.jooq.impl.DefaultBinding.DefaultShortBinding;
+import org.jooq.tools.Convert;
+
+/**
+ * A growable array of primitive values, which collects the values of a single
+ * column for the <code>fetchIntArray()</code>, <code>fetchLongArray()</code>,
+ * and <code>fetchDoubleArray()</code> family of methods.
+ * <p>
+ * <code>null</code> values are represented by a sentinel value in the array,
+ * and optionally by a bit in a bitmap.
+ *
+ * @author Lukas Eder
+ */
+abstract class PrimitiveArray<A> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final BitSet     nulls;
+    int                      size;
+
+    PrimitiveArray(BitSet nulls) {
+        this.nulls = nulls;
+
+        if (nulls != null)
+            nulls.clear();
+    }
+
+    /**
+     * Whether a field's values can be read directly from a JDBC
+     * {@link ResultSet} into a primitive array, rather than through its
+     * {@link Binding}. This is the case for numeric fields using a built-in
+     * binding without any converter, whose values fit into the array's
+     * primitive type.
+     * <p>
+     * Wider values are read through the binding and truncated by
+     * {@link #add(Object)}, because some JDBC drivers throw exceptions when
+     * reading out of range values with e.g. {@link ResultSet#getInt(int)}.
+     */
+    static final boolean readDirectly(Field<?> field, PrimitiveArray<?> array) {
+        Binding<?, ?> binding = field.getBinding();
+
+        if (binding instanceof DefaultBinding)
+            binding = ((DefaultBinding<?, ?>) binding).delegate;
+
+        if (!(binding instanceof AbstractBinding) || !(((AbstractBinding<?, ?>) binding).converter() instanceof IdentityConverter))
+            return false;
+
+        boolean integer = binding instanceof DefaultIntegerBinding
+                       || binding instanceof DefaultShortBinding
+                       || binding instanceof DefaultByteBinding;
+
+        if (array instanceof IntArray)
+            return integer;
+        else if (array instanceof LongArray)
+            return integer
+                || binding instanceof DefaultLongBinding;
+        else
+            return integer
+                || binding instanceof DefaultLongBinding
+                || binding instanceof DefaultDoubleBinding
+                || binding instanceof DefaultFloatBinding;
+    }
+
+    static final int grow(int length) {
+        return Math.max(INITIAL_CAPACITY, length * 2);
+    }
+
+    /**
+     * Append the value of the current row of a {@link ResultSet}.
+     */
+    abstract void read(ResultSet rs, int index) throws SQLException;
+
+    /**
+     * Append a value that was read through a {@link Binding}.
+     */
+    abstract void add(Object value);
+
+    abstract void addInt(int value);
+
+    abstract void addLong(long value);
+
+    abstract void addDouble(double value);
+
+    abstract void addNull();
+
+    /**
+     * The values collected so far.
+     */
+    abstract A array();
+
+    final void markNull() {
+        if (nulls != null)
+            nulls.set(size);
+    }
+
+    static final class IntArray extends PrimitiveArray<int[]> {
+        private final int nullValue;
+        private int[]     values = {};
+
+        IntArray(int nullValue, BitSet nulls) {
+            super(nulls);
+
+            this.nullValue = nullValue;
+        }
+
+        @Override
+        final void read(ResultSet rs, int index) throws SQLException {
+            int value = rs.getInt(index);
+
+            if (rs.wasNull())
+                addNull();
+            else
+                addInt(value);
+        }
+
+        @Override
+        final void add(Object value) {
+            if (value == null)
+                addNull();
+            else if (value instanceof Number)
+                addInt(((Number) value).intValue());
+            else
+                add(Convert.convert(value, Integer.class));
+        }
+
+        @Override
+        final void addInt(int value) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, grow(values.length));
+
+            values[size++] = value;
+        }
+
+        @Override
+        final void addLong(long value) {
+            addInt((int) value);
+        }
+
+        @Override
+        final void addDouble(double value) {
+            addInt((int) value);
+        }
+
+        @Override
+        final void addNull() {
+            markNull();
+            addInt(nullValue);
+        }
+
+        @Override
+        final int[] array() {
+            return values.length == size ? values : Arrays.copyOf(values, size);
+        }
+    }
+
+    static final class LongArray extends PrimitiveArray<long[]> {
+        private final long nullValue;
+        private long[]     values = {};
+
+        LongArray(long nullValue, BitSet nulls) {
+            super(nulls);
+
+            this.nullValue = nullValue;
+        }
+
+        @Override
+        final void read(ResultSet rs, int index) throws SQLException {
+            long value = rs.getLong(index);
+
+            if (rs.wasNull())
+                addNull();
+            else
+                addLong(value);
+        }
+
+        @Override
+        final void add(Object value) {
+            if (value == null)
+                addNull();
+            else if (value instanceof Number)
+                addLong(((Number) value).longValue());
+            else
+                add(Convert.convert(value, Long.class));
+        }
+
+        @Override
+        final void addInt(int value) {
+            addLong(value);
+        }
+
+        @Override
+        final void addLong(long value) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, grow(values.length));
+
+            values[size++] = value;
+        }
+
+        @Override
+        final void addDouble(double value) {
+            addLong((long) value);
+        }
+
+        @Override
+        final void addNull() {
+            markNull();
+            addLong(nullValue);
+        }
+
+        @Override
+        final long[] array() {
+            return values.length == size ? values : Arrays.copyOf(values, size);
+        }
+    }
+
+    static final class DoubleArray extends PrimitiveArray<double[]> {
+        private final double nullValue;
+        private double[]     values = {};
+
+        DoubleArray(double nullValue, BitSet nulls) {
+            super(nulls);
+
+            this.nullValue = nullValue;
+        }
+
+        @Override
+        final void read(ResultSet rs, int index) throws SQLException {
+            double value = rs.getDouble(index);
+
+            if (rs.wasNull())
+                addNull();
+            else
+                addDouble(value);
+        }
+
+        @Override
+        final void add(Object value) {
+            if (value == null)
+                addNull();
+            else if (value instanceof Number)
+                addDouble(((Number) value).doubleValue());
+            else
+                add(Convert.convert(value, Double.class));
+        }
+
+        @Override
+        final void addInt(int value) {
+            addDouble(value);
+        }
+
+        @Override
+        final void addLong(long value) {
+            addDouble(value);
+        }
+
+        @Override
+        final void addDouble(double value) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, grow(values.length));
+
+            values[size++] = value;
+        }
+
+        @Override
+        final void addNull() {
+            markNull();
+            addDouble(nullValue);
+        }
+
+        @Override
+        final double[] array() {
+            return values.length == size ? values : Arrays.copyOf(values, size);
+        }
+    }
+}
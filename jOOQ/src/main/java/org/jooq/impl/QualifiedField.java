@@ -46,6 +46,7 @@ import org.jooq.Record;
 import org.jooq.RenderContext;
 import org.jooq.Table;
 import org.jooq.TableField;
+import org.jooq.tools.StringUtils;
 
 /**
  * A <code>QualifiedField</code> is a {@link Field} that always renders a field name
@@ -91,4 +92,25 @@ final class QualifiedField<T> extends AbstractField<T> implements TableField<Rec
 
         return table;
     }
+
+    // ------------------------------------------------------------------------
+    // XXX: Object API
+    // ------------------------------------------------------------------------
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that)
+            return true;
+
+        // [#2144] Consistent with TableFieldImpl.equals(), such that both
+        // implementations can be compared without rendering them
+        if (that instanceof TableField) {
+            TableField<?, ?> other = (TableField<?, ?>) that;
+            return
+                StringUtils.equals(getTable(), other.getTable()) &&
+                StringUtils.equals(getName(), other.getName());
+        }
+
+        return super.equals(that);
+    }
 }
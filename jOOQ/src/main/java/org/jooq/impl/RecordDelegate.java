@@ -85,6 +85,12 @@ final class RecordDelegate<R extends Record> {
 
     @SuppressWarnings("unchecked")
     final <E extends Exception> R operate(RecordOperation<? super R, E> operation) throws E {
+
+        // Read-only records can be loaded, but not stored, refreshed, or deleted
+        boolean readOnly = record instanceof AbstractRecord && ((AbstractRecord) record).readOnly();
+        if (readOnly && type != LOAD)
+            ((AbstractRecord) record).checkWritable();
+
         RecordListenerProvider[] providers = null;
         RecordListener[] listeners = null;
         DefaultRecordContext ctx = null;
@@ -123,7 +129,7 @@ final class RecordDelegate<R extends Record> {
         }
 
         // [#1684] Do not attach configuration if settings say no
-        if (attachRecords(configuration))
+        if (attachRecords(configuration) && !readOnly)
             record.attach(configuration);
 
         if (operation != null) {
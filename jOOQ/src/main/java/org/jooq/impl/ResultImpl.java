@@ -45,6 +45,7 @@ import java.lang.reflect.Array;
 import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -92,6 +93,9 @@ import org.jooq.Table;
 import org.jooq.TableRecord;
 import org.jooq.UpdatableRecord;
 import org.jooq.exception.InvalidResultException;
+import org.jooq.impl.PrimitiveArray.DoubleArray;
+import org.jooq.impl.PrimitiveArray.IntArray;
+import org.jooq.impl.PrimitiveArray.LongArray;
 import org.jooq.tools.Convert;
 import org.jooq.tools.jdbc.MockResultSet;
 
@@ -118,9 +122,13 @@ final class ResultImpl<R extends Record> extends AbstractCursor<R> implements Re
     }
 
     ResultImpl(Configuration configuration, Fields<R> fields) {
+        this(configuration, fields, new ArrayList<>());
+    }
+
+    ResultImpl(Configuration configuration, Fields<R> fields, List<R> records) {
         super(configuration, fields);
 
-        this.records = new ArrayList<>();
+        this.records = records;
     }
 
     // -------------------------------------------------------------------------
@@ -210,6 +218,10 @@ final class ResultImpl<R extends Record> extends AbstractCursor<R> implements Re
 
     @Override
     public final List<?> getValues(int fieldIndex) {
+        ColumnarRecords<R> columns = columns();
+        if (columns != null)
+            return columns.values(safeIndex(fieldIndex));
+
         List<Object> result = new ArrayList<>(size());
 
         for (R record : this)
@@ -222,9 +234,14 @@ final class ResultImpl<R extends Record> extends AbstractCursor<R> implements Re
     public final <U> List<U> getValues(int fieldIndex, Class<? extends U> type) {
         List<U> result = new ArrayList<>(size());
         Converter converter = converterOrFail(this, field(safeIndex(fieldIndex)).getType(), (Class) type);
+        ColumnarRecords<R> columns = columns();
 
-        for (R record : this)
-            result.add((U) converter.from(record.get(fieldIndex)));
+        if (columns != null)
+            for (Object value : columns.values(fieldIndex))
+                result.add((U) converter.from(value));
+        else
+            for (R record : this)
+                result.add((U) converter.from(record.get(fieldIndex)));
 
         return result;
     }
@@ -268,6 +285,16 @@ final class ResultImpl<R extends Record> extends AbstractCursor<R> implements Re
         records.add(record);
     }
 
+    /**
+     * The columns of this result, if it is a columnar result whose records
+     * have not yet been materialised, or <code>null</code>.
+     */
+    private final ColumnarRecords<R> columns() {
+        return records instanceof ColumnarRecords && ((ColumnarRecords<R>) records).columnar()
+            ? (ColumnarRecords<R>) records
+            : null;
+    }
+
     @Override
     public final List<Map<String, Object>> intoMaps() {
         List<Map<String, Object>> list = new ArrayList<>(size());
@@ -1014,9 +1041,10 @@ final class ResultImpl<R extends Record> extends AbstractCursor<R> implements Re
     public final Object[][] intoArrays() {
         int size = size();
         Object[][] array = new Object[size][];
+        ColumnarRecords<R> columns = columns();
 
         for (int i = 0; i < size; i++) {
-            array[i] = get(i).intoArray();
+            array[i] = columns != null ? columns.row(i) : get(i).intoArray();
         }
 
         return array;
@@ -1082,6 +1110,64 @@ final class ResultImpl<R extends Record> extends AbstractCursor<R> implements Re
         return Convert.convertArray(intoArray(field), converter);
     }
 
+    @Override
+    public final int[] intoIntArray(Field<?> field) {
+        return intoIntArray(field, 0);
+    }
+
+    @Override
+    public final int[] intoIntArray(Field<?> field, int nullValue) {
+        return intoPrimitives(field, new IntArray(nullValue, null));
+    }
+
+    @Override
+    public final int[] intoIntArray(Field<?> field, BitSet nulls) {
+        return intoPrimitives(field, new IntArray(0, nulls));
+    }
+
+    @Override
+    public final long[] intoLongArray(Field<?> field) {
+        return intoLongArray(field, 0L);
+    }
+
+    @Override
+    public final long[] intoLongArray(Field<?> field, long nullValue) {
+        return intoPrimitives(field, new LongArray(nullValue, null));
+    }
+
+    @Override
+    public final long[] intoLongArray(Field<?> field, BitSet nulls) {
+        return intoPrimitives(field, new LongArray(0L, nulls));
+    }
+
+    @Override
+    public final double[] intoDoubleArray(Field<?> field) {
+        return intoDoubleArray(field, 0.0);
+    }
+
+    @Override
+    public final double[] intoDoubleArray(Field<?> field, double nullValue) {
+        return intoPrimitives(field, new DoubleArray(nullValue, null));
+    }
+
+    @Override
+    public final double[] intoDoubleArray(Field<?> field, BitSet nulls) {
+        return intoPrimitives(field, new DoubleArray(0.0, nulls));
+    }
+
+    private final <A> A intoPrimitives(Field<?> field, PrimitiveArray<A> array) {
+        int index = indexOrFail(fieldsRow(), field);
+        ColumnarRecords<R> columns = columns();
+
+        if (columns != null)
+            columns.into(index, array);
+        else
+            for (R record : this)
+                array.add(record.get(index));
+
+        return array.array();
+    }
+
     @Override
     public final <E> Set<E> intoSet(RecordMapper<? super R, E> mapper) {
         Set<E> result = new LinkedHashSet<>();
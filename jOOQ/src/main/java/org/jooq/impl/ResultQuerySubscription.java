@@ -0,0 +1,259 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jooq.Cursor;
+import org.jooq.Record;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * A {@link org.reactivestreams.Subscription} that emits the records of an
+ * {@link AbstractResultQuery} to a {@link org.reactivestreams.Subscriber}.
+ * <p>
+ * All JDBC interaction (query execution, cursor reads, closing the cursor)
+ * happens on the {@link Executor} provided by the query's
+ * {@link org.jooq.ExecutorProvider}, never on the thread calling
+ * {@link #request(long)}. Records are read from the cursor in chunks of at
+ * most <code>prefetch</code> records, and only while there is outstanding
+ * demand. Signals to the subscriber are always serialised by a single drain
+ * loop, which does not run before {@link #start()} is called, i.e. not before
+ * {@link org.reactivestreams.Subscriber#onSubscribe(org.reactivestreams.Subscription)}
+ * has returned.
+ * <p>
+ * {@link #cancel()} cancels the running JDBC statement, if any, both while
+ * the query is being executed and while the cursor is being read, and
+ * releases the cursor asynchronously.
+ *
+ * @author Lukas Eder
+ */
+final class ResultQuerySubscription<R extends Record> implements org.reactivestreams.Subscription {
+
+    private static final JooqLogger                        log       = JooqLogger.getLogger(ResultQuerySubscription.class);
+
+    private final AbstractResultQuery<R>                   query;
+    private final org.reactivestreams.Subscriber<? super R> subscriber;
+    private final Executor                                 executor;
+    private final int                                      prefetch;
+    private final AtomicLong                               requested = new AtomicLong();
+    private final AtomicInteger                            wip       = new AtomicInteger(1);
+    private final ArrayDeque<R>                            buffer    = new ArrayDeque<>();
+    private volatile boolean                               cancelled;
+    private volatile Cursor<R>                             cursor;
+    private boolean                                        exhausted;
+    private boolean                                        done;
+    private Throwable                                      error;
+
+    ResultQuerySubscription(
+        AbstractResultQuery<R> query,
+        org.reactivestreams.Subscriber<? super R> subscriber,
+        Executor executor,
+        int prefetch
+    ) {
+        this.query = query;
+        this.subscriber = subscriber;
+        this.executor = executor;
+        this.prefetch = Math.max(1, prefetch);
+    }
+
+    /**
+     * Allow for draining once the subscriber has received this subscription.
+     * <p>
+     * Reactive streams rule 1.3: <code>request()</code> calls from within
+     * <code>onSubscribe()</code> must not cause <code>onNext()</code> signals
+     * on another thread while <code>onSubscribe()</code> is still running.
+     */
+    final void start() {
+        if (wip.decrementAndGet() != 0)
+            executor.execute(this::drain);
+    }
+
+    @Override
+    public final void request(long n) {
+
+        // Reactive streams rule 3.9: Non-positive requests are errors
+        if (n <= 0L) {
+            error = new IllegalArgumentException("Reactive streams rule 3.9: Non-positive request signals are illegal: " + n);
+            cancelled = true;
+        }
+        else {
+            long r, u;
+
+            do {
+                r = requested.get();
+                u = r + n;
+
+                // Reactive streams rule 3.17: Demand saturates at Long.MAX_VALUE
+                if (u < 0L)
+                    u = Long.MAX_VALUE;
+            }
+            while (!requested.compareAndSet(r, u));
+        }
+
+        schedule();
+    }
+
+    @Override
+    public final void cancel() {
+        if (!cancelled) {
+            cancelled = true;
+
+            // Interrupt a possibly blocking statement execution or fetch in
+            // the drain loop. The cursor itself is closed by the drain loop.
+            try {
+                Cursor<R> c = cursor;
+
+                // The query only references its statement while executing it,
+                // unless it is kept open. Afterwards, the cursor's statement
+                // has to be cancelled.
+                if (c instanceof CursorImpl) {
+                    PreparedStatement statement = ((CursorImpl<R>) c).ctx.statement();
+
+                    if (statement != null)
+                        statement.cancel();
+                }
+                else {
+                    query.cancel();
+                }
+            }
+            catch (SQLException | RuntimeException e) {
+                log.debug("Error while cancelling statement", e);
+            }
+
+            schedule();
+        }
+    }
+
+    private final void schedule() {
+        if (wip.getAndIncrement() == 0)
+            executor.execute(this::drain);
+    }
+
+    private final void drain() {
+        int missed = 1;
+
+        do {
+            if (done)
+                return;
+
+            try {
+                long r = requested.get();
+                long e = 0L;
+
+                while (e != r && !cancelled) {
+                    R record = next(r - e);
+
+                    if (record == null) {
+                        complete(null);
+                        return;
+                    }
+
+                    subscriber.onNext(record);
+                    e++;
+                }
+
+                if (cancelled) {
+                    complete(error);
+                    return;
+                }
+
+                if (e != 0L)
+                    requested.addAndGet(-e);
+            }
+            catch (Throwable t) {
+
+                // Exceptions caused by cancel() are not propagated
+                complete(cancelled ? error : t);
+                return;
+            }
+
+            missed = wip.addAndGet(-missed);
+        }
+        while (missed != 0);
+    }
+
+    /**
+     * Get the next record from the buffer, refilling it from the cursor if
+     * necessary, or <code>null</code> if the cursor is exhausted.
+     */
+    private final R next(long demand) {
+        if (buffer.isEmpty() && !exhausted) {
+            if (cursor == null) {
+                cursor = query.fetchLazyNonAutoClosing();
+
+                // cancel() may have been called after the query was executed,
+                // but before the cursor could be cancelled
+                if (cancelled)
+                    return null;
+            }
+
+            // Don't read more records than what has been requested, to avoid
+            // reading large parts of the cursor on a single request(1) call
+            int n = (int) Math.min(prefetch, demand);
+            buffer.addAll(cursor.fetchNext(n));
+            exhausted = buffer.size() < n;
+        }
+
+        return buffer.pollFirst();
+    }
+
+    private final void complete(Throwable t) {
+        done = true;
+        buffer.clear();
+
+        try {
+            if (cursor != null)
+                cursor.close();
+        }
+        catch (Throwable e) {
+            if (t == null && !cancelled)
+                t = e;
+        }
+
+        if (t != null)
+            subscriber.onError(t);
+        else if (!cancelled)
+            subscriber.onComplete();
+    }
+}
@@ -55,6 +55,7 @@ final class SQLImpl extends AbstractQueryPart implements SQL {
     private static final Clause[] CLAUSES          = { TEMPLATE };
     private final String          sql;
     private final List<QueryPart> substitutes;
+    private transient SQLTemplate template;
 
     SQLImpl(String sql, Object... input) {
         this.sql = sql;
@@ -63,7 +64,12 @@ final class SQLImpl extends AbstractQueryPart implements SQL {
 
     @Override
     public final void accept(Context<?> ctx) {
-        Tools.renderAndBind(ctx, sql, substitutes);
+        SQLTemplate t = template;
+
+        if (t == null || !t.valid(ctx, substitutes.size()))
+            template = t = SQLTemplate.get(ctx, sql, substitutes.size());
+
+        t.renderAndBind(ctx, substitutes);
     }
 
     @Override
@@ -0,0 +1,279 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.conf.ParamType.INLINED;
+import static org.jooq.conf.ParamType.NAMED;
+import static org.jooq.conf.ParamType.NAMED_OR_INLINED;
+import static org.jooq.impl.Tools.DataCacheKey.DATA_CACHE_PLAIN_SQL_TEMPLATES;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.jooq.BindContext;
+import org.jooq.Configuration;
+import org.jooq.Context;
+import org.jooq.Keyword;
+import org.jooq.QueryPart;
+import org.jooq.RenderContext;
+import org.jooq.RenderContext.CastMode;
+import org.jooq.SQLDialect;
+
+/**
+ * A plain SQL template that has been tokenised by
+ * {@link Tools#template(Context, String, int)} into segments of plain SQL,
+ * bind variables, {numbered placeholders} and {keywords}.
+ * <p>
+ * Rendering and binding a template just walks its segments. The tokenisation
+ * depends on the {@link SQLDialect} and on whether backslashes escape string
+ * literals, so templates are only reused in contexts that agree on both.
+ *
+ * @author Lukas Eder
+ */
+final class SQLTemplate {
+
+    private static final int  TEXT        = 0;
+    private static final int  BIND        = 1;
+    private static final int  PLACEHOLDER = 2;
+    private static final int  KEYWORD     = 3;
+
+    final SQLDialect          dialect;
+    final boolean             needsBackslashEscaping;
+    final int                 substitutes;
+    private final int[]       types;
+    private final int[]       indexes;
+    private final String[]    texts;
+    private final Keyword[]   keywords;
+
+    private SQLTemplate(Builder builder) {
+        this.dialect = builder.dialect;
+        this.needsBackslashEscaping = builder.needsBackslashEscaping;
+        this.substitutes = builder.substitutes;
+
+        int size = builder.types.size();
+        this.types = new int[size];
+        this.indexes = new int[size];
+        this.texts = new String[size];
+        this.keywords = new Keyword[size];
+
+        for (int i = 0; i < size; i++) {
+            types[i] = builder.types.get(i);
+            indexes[i] = builder.indexes.get(i);
+            texts[i] = builder.texts.get(i);
+            keywords[i] = types[i] == KEYWORD ? DSL.keyword(texts[i]) : null;
+        }
+    }
+
+    /**
+     * Get a template for a plain SQL string from the {@link TemplateCache} of
+     * the context's configuration, or tokenise it.
+     */
+    static final SQLTemplate get(Context<?> ctx, String sql, int substitutes) {
+        TemplateCache cache = TemplateCache.get(ctx.configuration());
+        SQLTemplate result = cache.templates.get(sql);
+
+        if (result == null || !result.valid(ctx, substitutes)) {
+            result = Tools.template(ctx, sql, substitutes);
+            cache.templates.put(sql, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Whether this template was tokenised for a context like the argument
+     * context.
+     */
+    final boolean valid(Context<?> ctx, int s) {
+        return dialect == ctx.dialect()
+            && substitutes == s
+            && needsBackslashEscaping == Tools.needsBackslashEscaping(ctx.configuration());
+    }
+
+    /**
+     * Render and bind the template's segments along with their substitutes.
+     */
+    final void renderAndBind(Context<?> ctx, List<QueryPart> substitutes) {
+
+        // [#1593] Bind mode only needs to visit the substitutes
+        if (ctx instanceof BindContext) {
+            BindContext bind = (BindContext) ctx;
+
+            for (int i = 0; i < types.length; i++)
+                if (types[i] == BIND || types[i] == PLACEHOLDER)
+                    bind.visit(substitutes.get(indexes[i]));
+
+            return;
+        }
+
+        RenderContext render = (RenderContext) ctx;
+
+        for (int i = 0; i < types.length; i++) {
+            switch (types[i]) {
+                case TEXT:
+
+                    // The plain SQL may contain apostrophes that need escaping
+                    // within string literals
+                    if (render.stringLiteral()) {
+                        String text = texts[i];
+
+                        for (int j = 0; j < text.length(); j++)
+                            render.sql(text.charAt(j));
+                    }
+                    else {
+                        render.sql(texts[i], true);
+                    }
+
+                    break;
+
+                case BIND: {
+                    QueryPart substitute = substitutes.get(indexes[i]);
+
+                    if (render.paramType() == INLINED || render.paramType() == NAMED || render.paramType() == NAMED_OR_INLINED) {
+                        render.visit(substitute);
+                    }
+                    else {
+                        CastMode previous = render.castMode();
+                        render.castMode(CastMode.NEVER)
+                              .visit(substitute)
+                              .castMode(previous);
+                    }
+
+                    break;
+                }
+
+                case PLACEHOLDER:
+                    render.visit(substitutes.get(indexes[i]));
+                    break;
+
+                case KEYWORD:
+                    render.visit(keywords[i]);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * A builder collecting the segments of a template while it is tokenised.
+     */
+    static final class Builder {
+
+        final SQLDialect             dialect;
+        final boolean                needsBackslashEscaping;
+        final int                    substitutes;
+
+        /**
+         * The plain SQL text of the current segment.
+         */
+        final StringBuilder          text     = new StringBuilder();
+        private final List<Integer>  types    = new ArrayList<>();
+        private final List<Integer>  indexes  = new ArrayList<>();
+        private final List<String>   texts    = new ArrayList<>();
+
+        Builder(Context<?> ctx, int substitutes) {
+            this.dialect = ctx.dialect();
+            this.needsBackslashEscaping = Tools.needsBackslashEscaping(ctx.configuration());
+            this.substitutes = substitutes;
+        }
+
+        final void bindVariable(int index) {
+            add(BIND, index, null);
+        }
+
+        final void placeholder(int index) {
+            add(PLACEHOLDER, index, null);
+        }
+
+        final void keyword(String keyword) {
+            add(KEYWORD, -1, keyword);
+        }
+
+        final SQLTemplate build() {
+            flushText();
+            return new SQLTemplate(this);
+        }
+
+        private final void add(int type, int index, String t) {
+            flushText();
+            types.add(type);
+            indexes.add(index);
+            texts.add(t);
+        }
+
+        private final void flushText() {
+            if (text.length() > 0) {
+                types.add(TEXT);
+                indexes.add(-1);
+                texts.add(text.toString());
+                text.setLength(0);
+            }
+        }
+    }
+
+    /**
+     * A bounded cache of templates, shared by all plain SQL query parts
+     * rendered with the same {@link Configuration}.
+     */
+    static final class TemplateCache {
+
+        final Map<String, SQLTemplate> templates;
+
+        TemplateCache(int size) {
+            this.templates = Collections.synchronizedMap(new LRU<>(size));
+        }
+
+        static final TemplateCache get(Configuration configuration) {
+            TemplateCache cache = (TemplateCache) configuration.data(DATA_CACHE_PLAIN_SQL_TEMPLATES);
+
+            if (cache == null) {
+                synchronized (DATA_CACHE_PLAIN_SQL_TEMPLATES) {
+                    cache = (TemplateCache) configuration.data(DATA_CACHE_PLAIN_SQL_TEMPLATES);
+
+                    if (cache == null) {
+                        cache = new TemplateCache(8192);
+                        configuration.data(DATA_CACHE_PLAIN_SQL_TEMPLATES, cache);
+                    }
+                }
+            }
+
+            return cache;
+        }
+    }
+}
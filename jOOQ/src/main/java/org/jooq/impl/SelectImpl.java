@@ -43,8 +43,11 @@ import static org.jooq.impl.DSL.notExists;
 import static org.jooq.impl.DSL.table;
 import static org.jooq.impl.Tools.EMPTY_FIELD;
 
+import java.io.OutputStream;
+import java.io.Writer;
 import java.sql.ResultSet;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -62,6 +65,7 @@ import java.util.stream.Stream;
 
 import org.jooq.BetweenAndStep;
 import org.jooq.BetweenAndStepR;
+import org.jooq.CSVFormat;
 import org.jooq.Comparator;
 import org.jooq.Condition;
 import org.jooq.Configuration;
@@ -71,6 +75,7 @@ import org.jooq.DataType;
 import org.jooq.Field;
 import org.jooq.ForeignKey;
 import org.jooq.GroupField;
+import org.jooq.JSONFormat;
 import org.jooq.JoinType;
 import org.jooq.Name;
 import org.jooq.Operator;
@@ -162,6 +167,7 @@ import org.jooq.Table;
 import org.jooq.TableField;
 import org.jooq.TableLike;
 import org.jooq.WindowDefinition;
+import org.jooq.XMLFormat;
 
 /**
  * A wrapper for a {@link SelectQuery}
@@ -293,6 +299,16 @@ final class SelectImpl<R extends Record, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10
         return getDelegate().fetchCount();
     }
 
+    @Override
+    public final Result<R> fetchParallel(Field<? extends Number> partitionBy, int partitions) {
+        return getDelegate().fetchParallel(partitionBy, partitions);
+    }
+
+    @Override
+    public final Stream<R> fetchStreamParallel(Field<? extends Number> partitionBy, int partitions) {
+        return getDelegate().fetchStreamParallel(partitionBy, partitions);
+    }
+
     /**
      * This method must be able to return both incompatible types
      * SelectSelectStep&lt;Record&gt; and SelectSelectStep&lt;R&gt;
@@ -2825,6 +2841,16 @@ final class SelectImpl<R extends Record, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10
         return getDelegate().fetchSize(rows);
     }
 
+    @Override
+    public final ResultQuery<R> spillThreshold(int rows) {
+        return getDelegate().spillThreshold(rows);
+    }
+
+    @Override
+    public final ResultQuery<R> spillThresholdBytes(long bytes) {
+        return getDelegate().spillThresholdBytes(bytes);
+    }
+
     @Override
     public final ResultQuery<R> resultSetConcurrency(int resultSetConcurrency) {
         return getDelegate().resultSetConcurrency(resultSetConcurrency);
@@ -2880,6 +2906,11 @@ final class SelectImpl<R extends Record, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10
         return getDelegate().fetch();
     }
 
+    @Override
+    public final Result<R> fetchColumnar() {
+        return getDelegate().fetchColumnar();
+    }
+
     @Override
     public final ResultSet fetchResultSet() {
         return getDelegate().fetchResultSet();
@@ -2931,6 +2962,41 @@ final class SelectImpl<R extends Record, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10
         return getDelegate().collect(collector);
     }
 
+    @Override
+    public final void formatCSV(OutputStream stream, CSVFormat format) {
+        getDelegate().formatCSV(stream, format);
+    }
+
+    @Override
+    public final void formatCSV(Writer writer, CSVFormat format) {
+        getDelegate().formatCSV(writer, format);
+    }
+
+    @Override
+    public final void formatJSON(OutputStream stream, JSONFormat format) {
+        getDelegate().formatJSON(stream, format);
+    }
+
+    @Override
+    public final void formatJSON(Writer writer, JSONFormat format) {
+        getDelegate().formatJSON(writer, format);
+    }
+
+    @Override
+    public final void formatXML(OutputStream stream, XMLFormat format) {
+        getDelegate().formatXML(stream, format);
+    }
+
+    @Override
+    public final void formatXML(Writer writer, XMLFormat format) {
+        getDelegate().formatXML(writer, format);
+    }
+
+    @Override
+    public final void formatBinary(OutputStream stream) {
+        getDelegate().formatBinary(stream);
+    }
+
 
 
     @Override
@@ -3866,6 +3932,51 @@ final class SelectImpl<R extends Record, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10
         return getDelegate().fetchArray(field, converter);
     }
 
+    @Override
+    public final int[] fetchIntArray(Field<?> field) {
+        return getDelegate().fetchIntArray(field);
+    }
+
+    @Override
+    public final int[] fetchIntArray(Field<?> field, int nullValue) {
+        return getDelegate().fetchIntArray(field, nullValue);
+    }
+
+    @Override
+    public final int[] fetchIntArray(Field<?> field, BitSet nulls) {
+        return getDelegate().fetchIntArray(field, nulls);
+    }
+
+    @Override
+    public final long[] fetchLongArray(Field<?> field) {
+        return getDelegate().fetchLongArray(field);
+    }
+
+    @Override
+    public final long[] fetchLongArray(Field<?> field, long nullValue) {
+        return getDelegate().fetchLongArray(field, nullValue);
+    }
+
+    @Override
+    public final long[] fetchLongArray(Field<?> field, BitSet nulls) {
+        return getDelegate().fetchLongArray(field, nulls);
+    }
+
+    @Override
+    public final double[] fetchDoubleArray(Field<?> field) {
+        return getDelegate().fetchDoubleArray(field);
+    }
+
+    @Override
+    public final double[] fetchDoubleArray(Field<?> field, double nullValue) {
+        return getDelegate().fetchDoubleArray(field, nullValue);
+    }
+
+    @Override
+    public final double[] fetchDoubleArray(Field<?> field, BitSet nulls) {
+        return getDelegate().fetchDoubleArray(field, nulls);
+    }
+
     @Override
     public final <E> Set<E> fetchSet(RecordMapper<? super R, E> mapper) {
         return getDelegate().fetchSet(mapper);
@@ -214,6 +214,7 @@ import org.jooq.Param;
 import org.jooq.QualifiedAsterisk;
 import org.jooq.QueryPart;
 import org.jooq.Record;
+import org.jooq.Result;
 import org.jooq.Row;
 import org.jooq.SQLDialect;
 import org.jooq.Select;
@@ -449,6 +450,16 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
         return DSL.using(configuration()).fetchCount(this);
     }
 
+    @Override
+    public final Result<R> fetchParallel(Field<? extends Number> partitionBy, int partitions) {
+        return new ParallelFetch<>(this, partitionBy, partitions).fetch();
+    }
+
+    @Override
+    public final Stream<R> fetchStreamParallel(Field<? extends Number> partitionBy, int partitions) {
+        return new ParallelFetch<>(this, partitionBy, partitions).stream();
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public final <T> Field<T> asField() {
@@ -1150,6 +1161,22 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
 
 
+
+    /**
+     * A new query that selects <code>fields</code> from this query's
+     * <code>WITH</code>, <code>FROM</code>, and <code>WHERE</code> clauses.
+     */
+    final SelectQueryImpl<Record> copyFromWhere(SelectFieldOrAsterisk... fields) {
+        SelectQueryImpl<Record> result = new SelectQueryImpl<>(configuration(), with);
+
+        result.condition.setWhere(condition.getWhere());
+        result.from.addAll(from);
+        result.hint = hint;
+        result.option = option;
+        result.select.addAll(Arrays.asList(fields));
+
+        return result;
+    }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
     final Select<?> distinctOnEmulation() {
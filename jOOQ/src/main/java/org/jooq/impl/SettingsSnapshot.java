@@ -0,0 +1,174 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.conf.SettingsTools.getRenderMapping;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.jooq.conf.MappedCatalog;
+import org.jooq.conf.MappedSchema;
+import org.jooq.conf.RenderMapping;
+import org.jooq.conf.Settings;
+import org.jooq.exception.ConfigurationException;
+import org.jooq.tools.StringUtils;
+
+/**
+ * A deep copy of {@link Settings}, which detects whether those
+ * {@link Settings} that affect rendering or parsing have been modified in
+ * place since the copy was taken.
+ * <p>
+ * Unlike {@link Settings#equals(Object)}, the checks only compare the relevant
+ * settings, such that they can be run whenever SQL that was rendered or parsed
+ * with the copied {@link Settings} is reused.
+ *
+ * @author Lukas Eder
+ */
+final class SettingsSnapshot {
+
+    private final Settings settings;
+
+    SettingsSnapshot(Settings settings) {
+        initialise(settings);
+        this.settings = copy(settings);
+    }
+
+    /**
+     * Whether SQL rendered with the copied {@link Settings} is rendered the same
+     * way with the argument {@link Settings}.
+     */
+    final boolean rendersLike(Settings s) {
+        return settings.getRenderQuotedNames() == s.getRenderQuotedNames()
+            && settings.getRenderNameCase() == s.getRenderNameCase()
+            && settings.getRenderNameStyle() == s.getRenderNameStyle()
+            && settings.getRenderKeywordCase() == s.getRenderKeywordCase()
+            && settings.getRenderKeywordStyle() == s.getRenderKeywordStyle()
+            && settings.getRenderOptionalAsKeywordForTableAliases() == s.getRenderOptionalAsKeywordForTableAliases()
+            && settings.getRenderOptionalAsKeywordForFieldAliases() == s.getRenderOptionalAsKeywordForFieldAliases()
+            && settings.getRenderOptionalInnerKeyword() == s.getRenderOptionalInnerKeyword()
+            && settings.getRenderOptionalOuterKeyword() == s.getRenderOptionalOuterKeyword()
+            && settings.getRenderImplicitJoinType() == s.getRenderImplicitJoinType()
+            && settings.getTransformUnneededArithmeticExpressions() == s.getTransformUnneededArithmeticExpressions()
+            && settings.getBackslashEscaping() == s.getBackslashEscaping()
+            && settings.getParamType() == s.getParamType()
+            && settings.getParamCastMode() == s.getParamCastMode()
+            && settings.getStatementType() == s.getStatementType()
+            && StringUtils.equals(settings.isRenderCatalog(), s.isRenderCatalog())
+            && StringUtils.equals(settings.isRenderSchema(), s.isRenderSchema())
+            && StringUtils.equals(settings.getRenderNamedParamPrefix(), s.getRenderNamedParamPrefix())
+            && StringUtils.equals(settings.getRenderLocale(), s.getRenderLocale())
+            && StringUtils.equals(settings.isRenderFormatted(), s.isRenderFormatted())
+            && StringUtils.equals(settings.isRenderScalarSubqueriesForStoredFunctions(), s.isRenderScalarSubqueriesForStoredFunctions())
+            && StringUtils.equals(settings.isRenderOrderByRownumberForEmulatedPagination(), s.isRenderOrderByRownumberForEmulatedPagination())
+            && StringUtils.equals(settings.isRenderOutputForSQLServerReturningClause(), s.isRenderOutputForSQLServerReturningClause())
+            && StringUtils.equals(settings.isRenderParenthesisAroundSetOperationQueries(), s.isRenderParenthesisAroundSetOperationQueries())
+            && StringUtils.equals(settings.isBindOffsetDateTimeType(), s.isBindOffsetDateTimeType())
+            && StringUtils.equals(settings.isBindOffsetTimeType(), s.isBindOffsetTimeType())
+            && StringUtils.equals(settings.isTransformAnsiJoinToTableLists(), s.isTransformAnsiJoinToTableLists())
+            && StringUtils.equals(settings.isTransformTableListsToAnsiJoin(), s.isTransformTableListsToAnsiJoin())
+            && StringUtils.equals(settings.isTransformRownum(), s.isTransformRownum())
+            && StringUtils.equals(settings.getInlineThreshold(), s.getInlineThreshold())
+            && StringUtils.equals(settings.isInListPadding(), s.isInListPadding())
+            && StringUtils.equals(settings.getInListPadBase(), s.getInListPadBase())
+            && StringUtils.equals(settings.isEmulateOnDuplicateKeyUpdateOnPrimaryKeyOnly(), s.isEmulateOnDuplicateKeyUpdateOnPrimaryKeyOnly())
+            && StringUtils.equals(settings.getLocale(), s.getLocale())
+            && StringUtils.equals(settings.getRenderFormatting(), s.getRenderFormatting())
+            && StringUtils.equals(settings.getRenderMapping(), s.getRenderMapping());
+    }
+
+    /**
+     * Whether SQL parsed and rendered with the copied {@link Settings} is
+     * parsed and rendered the same way with the argument {@link Settings}.
+     */
+    final boolean translatesLike(Settings s) {
+        return settings.getParseDialect() == s.getParseDialect()
+            && settings.getParseNameCase() == s.getParseNameCase()
+            && settings.getParseWithMetaLookups() == s.getParseWithMetaLookups()
+            && settings.getParseUnsupportedSyntax() == s.getParseUnsupportedSyntax()
+            && settings.getParseUnknownFunctions() == s.getParseUnknownFunctions()
+            && StringUtils.equals(settings.getParseLocale(), s.getParseLocale())
+            && StringUtils.equals(settings.isParseSetCommands(), s.isParseSetCommands())
+            && StringUtils.equals(settings.isParseIgnoreComments(), s.isParseIgnoreComments())
+            && StringUtils.equals(settings.getParseIgnoreCommentStart(), s.getParseIgnoreCommentStart())
+            && StringUtils.equals(settings.getParseIgnoreCommentStop(), s.getParseIgnoreCommentStop())
+            && StringUtils.equals(settings.getParseSearchPath(), s.getParseSearchPath())
+            && rendersLike(s);
+    }
+
+    /**
+     * Parsing and rendering initialise some {@link Settings} lazily, which
+     * would otherwise make them differ from the copy right after they are
+     * first used.
+     */
+    private static final void initialise(Settings settings) {
+        settings.getParseSearchPath();
+
+        RenderMapping mapping = getRenderMapping(settings);
+        for (MappedCatalog catalog : mapping.getCatalogs())
+            for (MappedSchema schema : catalog.getSchemata())
+                schema.getTables();
+
+        for (MappedSchema schema : mapping.getSchemata())
+            schema.getTables();
+    }
+
+    /**
+     * A deep copy of the settings, unlike {@link Settings#clone()}, which
+     * shares nested objects, such as the {@link RenderMapping}.
+     */
+    private static final Settings copy(Settings settings) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            try (ObjectOutputStream o = new ObjectOutputStream(out)) {
+                o.writeObject(settings);
+            }
+
+            try (ObjectInputStream i = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+                return (Settings) i.readObject();
+            }
+        }
+        catch (IOException | ClassNotFoundException e) {
+            throw new ConfigurationException("Cannot copy settings", e);
+        }
+    }
+}
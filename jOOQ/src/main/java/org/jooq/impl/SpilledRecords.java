@@ -0,0 +1,472 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.readOnlyRecordFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.BinaryCodec.ByteBufferInputStream;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * The records of a {@link ResultImpl} that may be spilled to disk, see
+ * {@link org.jooq.ResultQuery#spillThreshold(int)}.
+ * <p>
+ * Records are kept in memory, until a threshold of rows or of (approximate)
+ * heap size is exceeded. At that point, all records are written to a
+ * temporary file in a compact binary format, and all further records are
+ * appended to that file, instead. Once all records have been fetched, the file
+ * is memory mapped, and {@link Record} instances are created on access as
+ * read-only, detached views. Only a sparse index of row offsets is kept on
+ * the heap.
+ * <p>
+ * Spilled records cannot be modified.
+ *
+ * @author Lukas Eder
+ */
+final class SpilledRecords<R extends Record> extends AbstractList<R> implements RandomAccess, Serializable {
+
+    /**
+     * Generated UID
+     */
+    private static final long       serialVersionUID = 4126432405839717212L;
+    private static final JooqLogger log              = JooqLogger.getLogger(SpilledRecords.class);
+
+    /**
+     * The number of rows between two entries of the row offset index.
+     */
+    private static final int        INDEX_INTERVAL   = 64;
+
+    /**
+     * The maximum size of a memory mapped file segment.
+     */
+    private static final long       SEGMENT_SIZE     = 1L << 30;
+
+    private final Field<?>[]        fields;
+    private final F0<? extends R>   factory;
+    private final int               thresholdRows;
+    private final long              thresholdBytes;
+    private final String            directory;
+
+    // The in-memory records, before spilling
+    private List<R>                 records          = new ArrayList<>();
+    private long                    bytes;
+
+    // The spilled records
+    private File                    file;
+    private DataOutputStream        out;
+    private ByteArrayOutputStream   row;
+    private DataOutputStream        rowOut;
+    private long                    position;
+    private long[]                  index;
+    private long[]                  segments;
+    private int                     segmentCount;
+    private MappedByteBuffer[]      mapped;
+    private int                     size;
+
+    SpilledRecords(Class<? extends R> type, Field<?>[] fields, int thresholdRows, long thresholdBytes, String directory) {
+        this.fields = fields;
+        this.factory = readOnlyRecordFactory(type, fields);
+        this.thresholdRows = thresholdRows;
+        this.thresholdBytes = thresholdBytes;
+        this.directory = directory;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Spilling API
+    // -------------------------------------------------------------------------
+
+    /**
+     * Whether the records have been spilled to disk.
+     */
+    final boolean spilled() {
+        return records == null;
+    }
+
+    /**
+     * Map the spilled records, once no more records are appended.
+     */
+    final void complete() {
+        if (!spilled() || mapped != null)
+            return;
+
+        try {
+            out.close();
+            mapped = new MappedByteBuffer[segmentCount];
+
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                for (int i = 0; i < segmentCount; i++) {
+                    long end = i + 1 < segmentCount ? segments[i + 1] : position;
+                    mapped[i] = channel.map(MapMode.READ_ONLY, segments[i], end - segments[i]);
+                }
+            }
+        }
+        catch (IOException e) {
+            discard();
+            throw new DataAccessException("Cannot map spilled records from " + file, e);
+        }
+        finally {
+            out = null;
+            row = null;
+            rowOut = null;
+        }
+
+        // Mapped regions remain accessible after deleting the file on most
+        // operating systems. Elsewhere, the file is deleted on exit.
+        try {
+            Files.delete(file.toPath());
+        }
+        catch (IOException e) {
+            log.debug("Spilled records", "Cannot delete file " + file + " before exit");
+        }
+    }
+
+    /**
+     * Release the spilled records' file, e.g. when the fetch failed.
+     */
+    final void discard() {
+        if (file != null) {
+            try {
+                if (out != null)
+                    out.close();
+            }
+            catch (IOException ignore) {}
+
+            file.delete();
+        }
+    }
+
+    private final void append(R record) {
+        if (!spilled()) {
+            records.add(record);
+
+            if (thresholdBytes > 0)
+                bytes += estimate(record);
+
+            if (thresholdRows > 0 && records.size() > thresholdRows
+                || thresholdBytes > 0 && bytes > thresholdBytes)
+                spill();
+        }
+        else
+            write(record);
+    }
+
+    private final void spill() {
+        try {
+            file = File.createTempFile("jooq-spill-", ".bin", directory == null ? null : new File(directory));
+            file.deleteOnExit();
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 1 << 16));
+            row = new ByteArrayOutputStream();
+            rowOut = new DataOutputStream(row);
+            index = new long[16];
+            segments = new long[] { 0L };
+            segmentCount = 1;
+        }
+        catch (IOException e) {
+            discard();
+            throw new DataAccessException("Cannot create file to spill records", e);
+        }
+
+        log.debug("Spilling records", "Spilling " + records.size() + " records to " + file);
+
+        List<R> r = records;
+        records = null;
+
+        for (R record : r)
+            write(record);
+    }
+
+    private final void write(R record) {
+        try {
+            row.reset();
+
+            for (int i = 0; i < fields.length; i++)
+                BinaryCodec.writeValue(rowOut, record.get(i));
+
+            int length = row.size();
+
+            // Rows never span several segments
+            if (position + 4 + length - segments[segmentCount - 1] > SEGMENT_SIZE && position > segments[segmentCount - 1]) {
+                if (segmentCount == segments.length)
+                    segments = Arrays.copyOf(segments, segmentCount * 2);
+
+                segments[segmentCount++] = position;
+            }
+
+            if (size % INDEX_INTERVAL == 0) {
+                int i = size / INDEX_INTERVAL;
+
+                if (i == index.length)
+                    index = Arrays.copyOf(index, i * 2);
+
+                index[i] = position;
+            }
+
+            out.writeInt(length);
+            row.writeTo(out);
+            position += 4 + length;
+            size++;
+        }
+        catch (IOException e) {
+            discard();
+            throw new DataAccessException("Cannot spill record to " + file, e);
+        }
+    }
+
+    /**
+     * A rough estimate of a record's heap size, including its values and
+     * original values.
+     */
+    private static final long estimate(Record record) {
+        int length = record.size();
+        long result = 64 + 2 * (16 + 8 * length);
+
+        for (int i = 0; i < length; i++)
+            result += estimate(record.get(i));
+
+        return result;
+    }
+
+    private static final long estimate(Object value) {
+        if (value == null)
+            return 0;
+        else if (value instanceof String)
+            return 40 + 2 * ((String) value).length();
+        else if (value instanceof byte[])
+            return 16 + ((byte[]) value).length;
+        else if (value instanceof BigDecimal || value instanceof BigInteger)
+            return 64;
+        else if (value instanceof Record)
+            return estimate((Record) value);
+        else
+            return 24;
+    }
+
+    /**
+     * A reader positioned at a row of the memory mapped file.
+     */
+    private final class Reader {
+        private int             segment;
+        private ByteBuffer      buffer;
+        private DataInputStream in;
+
+        Reader(int rowIndex) {
+            long offset = index[rowIndex / INDEX_INTERVAL];
+            int s = Arrays.binarySearch(segments, 0, segmentCount, offset);
+
+            segment(s >= 0 ? s : -s - 2);
+            buffer.position((int) (offset - segments[segment]));
+
+            for (int i = rowIndex % INDEX_INTERVAL; i > 0; i--)
+                skip();
+        }
+
+        private final void segment(int s) {
+            segment = s;
+            buffer = mapped[s].duplicate();
+            in = new DataInputStream(new ByteBufferInputStream(buffer));
+        }
+
+        /**
+         * Rows never span several segments, so the next row starts in the
+         * next segment, if the current one is exhausted.
+         */
+        private final void next() {
+            if (!buffer.hasRemaining() && segment + 1 < segmentCount)
+                segment(segment + 1);
+        }
+
+        final void skip() {
+            next();
+
+            int length = buffer.getInt();
+            buffer.position(buffer.position() + length);
+        }
+
+        final R read() {
+            next();
+
+            R result = factory.apply();
+            AbstractRecord record = (AbstractRecord) result;
+
+            try {
+                in.readInt();
+
+                for (int i = 0; i < fields.length; i++)
+                    record.values[i] = BinaryCodec.readValue(in);
+            }
+            catch (IOException e) {
+                throw new DataAccessException("Cannot read spilled record", e);
+            }
+
+            record.fetched = true;
+            return result;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: List API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final boolean add(R record) {
+        if (mapped != null)
+            throw new UnsupportedOperationException("Spilled records cannot be modified");
+
+        append(record);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public final R get(int i) {
+        if (!spilled())
+            return records.get(i);
+
+        if (i < 0 || i >= size)
+            throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+
+        return new Reader(i).read();
+    }
+
+    @Override
+    public final int size() {
+        return spilled() ? size : records.size();
+    }
+
+    @Override
+    public final R set(int i, R element) {
+        if (!spilled())
+            return records.set(i, element);
+
+        throw new UnsupportedOperationException("Spilled records cannot be modified");
+    }
+
+    @Override
+    public final void add(int i, R element) {
+        if (!spilled() && i == records.size())
+            append(element);
+        else if (!spilled())
+            records.add(i, element);
+        else
+            throw new UnsupportedOperationException("Spilled records cannot be modified");
+
+        modCount++;
+    }
+
+    @Override
+    public final R remove(int i) {
+        if (!spilled()) {
+            modCount++;
+            return records.remove(i);
+        }
+
+        throw new UnsupportedOperationException("Spilled records cannot be modified");
+    }
+
+    @Override
+    public final void clear() {
+        if (!spilled()) {
+            modCount++;
+            records.clear();
+        }
+        else
+            throw new UnsupportedOperationException("Spilled records cannot be modified");
+    }
+
+    @Override
+    public final Iterator<R> iterator() {
+        if (!spilled())
+            return records.iterator();
+
+        return new Iterator<R>() {
+            private Reader reader;
+            private int    next;
+
+            @Override
+            public final boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public final R next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+
+                if (reader == null)
+                    reader = new Reader(next);
+
+                next++;
+                return reader.read();
+            }
+        };
+    }
+
+    /**
+     * Spilled records are serialised as a regular list.
+     */
+    private final Object writeReplace() {
+        return new ArrayList<>(this);
+    }
+}
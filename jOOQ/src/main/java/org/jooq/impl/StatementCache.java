@@ -0,0 +1,396 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import org.jooq.conf.Settings;
+import org.jooq.tools.JooqLogger;
+import org.jooq.tools.jdbc.DefaultConnection;
+import org.jooq.tools.jdbc.DefaultPreparedStatement;
+import org.jooq.tools.jdbc.JDBCUtils;
+
+/**
+ * A cache of {@link PreparedStatement} instances of a single JDBC
+ * {@link Connection}, see {@link Settings#isCachePreparedStatements()}.
+ * <p>
+ * Statements are keyed by their SQL string and the options they were
+ * prepared with. A statement is taken out of the cache when it is prepared,
+ * and put back when it is closed, such that it is never shared by several
+ * executions at the same time. At most a fixed number of idle statements is
+ * kept. The least recently used idle statement is closed when that number is
+ * exceeded, and all idle statements are closed when the cache is
+ * invalidated, e.g. when the connection is released.
+ *
+ * @author Lukas Eder
+ */
+final class StatementCache {
+
+    private static final JooqLogger                     log = JooqLogger.getLogger(StatementCache.class);
+
+    /**
+     * The connection whose statements are cached.
+     */
+    final Connection                                    connection;
+    private final LinkedHashMap<Key, PreparedStatement> idle;
+    private boolean                                     invalidated;
+    private long                                        hits;
+    private long                                        misses;
+
+    StatementCache(Connection connection, final int size) {
+        this.connection = connection;
+        this.idle = new LinkedHashMap<Key, PreparedStatement>(16, 0.75f, true) {
+
+            /**
+             * Generated UID
+             */
+            private static final long serialVersionUID = -5006394563553939787L;
+
+            @Override
+            protected boolean removeEldestEntry(Entry<Key, PreparedStatement> eldest) {
+                if (size() <= size)
+                    return false;
+
+                if (log.isTraceEnabled())
+                    log.trace("Evicting statement", eldest.getKey().sql);
+
+                JDBCUtils.safeClose(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Wrap a {@link Connection} whose prepared statements are taken from this
+     * cache.
+     */
+    final Connection wrap(Connection c) {
+        return new CachingConnection(c);
+    }
+
+    /**
+     * Close all idle statements and stop caching statements that are returned
+     * afterwards.
+     */
+    final void invalidate() {
+        List<PreparedStatement> statements;
+
+        synchronized (this) {
+            invalidated = true;
+            statements = new ArrayList<>(idle.values());
+            idle.clear();
+        }
+
+        if (log.isDebugEnabled())
+            log.debug("Statement cache", this);
+
+        for (PreparedStatement statement : statements)
+            JDBCUtils.safeClose(statement);
+    }
+
+    private final PreparedStatement checkout(Key key) {
+        PreparedStatement result;
+
+        synchronized (this) {
+            result = idle.remove(key);
+
+            if (result == null) {
+                misses++;
+                return null;
+            }
+        }
+
+        // The driver may have closed the statement in the meantime
+        try {
+            if (!result.isClosed()) {
+                synchronized (this) {
+                    hits++;
+                }
+
+                return result;
+            }
+        }
+        catch (SQLException ignore) {}
+
+        JDBCUtils.safeClose(result);
+        return null;
+    }
+
+    private final void checkin(Key key, PreparedStatement statement) {
+        PreparedStatement previous;
+
+        synchronized (this) {
+            if (invalidated)
+                previous = statement;
+            else
+                previous = idle.put(key, statement);
+        }
+
+        // Another statement for the same key may have been returned before
+        if (previous != null)
+            JDBCUtils.safeClose(previous);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "hits: " + hits + ", misses: " + misses + ", size: " + idle.size();
+    }
+
+    /**
+     * The SQL string and the options of a prepared statement.
+     */
+    private static final class Key {
+        final String  sql;
+        final int     resultSetType;
+        final int     resultSetConcurrency;
+        final int     resultSetHoldability;
+        final int     autoGeneratedKeys;
+        final List<?> columns;
+
+        Key(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability, int autoGeneratedKeys, List<?> columns) {
+            this.sql = sql;
+            this.resultSetType = resultSetType;
+            this.resultSetConcurrency = resultSetConcurrency;
+            this.resultSetHoldability = resultSetHoldability;
+            this.autoGeneratedKeys = autoGeneratedKeys;
+            this.columns = columns;
+        }
+
+        @Override
+        public int hashCode() {
+            return sql.hashCode()
+                + 31 * (resultSetType + 31 * (resultSetConcurrency + 31 * (resultSetHoldability + 31 * (autoGeneratedKeys + 31 * Objects.hashCode(columns)))));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Key))
+                return false;
+
+            Key other = (Key) obj;
+            return sql.equals(other.sql)
+                && resultSetType == other.resultSetType
+                && resultSetConcurrency == other.resultSetConcurrency
+                && resultSetHoldability == other.resultSetHoldability
+                && autoGeneratedKeys == other.autoGeneratedKeys
+                && Objects.equals(columns, other.columns);
+        }
+    }
+
+    /**
+     * A {@link Connection} preparing statements through the cache.
+     */
+    private final class CachingConnection extends DefaultConnection {
+
+        CachingConnection(Connection delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public final PreparedStatement prepareStatement(String sql) throws SQLException {
+            Key key = new Key(sql, -1, -1, -1, -1, null);
+            PreparedStatement result = checkout(key);
+            return new CachedPreparedStatement(key, result != null ? result : getDelegate().prepareStatement(sql));
+        }
+
+        @Override
+        public final PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+            Key key = new Key(sql, resultSetType, resultSetConcurrency, -1, -1, null);
+            PreparedStatement result = checkout(key);
+            return new CachedPreparedStatement(key, result != null ? result : getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency));
+        }
+
+        @Override
+        public final PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+            Key key = new Key(sql, resultSetType, resultSetConcurrency, resultSetHoldability, -1, null);
+            PreparedStatement result = checkout(key);
+            return new CachedPreparedStatement(key, result != null ? result : getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+        }
+
+        @Override
+        public final PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+            Key key = new Key(sql, -1, -1, -1, autoGeneratedKeys, null);
+            PreparedStatement result = checkout(key);
+            return new CachedPreparedStatement(key, result != null ? result : getDelegate().prepareStatement(sql, autoGeneratedKeys));
+        }
+
+        @Override
+        public final PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+            Key key = new Key(sql, -1, -1, -1, -1, IntStream.of(columnIndexes).boxed().collect(toList()));
+            PreparedStatement result = checkout(key);
+            return new CachedPreparedStatement(key, result != null ? result : getDelegate().prepareStatement(sql, columnIndexes));
+        }
+
+        @Override
+        public final PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+            Key key = new Key(sql, -1, -1, -1, -1, asList(columnNames.clone()));
+            PreparedStatement result = checkout(key);
+            return new CachedPreparedStatement(key, result != null ? result : getDelegate().prepareStatement(sql, columnNames));
+        }
+    }
+
+    /**
+     * A {@link PreparedStatement} that is returned to the cache when it is
+     * closed, after restoring any statement properties that were modified
+     * during its execution.
+     */
+    private final class CachedPreparedStatement extends DefaultPreparedStatement {
+
+        private final Key key;
+        private boolean   closed;
+        private boolean   batched;
+        private Long      maxRows;
+        private Integer   queryTimeout;
+        private Integer   fetchSize;
+        private Integer   fetchDirection;
+        private Boolean   poolable;
+
+        CachedPreparedStatement(Key key, PreparedStatement delegate) {
+            super(delegate);
+
+            this.key = key;
+        }
+
+        @Override
+        public final void addBatch() throws SQLException {
+            batched = true;
+            super.addBatch();
+        }
+
+        @Override
+        public final void setMaxRows(int max) throws SQLException {
+            if (maxRows == null)
+                maxRows = (long) getDelegate().getMaxRows();
+
+            super.setMaxRows(max);
+        }
+
+        @Override
+        public final void setLargeMaxRows(long max) throws SQLException {
+            if (maxRows == null)
+                maxRows = (long) getDelegate().getMaxRows();
+
+            super.setLargeMaxRows(max);
+        }
+
+        @Override
+        public final void setQueryTimeout(int seconds) throws SQLException {
+            if (queryTimeout == null)
+                queryTimeout = getDelegate().getQueryTimeout();
+
+            super.setQueryTimeout(seconds);
+        }
+
+        @Override
+        public final void setFetchSize(int rows) throws SQLException {
+            if (fetchSize == null)
+                fetchSize = getDelegate().getFetchSize();
+
+            super.setFetchSize(rows);
+        }
+
+        @Override
+        public final void setFetchDirection(int direction) throws SQLException {
+            if (fetchDirection == null)
+                fetchDirection = getDelegate().getFetchDirection();
+
+            super.setFetchDirection(direction);
+        }
+
+        @Override
+        public final void setPoolable(boolean p) throws SQLException {
+            if (poolable == null)
+                poolable = getDelegate().isPoolable();
+
+            super.setPoolable(p);
+        }
+
+        @Override
+        public final boolean isClosed() throws SQLException {
+            return closed || super.isClosed();
+        }
+
+        @Override
+        public final void close() throws SQLException {
+            if (closed)
+                return;
+
+            closed = true;
+            PreparedStatement delegate = getDelegate();
+
+            try {
+                delegate.clearParameters();
+                delegate.clearWarnings();
+
+                if (batched)
+                    delegate.clearBatch();
+
+                if (maxRows != null)
+                    delegate.setMaxRows((int) (long) maxRows);
+                if (queryTimeout != null)
+                    delegate.setQueryTimeout(queryTimeout);
+                if (fetchSize != null)
+                    delegate.setFetchSize(fetchSize);
+                if (fetchDirection != null)
+                    delegate.setFetchDirection(fetchDirection);
+                if (poolable != null)
+                    delegate.setPoolable(poolable);
+            }
+            catch (SQLException e) {
+                log.debug("Statement cache", "Cannot reset statement, closing it instead", e);
+                delegate.close();
+                return;
+            }
+
+            checkin(key, delegate);
+        }
+    }
+}
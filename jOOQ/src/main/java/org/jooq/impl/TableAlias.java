@@ -171,4 +171,24 @@ final class TableAlias<R extends Record> extends AbstractTable<R> {
     public Class<? extends R> getRecordType() {
         return alias.wrapped().getRecordType();
     }
+
+    // ------------------------------------------------------------------------
+    // XXX: Object API
+    // ------------------------------------------------------------------------
+
+    @Override
+    public int hashCode() {
+        return alias.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that)
+            return true;
+
+        if (that instanceof TableAlias)
+            return alias.equals(((TableAlias<?>) that).alias);
+
+        return super.equals(that);
+    }
 }
@@ -101,7 +101,7 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractRecord im
     private final Table<R>               table;
 
     public TableRecordImpl(Table<R> table) {
-        super(table.fields());
+        super(table instanceof AbstractTable ? ((AbstractTable<R>) table).recordRow() : Tools.row0(table.fields()));
 
         this.table = table;
     }
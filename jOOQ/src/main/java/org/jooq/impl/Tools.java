@@ -64,9 +64,6 @@ import static org.jooq.SQLDialect.SQLITE;
 // ...
 import static org.jooq.conf.BackslashEscaping.DEFAULT;
 import static org.jooq.conf.BackslashEscaping.ON;
-import static org.jooq.conf.ParamType.INLINED;
-import static org.jooq.conf.ParamType.NAMED;
-import static org.jooq.conf.ParamType.NAMED_OR_INLINED;
 import static org.jooq.conf.SettingsTools.getBackslashEscaping;
 import static org.jooq.conf.SettingsTools.reflectionCaching;
 import static org.jooq.conf.SettingsTools.updatablePrimaryKeys;
@@ -208,9 +205,13 @@ import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinPool.ManagedBlocker;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -255,7 +256,6 @@ import org.jooq.Record;
 import org.jooq.Record1;
 import org.jooq.RecordType;
 import org.jooq.RenderContext;
-import org.jooq.RenderContext.CastMode;
 import org.jooq.Result;
 import org.jooq.ResultOrRows;
 import org.jooq.Results;
@@ -290,6 +290,7 @@ import org.jooq.tools.Ints;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.StringUtils;
 import org.jooq.tools.jdbc.JDBCUtils;
+import org.jooq.tools.metrics.CacheStatistics;
 import org.jooq.tools.reflect.Reflect;
 import org.jooq.tools.reflect.ReflectException;
 import org.jooq.types.UByte;
@@ -683,7 +684,9 @@ final class Tools {
         DATA_REFLECTION_CACHE_GET_MATCHING_MEMBERS("org.jooq.configuration.reflection-cache.get-matching-members"),
         DATA_REFLECTION_CACHE_GET_MATCHING_SETTERS("org.jooq.configuration.reflection-cache.get-matching-setters"),
         DATA_REFLECTION_CACHE_HAS_COLUMN_ANNOTATIONS("org.jooq.configuration.reflection-cache.has-column-annotations"),
-        DATA_CACHE_RECORD_MAPPERS("org.jooq.configuration.cache.record-mappers");
+        DATA_CACHE_RECORD_MAPPERS("org.jooq.configuration.cache.record-mappers"),
+        DATA_CACHE_PARSING_CONNECTION("org.jooq.configuration.cache.parsing-connection"),
+        DATA_CACHE_PLAIN_SQL_TEMPLATES("org.jooq.configuration.cache.plain-sql-templates");
 
         final String key;
 
@@ -1080,6 +1083,26 @@ final class Tools {
         }
     }
 
+    /**
+     * Create a new record factory for read-only records, see
+     * {@link Settings#isFetchReadOnlyRecords()}.
+     */
+    static final <R extends Record> F0<R> readOnlyRecordFactory(final Class<R> type, final Field<?>[] fields) {
+        final F0<R> factory = recordFactory(type, fields);
+
+        return new F0<R>() {
+            @Override
+            public R apply() {
+                R record = factory.apply();
+
+                if (record instanceof AbstractRecord)
+                    ((AbstractRecord) record).readOnly0();
+
+                return record;
+            }
+        };
+    }
+
     /**
      * [#2700] [#3582] If a POJO attribute is NULL, but the column is NOT NULL
      * then we should let the database apply DEFAULT values
@@ -2405,23 +2428,32 @@ final class Tools {
      * values in the sql string</li>
      * </ul>
      */
-    @SuppressWarnings("null")
     static final void renderAndBind(Context<?> ctx, String sql, List<QueryPart> substitutes) {
-        RenderContext render = (RenderContext) ((ctx instanceof RenderContext) ? ctx : null);
-        BindContext   bind   = (BindContext)   ((ctx instanceof BindContext)   ? ctx : null);
+        SQLTemplate.get(ctx, sql, substitutes.size()).renderAndBind(ctx, substitutes);
+    }
+
+    /**
+     * Tokenise a plain SQL template into a {@link SQLTemplate}, whose
+     * segments can be rendered and bound repeatedly, without lexing the
+     * template again.
+     * <p>
+     * Comments, string literals and quoted identifiers are kept as plain SQL,
+     * whereas bind variables, {numbered placeholders} and {keywords} are
+     * turned into separate segments.
+     */
+    static final SQLTemplate template(Context<?> ctx, String sql, int substitutes) {
+        SQLTemplate.Builder template = new SQLTemplate.Builder(ctx, substitutes);
+        StringBuilder text = template.text;
 
         int substituteIndex = 0;
         char[] sqlChars = sql.toCharArray();
 
-        // [#1593] Create a dummy renderer if we're in bind mode
-        if (render == null) render = new DefaultRenderContext(bind.configuration());
-
-        SQLDialect family = render.family();
-        boolean mysql = SUPPORT_MYSQL_SYNTAX.contains(render.dialect());
+        SQLDialect family = ctx.family();
+        boolean mysql = SUPPORT_MYSQL_SYNTAX.contains(ctx.dialect());
         char[][][] quotes = QUOTES.get(family);
 
         // [#3630] Depending on this setting, we need to consider backslashes as escape characters within string literals.
-        boolean needsBackslashEscaping = needsBackslashEscaping(ctx.configuration());
+        boolean needsBackslashEscaping = template.needsBackslashEscaping;
 
         characterLoop:
         for (int i = 0; i < sqlChars.length; i++) {
@@ -2440,10 +2472,10 @@ final class Tools {
                 (mysql && peek(sqlChars, i, TOKEN_HASH))) {
 
                 // Consume the complete comment
-                for (; i < sqlChars.length && sqlChars[i] != '\r' && sqlChars[i] != '\n'; render.sql(sqlChars[i++]));
+                for (; i < sqlChars.length && sqlChars[i] != '\r' && sqlChars[i] != '\n'; text.append(sqlChars[i++]));
 
                 // Consume the newline character
-                if (i < sqlChars.length) render.sql(sqlChars[i]);
+                if (i < sqlChars.length) text.append(sqlChars[i]);
             }
 
             // [#1797] Skip content inside of multi-line comments, e.g.
@@ -2456,7 +2488,7 @@ final class Tools {
 
                 // Consume the complete comment
                 for (;;) {
-                    render.sql(sqlChars[i++]);
+                    text.append(sqlChars[i++]);
 
                     if (peek(sqlChars, i, TOKEN_MULTI_LINE_COMMENT_OPEN))
                         nestedMultilineCommentLevel++;
@@ -2468,7 +2500,7 @@ final class Tools {
                 }
 
                 // Consume the comment delimiter
-                render.sql(sqlChars[i]);
+                text.append(sqlChars[i]);
             }
 
             // [#1031] [#1032] Skip ? inside of string literals, e.g.
@@ -2476,7 +2508,7 @@ final class Tools {
             else if (sqlChars[i] == '\'') {
 
                 // Consume the initial string literal delimiter
-                render.sql(sqlChars[i++]);
+                text.append(sqlChars[i++]);
 
                 // Consume the whole string literal
                 for (;;) {
@@ -2488,22 +2520,22 @@ final class Tools {
 
                     // [#3000] [#3630] Consume backslash-escaped characters if needed
                     else if (sqlChars[i] == '\\' && needsBackslashEscaping)
-                        render.sql(sqlChars[i++]);
+                        text.append(sqlChars[i++]);
 
                     // Consume an escaped apostrophe
                     else if (peek(sqlChars, i, TOKEN_ESCAPED_APOS))
-                        render.sql(sqlChars[i++]);
+                        text.append(sqlChars[i++]);
 
                     // Break on the terminal string literal delimiter
                     else if (peek(sqlChars, i, TOKEN_APOS))
                         break;
 
                     // Consume string literal content
-                    render.sql(sqlChars[i++]);
+                    text.append(sqlChars[i++]);
                 }
 
                 // Consume the terminal string literal delimiter
-                render.sql(sqlChars[i]);
+                text.append(sqlChars[i]);
             }
 
             // [#6704] PostgreSQL supports additional quoted string literals, which we must skip: E'...'
@@ -2513,30 +2545,30 @@ final class Tools {
                         && sqlChars[i + 1] == '\'') {
 
                 // Consume the initial string literal delimiters
-                render.sql(sqlChars[i++]);
-                render.sql(sqlChars[i++]);
+                text.append(sqlChars[i++]);
+                text.append(sqlChars[i++]);
 
                 // Consume the whole string literal
                 for (;;) {
 
                     // [#3000] [#3630] Consume backslash-escaped characters if needed
                     if (sqlChars[i] == '\\')
-                        render.sql(sqlChars[i++]);
+                        text.append(sqlChars[i++]);
 
                     // Consume an escaped apostrophe
                     else if (peek(sqlChars, i, TOKEN_ESCAPED_APOS))
-                        render.sql(sqlChars[i++]);
+                        text.append(sqlChars[i++]);
 
                     // Break on the terminal string literal delimiter
                     else if (peek(sqlChars, i, TOKEN_APOS))
                         break;
 
                     // Consume string literal content
-                    render.sql(sqlChars[i++]);
+                    text.append(sqlChars[i++]);
                 }
 
                 // Consume the terminal string literal delimiter
-                render.sql(sqlChars[i]);
+                text.append(sqlChars[i]);
             }
 
 
@@ -2595,7 +2627,7 @@ final class Tools {
 
                 // Consume the initial identifier delimiter
                 for (int d = 0; d < quotes[QUOTE_START_DELIMITER][delimiter].length; d++)
-                    render.sql(sqlChars[i++]);
+                    text.append(sqlChars[i++]);
 
                 // Consume the whole identifier
                 identifierLoop:
@@ -2610,7 +2642,7 @@ final class Tools {
                     // Consume an escaped quote
                     else if (peek(sqlChars, i, quotes[QUOTE_END_DELIMITER_ESCAPED][delimiter])) {
                         for (int d = 0; d < quotes[QUOTE_END_DELIMITER_ESCAPED][delimiter].length; d++)
-                            render.sql(sqlChars[i++]);
+                            text.append(sqlChars[i++]);
 
                         continue identifierLoop;
                     }
@@ -2620,7 +2652,7 @@ final class Tools {
                         break identifierLoop;
 
                     // Consume identifier content
-                    render.sql(sqlChars[i++]);
+                    text.append(sqlChars[i++]);
                 }
 
                 // Consume the terminal identifier delimiter
@@ -2628,12 +2660,12 @@ final class Tools {
                     if (d > 0)
                         i++;
 
-                    render.sql(sqlChars[i]);
+                    text.append(sqlChars[i]);
                 }
             }
 
             // Inline bind variables only outside of string literals
-            else if (substituteIndex < substitutes.size() &&
+            else if (substituteIndex < substitutes &&
                     ((sqlChars[i] == '?')
 
                   // [#4131] Named bind variables of the form :identifier
@@ -2647,9 +2679,11 @@ final class Tools {
                     for (char[] suffix : NON_BIND_VARIABLE_SUFFIXES) {
                         if (peek(sqlChars, i + 1, suffix)) {
                             for (int j = i; i - j <= suffix.length; i++)
-                                render.sql(sqlChars[i]);
+                                text.append(sqlChars[i]);
+
+                            if (i < sqlChars.length)
+                                text.append(sqlChars[i]);
 
-                            render.sql(sqlChars[i]);
                             continue characterLoop;
                         }
                     }
@@ -2660,20 +2694,7 @@ final class Tools {
                     while (i + 1 < sqlChars.length && isJavaIdentifierPart(sqlChars[i + 1]))
                         i++;
 
-                QueryPart substitute = substitutes.get(substituteIndex++);
-
-                if (render.paramType() == INLINED || render.paramType() == NAMED || render.paramType() == NAMED_OR_INLINED) {
-                    render.visit(substitute);
-                }
-                else {
-                    CastMode previous = render.castMode();
-                    render.castMode(CastMode.NEVER)
-                          .visit(substitute)
-                          .castMode(previous);
-                }
-
-                if (bind != null)
-                    bind.visit(substitute);
+                template.bindVariable(substituteIndex++);
             }
 
             // [#1432] Inline substitues for {numbered placeholders} outside of string literals
@@ -2681,7 +2702,7 @@ final class Tools {
 
                 // [#1461] Be careful not to match any JDBC escape syntax
                 if (peekAny(sqlChars, i, JDBC_ESCAPE_PREFIXES, true)) {
-                    render.sql(sqlChars[i]);
+                    text.append(sqlChars[i]);
                 }
 
                 // Consume the whole token
@@ -2693,27 +2714,25 @@ final class Tools {
                     // Try getting the {numbered placeholder}
                     Integer index = Ints.tryParse(sql, start, end);
                     if (index != null) {
-                        if (index < 0 || index >= substitutes.size())
+                        if (index < 0 || index >= substitutes)
                             throw new TemplatingException("No substitute QueryPart provided for placeholder {" + index + "} in plain SQL template: " + sql);
 
-                        QueryPart substitute = substitutes.get(index);
-                        render.visit(substitute);
-
-                        if (bind != null)
-                            bind.visit(substitute);
+                        template.placeholder(index);
                     }
                     else {
                         // Then we're dealing with a {keyword}
-                        render.visit(DSL.keyword(sql.substring(start, end)));
+                        template.keyword(sql.substring(start, end));
                     }
                 }
             }
 
             // Any other character
             else {
-                render.sql(sqlChars[i]);
+                text.append(sqlChars[i]);
             }
         }
+
+        return template.build();
     }
 
     /**
@@ -3355,8 +3374,14 @@ final class Tools {
      */
     static class Cache {
 
+        private static final JooqLogger log = JooqLogger.getLogger(Cache.class);
+
         /**
          * Run a cached operation in the context of a {@link Configuration}.
+         * <p>
+         * Concurrent cache misses for different keys do not block each other.
+         * Concurrent cache misses for the same key run the operation only
+         * once, and all other callers wait for its outcome.
          *
          * @param configuration The configuration that may cache the outcome of
          *            the cached operation.
@@ -3365,7 +3390,6 @@ final class Tools {
          * @param keys The cache keys.
          * @return The cached value or the outcome of the cached operation.
          */
-        @SuppressWarnings("unchecked")
         static final <V> V run(Configuration configuration, F0<V> operation, DataCacheKey type, Object key) {
 
             // If no configuration is provided take the default configuration that loads the default Settings
@@ -3376,31 +3400,149 @@ final class Tools {
             if (!reflectionCaching(configuration.settings()))
                 return operation.apply();
 
-            Map<Object, Object> cache = (Map<Object, Object>) configuration.data(type);
-            if (cache == null) {
+            Store store = (Store) configuration.data(type);
+            if (store == null) {
                 synchronized (type) {
-                    cache = (Map<Object, Object>) configuration.data(type);
+                    store = (Store) configuration.data(type);
 
-                    if (cache == null) {
-                        cache = new ConcurrentHashMap<>();
-                        configuration.data(type, cache);
+                    if (store == null) {
+                        store = new Store(configuration.settings().getReflectionCachingLRUCacheSize());
+                        configuration.data(type, store);
                     }
                 }
             }
 
-            Object result = cache.get(key);
-            if (result == null) {
-                synchronized (cache) {
-                    result = cache.get(key);
+            return store.get(type, key, operation);
+        }
+
+        /**
+         * The statistics of all {@link Store} instances of a
+         * {@link Configuration}.
+         */
+        static final CacheStatistics statistics(Configuration configuration) {
+            long hits = 0;
+            long misses = 0;
+            int size = 0;
+
+            for (DataCacheKey type : DataCacheKey.values()) {
+                Object store = configuration.data(type);
+
+                if (store instanceof Store) {
+                    hits += ((Store) store).hits.get();
+                    misses += ((Store) store).misses.get();
+                    size += ((Store) store).map.size();
+                }
+            }
+
+            return new CacheStatistics(hits, misses, size);
+        }
+
+        /**
+         * The cache contents of a single {@link DataCacheKey}, along with
+         * some statistics.
+         * <p>
+         * While a value is being computed, its cache entry contains a
+         * {@link Computation}, which is replaced by the value once it is
+         * available. This allows for computing values without holding any
+         * locks.
+         * <p>
+         * An operation may re-enter the cache for the key it is computing, on
+         * the same thread, e.g. when mapping recursive types. Such nested
+         * calls compute the value again instead of waiting for themselves.
+         */
+        static final class Store {
+            final Map<Object, Object> map;
+            final AtomicLong          hits   = new AtomicLong();
+            final AtomicLong          misses = new AtomicLong();
+
+            Store(Integer size) {
+                this.map = size == null || size <= 0
+                    ? new ConcurrentHashMap<>()
+                    : Collections.synchronizedMap(new LRU<>(size));
+            }
+
+            @SuppressWarnings("unchecked")
+            final <V> V get(DataCacheKey type, Object key, F0<V> operation) {
+                Object result = map.get(key);
+
+                if (result == null) {
+                    Computation task = new Computation(() -> {
+                        Object value = operation.apply();
+                        return value == null ? NULL : value;
+                    });
 
+                    result = map.putIfAbsent(key, task);
                     if (result == null) {
-                        result = operation.apply();
-                        cache.put(key, result == null ? NULL : result);
+                        misses.incrementAndGet();
+                        task.run();
+                        result = task;
+
+                        if (log.isTraceEnabled())
+                            log.trace("Cache miss", type.key + ": " + key + " (" + this + ")");
+                    }
+                    else
+                        hits.incrementAndGet();
+                }
+                else if (result instanceof Computation && ((Computation) result).thread == Thread.currentThread()) {
+                    misses.incrementAndGet();
+                    return operation.apply();
+                }
+                else
+                    hits.incrementAndGet();
+
+                if (result instanceof Computation) {
+                    Computation task = (Computation) result;
+
+                    try {
+                        result = task.get();
+                        map.replace(key, task, result);
+                    }
+                    catch (ExecutionException e) {
+                        map.remove(key, task);
+
+                        if (e.getCause() instanceof RuntimeException)
+                            throw (RuntimeException) e.getCause();
+                        else if (e.getCause() instanceof Error)
+                            throw (Error) e.getCause();
+                        else
+                            throw new DataAccessException("Error while computing cache value", e.getCause());
+                    }
+                    catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new DataAccessException("Interrupted while waiting for cache value", e);
                     }
                 }
+
+                return (V) (result == NULL ? null : result);
+            }
+
+            @Override
+            public String toString() {
+                return "hits: " + hits + ", misses: " + misses + ", size: " + map.size();
+            }
+        }
+
+        /**
+         * A value that is being computed by {@link #thread}.
+         */
+        static final class Computation extends FutureTask<Object> {
+            volatile Thread thread;
+
+            Computation(Callable<Object> callable) {
+                super(callable);
             }
 
-            return (V) (result == NULL ? null : result);
+            @Override
+            public void run() {
+                thread = Thread.currentThread();
+
+                try {
+                    super.run();
+                }
+                finally {
+                    thread = null;
+                }
+            }
         }
 
         /**
@@ -0,0 +1,241 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static javax.xml.stream.XMLStreamConstants.CDATA;
+import static javax.xml.stream.XMLStreamConstants.CHARACTERS;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DefaultDataType.getDataType;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+import static org.jooq.impl.Tools.EMPTY_FIELD;
+import static org.jooq.tools.StringUtils.defaultIfBlank;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.exception.DataAccessException;
+
+/**
+ * A streaming reader for the XML documents produced by
+ * {@link org.jooq.Formattable#formatXML()}, which reads records one at a time.
+ * <p>
+ * Unlike the {@link XMLHandler}, which collects a SAX event stream into a
+ * {@link org.jooq.Result}, this reader pulls StAX events only as far as the
+ * next <code>&lt;record/&gt;</code> element, such that it can be used as a
+ * bounded memory source for the {@link org.jooq.Loader} API. All
+ * {@link org.jooq.XMLFormat.RecordFormat} variants are supported. Column
+ * values are returned as strings. Empty column elements are returned as
+ * <code>null</code>.
+ *
+ * @author Lukas Eder
+ */
+final class XMLRecordReader implements Iterator<Object[]> {
+
+    private final DSLContext       ctx;
+    private final XMLStreamReader  reader;
+    private final List<Field<?>>   headerFields;
+    private Field<?>[]             fields;
+    private Object[]               next;
+    private boolean                done;
+
+    XMLRecordReader(DSLContext ctx, Reader reader) {
+        this.ctx = ctx;
+        this.headerFields = new ArrayList<>();
+
+        try {
+            XMLInputFactory factory = XMLInputFactory.newInstance();
+
+            // Prevent OWASP attack vectors, see also DSLContext.fetchFromXML()
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+
+            this.reader = factory.createXMLStreamReader(reader);
+        }
+        catch (XMLStreamException e) {
+            throw new DataAccessException("Exception while opening XML", e);
+        }
+    }
+
+    /**
+     * The fields of the document, which are available after the first call to
+     * {@link #hasNext()}, or <code>null</code> if the document is empty.
+     */
+    final Field<?>[] fields() {
+        hasNext();
+        return fields;
+    }
+
+    @Override
+    public final boolean hasNext() {
+        if (next == null && !done) {
+            try {
+                next = readNext();
+            }
+            catch (XMLStreamException e) {
+                throw new DataAccessException("Exception while reading XML", e);
+            }
+
+            done = next == null;
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public final Object[] next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        Object[] result = next;
+        next = null;
+        return result;
+    }
+
+    /**
+     * Advance to the next <code>&lt;record/&gt;</code> element and read it,
+     * or return <code>null</code> if there is no such element.
+     */
+    private final Object[] readNext() throws XMLStreamException {
+        while (reader.hasNext()) {
+            if (reader.next() == START_ELEMENT) {
+                String name = reader.getLocalName();
+
+                if ("field".equals(name)) {
+                    headerFields.add(field(
+                        name(
+                            reader.getAttributeValue(null, "catalog"),
+                            reader.getAttributeValue(null, "schema"),
+                            reader.getAttributeValue(null, "table"),
+                            reader.getAttributeValue(null, "name")
+                        ),
+                        getDataType(ctx.dialect(), defaultIfBlank(reader.getAttributeValue(null, "type"), "VARCHAR"))
+                    ));
+                }
+                else if ("record".equals(name)) {
+                    return readRecord();
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private final Object[] readRecord() throws XMLStreamException {
+        List<Object> values = new ArrayList<>(fields == null ? 16 : fields.length);
+        List<Field<?>> columns = fields == null ? new ArrayList<>() : null;
+
+        for (;;) {
+            int event = reader.next();
+
+            if (event == END_ELEMENT)
+                break;
+
+            if (event == START_ELEMENT) {
+                if (columns != null) {
+                    String field = reader.getAttributeValue(null, "field");
+                    columns.add(field(name(field != null ? field : reader.getLocalName()), VARCHAR));
+                }
+
+                values.add(readValue());
+            }
+        }
+
+        if (fields == null)
+            fields = headerFields.isEmpty()
+                ? onlyValueFields(columns)
+                    ? Tools.fields(columns.size())
+                    : columns.toArray(EMPTY_FIELD)
+                : headerFields.toArray(EMPTY_FIELD);
+
+        return values.toArray();
+    }
+
+    /**
+     * Read the text content of the current column element, including the text
+     * content of any nested elements.
+     */
+    private final String readValue() throws XMLStreamException {
+        StringBuilder sb = null;
+
+        for (int depth = 1; depth > 0;) {
+            switch (reader.next()) {
+                case START_ELEMENT:
+                    depth++;
+                    break;
+
+                case END_ELEMENT:
+                    depth--;
+                    break;
+
+                case CHARACTERS:
+                case CDATA:
+                    if (sb == null)
+                        sb = new StringBuilder();
+
+                    sb.append(reader.getText());
+                    break;
+            }
+        }
+
+        return sb == null ? null : sb.toString();
+    }
+
+    private static final boolean onlyValueFields(List<Field<?>> fields) {
+        if (fields.size() <= 1)
+            return false;
+
+        for (Field<?> field : fields)
+            if (!"value".equals(field.getName()))
+                return false;
+
+        return true;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+/**
+ * A fingerprint of a SQL string, identifying the shape of a query
+ * independently of its inline values.
+ * <p>
+ * The fingerprint is a 64 bit hash of the SQL string, in hexadecimal
+ * notation, computed in a single pass over the string, where:
+ * <ul>
+ * <li>String literals and numeric literals are replaced by <code>?</code>,
+ * such that inlined bind values do not affect the fingerprint.</li>
+ * <li>Runs of whitespace are replaced by a single space.</li>
+ * <li>Quoted identifiers are kept as they are.</li>
+ * </ul>
+ * This is a heuristic, which does not parse the SQL string. For instance,
+ * <code>IN</code> lists of different lengths produce different fingerprints.
+ *
+ * @author Lukas Eder
+ */
+public final class SQLFingerprint {
+
+    private static final long   FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long   FNV_PRIME  = 0x100000001b3L;
+    private static final char[] HEX        = "0123456789abcdef".toCharArray();
+
+    /**
+     * Compute the fingerprint of a SQL string.
+     *
+     * @return The fingerprint, or <code>null</code> if the argument is
+     *         <code>null</code>.
+     */
+    public static final String fingerprint(String sql) {
+        if (sql == null)
+            return null;
+
+        long h = FNV_OFFSET;
+        int length = sql.length();
+        boolean identifier = false;
+
+        for (int i = 0; i < length; i++) {
+            char c = sql.charAt(i);
+
+            // String literals, including escaped apostrophes
+            if (c == '\'') {
+                for (i++; i < length; i++) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'')
+                            i++;
+                        else
+                            break;
+                    }
+                }
+
+                h = (h ^ '?') * FNV_PRIME;
+                identifier = false;
+            }
+
+            // Quoted identifiers
+            else if (c == '"' || c == '`' || c == '[') {
+                char end = c == '[' ? ']' : c;
+                h = (h ^ c) * FNV_PRIME;
+
+                for (i++; i < length && sql.charAt(i) != end; i++)
+                    h = (h ^ sql.charAt(i)) * FNV_PRIME;
+
+                h = (h ^ end) * FNV_PRIME;
+                identifier = false;
+            }
+
+            // Numeric literals, unless they're part of an identifier
+            else if (c >= '0' && c <= '9' && !identifier) {
+                while (i + 1 < length && (Character.isDigit(sql.charAt(i + 1)) || sql.charAt(i + 1) == '.'))
+                    i++;
+
+                h = (h ^ '?') * FNV_PRIME;
+            }
+
+            else if (Character.isWhitespace(c)) {
+                while (i + 1 < length && Character.isWhitespace(sql.charAt(i + 1)))
+                    i++;
+
+                h = (h ^ ' ') * FNV_PRIME;
+                identifier = false;
+            }
+
+            else {
+                h = (h ^ c) * FNV_PRIME;
+                identifier = Character.isJavaIdentifierPart(c);
+            }
+        }
+
+        char[] result = new char[16];
+        for (int i = 15; i >= 0; i--, h >>>= 4)
+            result[i] = HEX[(int) (h & 0xF)];
+
+        return new String(result);
+    }
+
+    /**
+     * No instances
+     */
+    private SQLFingerprint() {}
+}
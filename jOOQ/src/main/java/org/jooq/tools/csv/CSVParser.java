@@ -34,7 +34,9 @@ public class CSVParser {
     private final boolean       strictQuotes;
 
     private String              pending;
-    private boolean             inField                           = false;
+
+    // Package-private for CSVTokenizer, as this state is kept across lines
+    boolean                     inField                           = false;
 
     private final boolean       ignoreLeadingWhiteSpace;
 
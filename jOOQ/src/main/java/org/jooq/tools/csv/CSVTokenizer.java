@@ -0,0 +1,509 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.csv;
+
+import static org.jooq.tools.csv.CSVParser.DEFAULT_ESCAPE_CHARACTER;
+import static org.jooq.tools.csv.CSVParser.DEFAULT_IGNORE_LEADING_WHITESPACE;
+import static org.jooq.tools.csv.CSVParser.DEFAULT_QUOTE_CHARACTER;
+import static org.jooq.tools.csv.CSVParser.DEFAULT_SEPARATOR;
+import static org.jooq.tools.csv.CSVParser.DEFAULT_STRICT_QUOTES;
+import static org.jooq.tools.csv.CSVReader.DEFAULT_SKIP_LINES;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A buffer based alternative to {@link CSVReader}, which tokenises CSV input
+ * directly from a large character buffer.
+ * <p>
+ * Unlike {@link CSVReader}, this tokeniser does not copy each line into a
+ * {@link String}, nor each field into a {@link StringBuilder}. Unquoted
+ * fields and quoted fields without escaped characters are created directly
+ * from the buffer, and field values are collected in reusable slots.
+ * <p>
+ * The tokeniser produces the same tokens as {@link CSVReader} for the same
+ * separator, quote and escape characters. Records that it does not recognise
+ * as regular, e.g. because of quoted fields spanning several lines, or
+ * characters following a closing quote, are passed on to a {@link CSVParser}.
+ *
+ * @author Lukas Eder
+ */
+public class CSVTokenizer implements Closeable, Iterator<String[]> {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Reader     reader;
+    private final char       separator;
+    private final char       quote;
+    private final char       escape;
+    private final CSVParser  parser;
+    private int              skipLines;
+
+    private char[]           buffer      = new char[BUFFER_SIZE];
+    private int              position;
+    private int              limit;
+    private boolean          eof;
+
+    // Positions that must be retained when the buffer is refilled
+    private int              recordStart;
+    private int              fieldStart;
+
+    // CSVParser's field state, which is kept across lines
+    private boolean          inField;
+    private boolean          recordInField;
+
+    private String[]         slots       = new String[16];
+    private int              count;
+    private char[]           scratch     = new char[128];
+    private int              scratchLength;
+
+    private String[]         next;
+    private boolean          fetched;
+
+    /**
+     * Constructs CSVTokenizer using a comma for the separator.
+     *
+     * @param reader the reader to an underlying CSV source.
+     */
+    public CSVTokenizer(Reader reader) {
+        this(reader, DEFAULT_SEPARATOR);
+    }
+
+    /**
+     * Constructs CSVTokenizer with supplied separator.
+     *
+     * @param reader the reader to an underlying CSV source.
+     * @param separator the delimiter to use for separating entries.
+     */
+    public CSVTokenizer(Reader reader, char separator) {
+        this(reader, separator, DEFAULT_QUOTE_CHARACTER, DEFAULT_SKIP_LINES);
+    }
+
+    /**
+     * Constructs CSVTokenizer with supplied separator and quote char.
+     *
+     * @param reader the reader to an underlying CSV source.
+     * @param separator the delimiter to use for separating entries
+     * @param quotechar the character to use for quoted elements
+     * @param line the line number to skip for start reading
+     */
+    public CSVTokenizer(Reader reader, char separator, char quotechar, int line) {
+        this(reader, separator, quotechar, DEFAULT_ESCAPE_CHARACTER, line);
+    }
+
+    /**
+     * Constructs CSVTokenizer with supplied separator, quote and escape char.
+     *
+     * @param reader the reader to an underlying CSV source.
+     * @param separator the delimiter to use for separating entries
+     * @param quotechar the character to use for quoted elements
+     * @param escape the character to use for escaping a separator or quote
+     * @param line the line number to skip for start reading
+     */
+    public CSVTokenizer(Reader reader, char separator, char quotechar, char escape, int line) {
+        this.reader = reader;
+        this.separator = separator;
+        this.quote = quotechar;
+        this.escape = escape;
+        this.parser = new CSVParser(separator, quotechar, escape, DEFAULT_STRICT_QUOTES, DEFAULT_IGNORE_LEADING_WHITESPACE);
+        this.skipLines = line;
+    }
+
+    /**
+     * Reads the entire input into a List with each element being a String[] of
+     * tokens.
+     *
+     * @return a List of String[], with each String[] representing a record.
+     * @throws IOException if bad things happen during the read
+     */
+    public List<String[]> readAll() throws IOException {
+        List<String[]> result = new ArrayList<>();
+
+        for (String[] record = readNext(); record != null; record = readNext())
+            result.add(record);
+
+        return result;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return a string array with each separated element as a separate entry,
+     *         or <code>null</code> if there are no more records.
+     * @throws IOException if bad things happen during the read
+     */
+    public String[] readNext() throws IOException {
+        if (fetched) {
+            fetched = false;
+            return next;
+        }
+
+        return read();
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Tokenising
+    // -------------------------------------------------------------------------
+
+    private final String[] read() throws IOException {
+        for (; skipLines > 0; skipLines--)
+            if (readLine() == null)
+                return null;
+
+        recordStart = position;
+        recordInField = inField;
+        count = 0;
+
+        if (position == limit && !fill())
+            return null;
+
+        for (;;) {
+            if (position == limit)
+                fill();
+
+            fieldStart = position;
+
+            // CSVParser reads a leading quote as an escaped quote, if the
+            // previous line ended in a field
+            if (position < limit && buffer[position] == quote) {
+                if (count == 0 && inField || !quoted())
+                    return irregular();
+            }
+            else if (!unquoted())
+                return irregular();
+
+            // The field is followed by a separator, a line break, or the end
+            if (position == limit && !fill())
+                return record();
+
+            char c = buffer[position++];
+            if (c == separator) {
+                inField = false;
+                continue;
+            }
+
+            if (c == '\r') {
+                if (position == limit)
+                    fill();
+
+                if (position < limit && buffer[position] == '\n')
+                    position++;
+            }
+
+            return record();
+        }
+    }
+
+    /**
+     * Read an unquoted field, or return <code>false</code> if the field
+     * contains quote or escape characters.
+     */
+    private final boolean unquoted() throws IOException {
+        for (;;) {
+            char[] b = buffer;
+            int p = position;
+            int l = limit;
+
+            for (; p < l; p++) {
+                char c = b[p];
+
+                if (c == separator || c == '\n' || c == '\r') {
+                    position = p;
+                    unquoted(b, p);
+                    return true;
+                }
+                else if (c == quote || c == escape)
+                    return false;
+            }
+
+            position = p;
+            if (!fill()) {
+                unquoted(buffer, position);
+                return true;
+            }
+        }
+    }
+
+    private final void unquoted(char[] b, int end) {
+        if (end > fieldStart)
+            inField = true;
+
+        add(new String(b, fieldStart, end - fieldStart));
+    }
+
+    /**
+     * Read a quoted field, or return <code>false</code> if the field spans
+     * several lines, or if it is not followed by a separator or a line break.
+     */
+    private final boolean quoted() throws IOException {
+        boolean escaped = false;
+
+        // The field state, once escaped characters are encountered
+        boolean f = true;
+        position++;
+        fieldStart = position;
+
+        for (;;) {
+            if (position == limit && !fill())
+                return false;
+
+            char c = buffer[position];
+
+            if (c == quote || c == escape) {
+                if (position + 1 == limit)
+                    fill();
+
+                boolean more = position + 1 < limit;
+                char n = more ? buffer[position + 1] : 0;
+
+                // The closing quote
+                if (c == quote && n != quote) {
+                    if (more && n != separator && n != '\n' && n != '\r')
+                        return false;
+
+                    add(escaped
+                        ? new String(scratch, 0, scratchLength)
+                        : new String(buffer, fieldStart, position - fieldStart));
+                    inField = !f;
+                    position++;
+                    return true;
+                }
+
+                if (!escaped) {
+                    escaped = true;
+                    scratchLength = 0;
+                    append(buffer, fieldStart, position - fieldStart);
+                }
+
+                // Escaped quotes and escape characters, or a dropped escape
+                // character, as in CSVParser
+                if (n == quote || n == escape) {
+                    if (c == quote)
+                        f = !f;
+
+                    append(n);
+                    position += 2;
+                }
+                else
+                    position++;
+            }
+            else if (c == '\n' || c == '\r')
+                return false;
+            else {
+                if (escaped) {
+                    append(c);
+                    f = true;
+                }
+
+                position++;
+            }
+        }
+    }
+
+    /**
+     * Re-read the current record line by line using a {@link CSVParser}, like
+     * {@link CSVReader}.
+     */
+    private final String[] irregular() throws IOException {
+        position = recordStart;
+        parser.inField = recordInField;
+        String[] result = null;
+
+        do {
+            String line = readLine();
+            if (line == null)
+                return result;
+
+            String[] r = parser.parseLineMulti(line);
+            if (r.length > 0) {
+                if (result == null) {
+                    result = r;
+                }
+                else {
+                    String[] t = new String[result.length + r.length];
+                    System.arraycopy(result, 0, t, 0, result.length);
+                    System.arraycopy(r, 0, t, result.length, r.length);
+                    result = t;
+                }
+            }
+        }
+        while (parser.isPending());
+
+        inField = parser.inField;
+        return result;
+    }
+
+    /**
+     * Read a line, like {@link java.io.BufferedReader#readLine()}.
+     */
+    private final String readLine() throws IOException {
+        recordStart = position;
+
+        if (position == limit && !fill())
+            return null;
+
+        for (;;) {
+            for (; position < limit; position++) {
+                char c = buffer[position];
+
+                if (c == '\n' || c == '\r') {
+                    String result = new String(buffer, recordStart, position - recordStart);
+                    position++;
+
+                    if (c == '\r') {
+                        if (position == limit)
+                            fill();
+
+                        if (position < limit && buffer[position] == '\n')
+                            position++;
+                    }
+
+                    return result;
+                }
+            }
+
+            if (!fill())
+                return new String(buffer, recordStart, position - recordStart);
+        }
+    }
+
+    /**
+     * Read more characters into the buffer, retaining the current record, or
+     * return <code>false</code> if the end of the input has been reached.
+     */
+    private final boolean fill() throws IOException {
+        if (eof)
+            return false;
+
+        if (recordStart > 0) {
+            System.arraycopy(buffer, recordStart, buffer, 0, limit - recordStart);
+            limit -= recordStart;
+            position -= recordStart;
+            fieldStart -= recordStart;
+            recordStart = 0;
+        }
+
+        if (limit == buffer.length)
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+
+        int read = reader.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            eof = true;
+            return false;
+        }
+
+        limit += read;
+        return true;
+    }
+
+    private final void add(String value) {
+        if (count == slots.length)
+            slots = Arrays.copyOf(slots, count * 2);
+
+        slots[count++] = value;
+    }
+
+    private final String[] record() {
+        return Arrays.copyOf(slots, count);
+    }
+
+    private final void append(char c) {
+        if (scratchLength == scratch.length)
+            scratch = Arrays.copyOf(scratch, scratchLength * 2);
+
+        scratch[scratchLength++] = c;
+    }
+
+    private final void append(char[] chars, int offset, int length) {
+        if (scratchLength + length > scratch.length)
+            scratch = Arrays.copyOf(scratch, Math.max(scratch.length * 2, scratchLength + length));
+
+        System.arraycopy(chars, offset, scratch, scratchLength, length);
+        scratchLength += length;
+    }
+
+    /**
+     * Closes the underlying reader.
+     *
+     * @throws IOException if the close fails
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Iterator API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public boolean hasNext() {
+        if (!fetched) {
+            try {
+                next = read();
+            }
+            catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+
+            fetched = true;
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public String[] next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        fetched = false;
+        return next;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("remove() method is not supported for CSV Iterator ");
+    }
+}
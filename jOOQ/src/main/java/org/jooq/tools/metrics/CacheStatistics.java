@@ -0,0 +1,100 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.metrics;
+
+import java.io.Serializable;
+
+/**
+ * An immutable snapshot of the statistics of a cache.
+ *
+ * @author Lukas Eder
+ * @see org.jooq.DSLContext#parsingConnectionStatistics()
+ * @see org.jooq.DSLContext#reflectionCacheStatistics()
+ */
+public final class CacheStatistics implements Serializable {
+
+    /**
+     * Generated UID
+     */
+    private static final long serialVersionUID = -3318405218741520386L;
+
+    private final long        hits;
+    private final long        misses;
+    private final int         size;
+
+    public CacheStatistics(long hits, long misses, int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.size = size;
+    }
+
+    /**
+     * The number of lookups that were served from the cache.
+     */
+    public final long hits() {
+        return hits;
+    }
+
+    /**
+     * The number of lookups that were not served from the cache.
+     */
+    public final long misses() {
+        return misses;
+    }
+
+    /**
+     * The number of entries in the cache.
+     */
+    public final int size() {
+        return size;
+    }
+
+    /**
+     * The ratio of lookups that were served from the cache, or
+     * <code>0.0</code> if there were no lookups.
+     */
+    public final double hitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return "hits: " + hits + ", misses: " + misses + ", size: " + size;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free latency histogram with a fixed memory footprint.
+ * <p>
+ * Latencies are counted in logarithmic buckets of microseconds, with
+ * {@link #SUB_BUCKETS} linear sub-buckets per power of two, i.e. with a
+ * relative error of at most 25%. Latencies below 2<sup>41</sup>
+ * microseconds (around 25 days) are counted in their own bucket, longer ones
+ * in the last bucket. The exact maximum and sum of all latencies are recorded
+ * as well.
+ *
+ * @author Lukas Eder
+ */
+final class Histogram {
+
+    static final int              SUB_BITS    = 2;
+    static final int              SUB_BUCKETS = 1 << SUB_BITS;
+    static final int              BUCKETS     = 40 * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets     = new AtomicLongArray(BUCKETS);
+    private final AtomicLong      sum         = new AtomicLong();
+    private final AtomicLong      max         = new AtomicLong();
+
+    /**
+     * Record a latency.
+     */
+    final void record(long nanos) {
+        if (nanos < 0)
+            nanos = 0;
+
+        buckets.incrementAndGet(index(nanos / 1000L));
+        sum.addAndGet(nanos);
+
+        for (long m = max.get(); nanos > m && !max.compareAndSet(m, nanos); m = max.get());
+    }
+
+    /**
+     * The number of recorded latencies.
+     */
+    final long count() {
+        long result = 0;
+
+        for (int i = 0; i < BUCKETS; i++)
+            result += buckets.get(i);
+
+        return result;
+    }
+
+    /**
+     * A consistent enough copy of this histogram, while latencies are being
+     * recorded concurrently.
+     */
+    final LatencyHistogram snapshot() {
+        long[] counts = new long[BUCKETS];
+
+        for (int i = 0; i < BUCKETS; i++)
+            counts[i] = buckets.get(i);
+
+        return new LatencyHistogram(counts, sum.get(), max.get());
+    }
+
+    /**
+     * The bucket of a latency in microseconds.
+     */
+    static final int index(long micros) {
+        if (micros < SUB_BUCKETS)
+            return (int) micros;
+
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int index = (exponent - SUB_BITS + 1) * SUB_BUCKETS + (int) ((micros >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1));
+        return Math.min(index, BUCKETS - 1);
+    }
+
+    /**
+     * The smallest latency in microseconds of a bucket.
+     */
+    static final long lowerBound(int index) {
+        if (index < SUB_BUCKETS)
+            return index;
+
+        int exponent = index / SUB_BUCKETS + SUB_BITS - 1;
+        return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (exponent - SUB_BITS);
+    }
+}
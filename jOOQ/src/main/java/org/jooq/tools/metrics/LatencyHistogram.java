@@ -0,0 +1,173 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.metrics;
+
+import static org.jooq.tools.metrics.Histogram.BUCKETS;
+import static org.jooq.tools.metrics.Histogram.lowerBound;
+
+import java.io.Serializable;
+
+/**
+ * An immutable snapshot of the latencies of a {@link QueryPhase} of a query
+ * shape, as recorded by the {@link QueryStatisticsListener}.
+ * <p>
+ * All latencies are in nanoseconds. Percentiles are approximated by the upper
+ * bound of the histogram bucket they fall into, with a relative error of at
+ * most 25%, and never exceed the exact {@link #max()}.
+ *
+ * @author Lukas Eder
+ */
+public final class LatencyHistogram implements Serializable {
+
+    /**
+     * Generated UID
+     */
+    private static final long serialVersionUID = 2771548164326427853L;
+
+    private final long[]      counts;
+    private final long        count;
+    private final long        sum;
+    private final long        max;
+
+    LatencyHistogram(long[] counts, long sum, long max) {
+        long c = 0;
+        for (long b : counts)
+            c += b;
+
+        this.counts = counts;
+        this.count = c;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    /**
+     * The number of recorded latencies.
+     */
+    public final long count() {
+        return count;
+    }
+
+    /**
+     * The sum of all recorded latencies.
+     */
+    public final long sum() {
+        return sum;
+    }
+
+    /**
+     * The maximum recorded latency.
+     */
+    public final long max() {
+        return max;
+    }
+
+    /**
+     * The mean recorded latency, or <code>0</code> if no latencies have been
+     * recorded.
+     */
+    public final long mean() {
+        return count == 0 ? 0 : sum / count;
+    }
+
+    /**
+     * The median latency.
+     */
+    public final long p50() {
+        return percentile(50.0);
+    }
+
+    /**
+     * The 90th percentile latency.
+     */
+    public final long p90() {
+        return percentile(90.0);
+    }
+
+    /**
+     * The 99th percentile latency.
+     */
+    public final long p99() {
+        return percentile(99.0);
+    }
+
+    /**
+     * A percentile latency.
+     *
+     * @param percentile A percentile between <code>0.0</code> and
+     *            <code>100.0</code>.
+     * @return The percentile latency, or <code>0</code> if no latencies have
+     *         been recorded.
+     */
+    public final long percentile(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0)
+            throw new IllegalArgumentException("Percentile must be between 0.0 and 100.0: " + percentile);
+
+        if (count == 0)
+            return 0;
+
+        long rank = Math.max(1L, (long) Math.ceil(count * percentile / 100.0));
+        long seen = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+
+            if (seen >= rank) {
+                if (i == BUCKETS - 1)
+                    return max;
+
+                return Math.min(max, lowerBound(i + 1) * 1000L - 1L);
+            }
+        }
+
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count
+            + ", mean=" + millis(mean())
+            + ", p50=" + millis(p50())
+            + ", p90=" + millis(p90())
+            + ", p99=" + millis(p99())
+            + ", max=" + millis(max);
+    }
+
+    static final String millis(long nanos) {
+        return String.format("%.3fms", nanos / 1000000.0);
+    }
+}
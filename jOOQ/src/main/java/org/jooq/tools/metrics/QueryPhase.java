@@ -0,0 +1,77 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.metrics;
+
+/**
+ * The phases of a query execution whose latencies are recorded by the
+ * {@link QueryStatisticsListener}.
+ *
+ * @author Lukas Eder
+ */
+public enum QueryPhase {
+
+    /**
+     * Rendering the query to SQL.
+     */
+    RENDER,
+
+    /**
+     * Preparing the JDBC statement.
+     */
+    PREPARE,
+
+    /**
+     * Binding variables to the JDBC statement.
+     */
+    BIND,
+
+    /**
+     * Executing the JDBC statement.
+     */
+    EXECUTE,
+
+    /**
+     * Fetching and mapping records, if the query produces results.
+     */
+    FETCH,
+
+    /**
+     * The complete execution, from its start to its end.
+     */
+    TOTAL
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.metrics;
+
+import java.io.Serializable;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.jooq.tools.SQLFingerprint;
+
+/**
+ * An immutable snapshot of the statistics of a query shape, as recorded by the
+ * {@link QueryStatisticsListener}.
+ *
+ * @author Lukas Eder
+ */
+public final class QueryStatistics implements Serializable {
+
+    /**
+     * Generated UID
+     */
+    private static final long                           serialVersionUID = -4187213402283418712L;
+
+    private final String                                fingerprint;
+    private final String                                sql;
+    private final long                                  errors;
+    private final Map<QueryPhase, LatencyHistogram>     latencies;
+
+    QueryStatistics(String fingerprint, String sql, long errors, Map<QueryPhase, LatencyHistogram> latencies) {
+        this.fingerprint = fingerprint;
+        this.sql = sql;
+        this.errors = errors;
+        this.latencies = new EnumMap<>(latencies);
+    }
+
+    /**
+     * The {@link SQLFingerprint} of the query shape, or
+     * {@link QueryStatisticsListener#OTHER} for the statistics of all query
+     * shapes exceeding the maximum number of recorded shapes.
+     */
+    public final String fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * The SQL string of the first recorded execution of this query shape, or
+     * <code>null</code> for the {@link QueryStatisticsListener#OTHER} query
+     * shape.
+     */
+    public final String sql() {
+        return sql;
+    }
+
+    /**
+     * The number of recorded executions.
+     */
+    public final long executions() {
+        return latency(QueryPhase.TOTAL).count();
+    }
+
+    /**
+     * The number of recorded executions that failed with an exception.
+     */
+    public final long errors() {
+        return errors;
+    }
+
+    /**
+     * The latencies of a phase of the recorded executions.
+     * <p>
+     * Only executions that went through a phase are counted in its histogram,
+     * e.g. {@link QueryPhase#FETCH} only counts executions producing results.
+     */
+    public final LatencyHistogram latency(QueryPhase phase) {
+        return latencies.get(phase);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append(fingerprint)
+          .append(": executions=").append(executions())
+          .append(", errors=").append(errors);
+
+        for (QueryPhase phase : QueryPhase.values()) {
+            LatencyHistogram latency = latency(phase);
+
+            if (latency.count() > 0)
+                sb.append(", ").append(phase.name().toLowerCase())
+                  .append(" [p50=").append(LatencyHistogram.millis(latency.p50()))
+                  .append(", p99=").append(LatencyHistogram.millis(latency.p99()))
+                  .append(", max=").append(LatencyHistogram.millis(latency.max()))
+                  .append(']');
+        }
+
+        return sb.append(", sql=").append(sql).toString();
+    }
+}
@@ -0,0 +1,452 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.metrics;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.jooq.tools.SQLFingerprint;
+
+/**
+ * An {@link ExecuteListener} that records latency histograms of query
+ * executions per query shape.
+ * <p>
+ * Query shapes are identified by the {@link SQLFingerprint} of the executed
+ * SQL string. For each shape, this listener records a histogram of the total
+ * execution time and of each {@link QueryPhase}, as well as the number of
+ * failed executions. Recording is lock-free, and each shape uses a fixed
+ * amount of memory of around 8 KB. The number of recorded shapes is limited
+ * (approximately, under contention), executions of any further shapes are
+ * recorded in a single shape with the {@link #OTHER} fingerprint.
+ * <p>
+ * The recorded statistics can be accessed through {@link #snapshot()},
+ * {@link #slowest(int)}, or through JMX, after {@link #registerMBean()}.
+ * <p>
+ * Note that the {@link QueryPhase#FETCH} and {@link QueryPhase#TOTAL}
+ * latencies of lazy fetches, e.g. with {@link org.jooq.ResultQuery#fetchLazy()},
+ * include the time spent by client code between fetching records.
+ * <p>
+ * This listener is thread safe and should be shared by all executions, e.g.
+ *
+ * <pre>
+ * <code>
+ * QueryStatisticsListener listener = new QueryStatisticsListener();
+ * listener.registerMBean();
+ * configuration.set(new DefaultExecuteListenerProvider(listener));
+ * </code>
+ * </pre>
+ *
+ * @author Lukas Eder
+ * @see DefaultExecuteListenerProvider
+ */
+public class QueryStatisticsListener implements ExecuteListener, QueryStatisticsListenerMBean {
+
+    /**
+     * Generated UID
+     */
+    private static final long                          serialVersionUID         = -2468311420358209417L;
+
+    /**
+     * The default maximum number of recorded query shapes.
+     */
+    public static final int                            DEFAULT_MAX_FINGERPRINTS = 1000;
+
+    /**
+     * The fingerprint of the query shape collecting the executions of all
+     * query shapes exceeding the maximum number of recorded query shapes.
+     */
+    public static final String                         OTHER                    = "other";
+
+    private static final String                        DATA_TIMING              = "org.jooq.tools.metrics.timing";
+    private static final QueryPhase[]                  PHASES                   = QueryPhase.values();
+
+    private final int                                  maxFingerprints;
+    private transient volatile Map<String, Statistics> statistics;
+
+    /**
+     * Create a listener recording at most
+     * {@link #DEFAULT_MAX_FINGERPRINTS} query shapes.
+     */
+    public QueryStatisticsListener() {
+        this(DEFAULT_MAX_FINGERPRINTS);
+    }
+
+    /**
+     * Create a listener recording at most <code>maxFingerprints</code> query
+     * shapes.
+     */
+    public QueryStatisticsListener(int maxFingerprints) {
+        if (maxFingerprints < 1)
+            throw new IllegalArgumentException("The maximum number of fingerprints must be positive: " + maxFingerprints);
+
+        this.maxFingerprints = maxFingerprints;
+        this.statistics = new ConcurrentHashMap<>();
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Statistics API
+    // -------------------------------------------------------------------------
+
+    /**
+     * A snapshot of the statistics of all recorded query shapes.
+     */
+    public final List<QueryStatistics> snapshot() {
+        List<QueryStatistics> result = new ArrayList<>();
+
+        for (Statistics s : statistics.values())
+            result.add(s.snapshot());
+
+        return result;
+    }
+
+    /**
+     * A snapshot of the statistics of a query shape, or <code>null</code> if
+     * the query shape has not been recorded.
+     */
+    public final QueryStatistics snapshot(String fingerprint) {
+        Statistics s = statistics.get(fingerprint);
+        return s == null ? null : s.snapshot();
+    }
+
+    /**
+     * A snapshot of the statistics of the <code>n</code> query shapes with the
+     * slowest 99th percentile total latency, slowest first.
+     */
+    public final List<QueryStatistics> slowest(int n) {
+        List<QueryStatistics> result = snapshot();
+
+        Collections.sort(result, new Comparator<QueryStatistics>() {
+            @Override
+            public int compare(QueryStatistics o1, QueryStatistics o2) {
+                return Long.compare(o2.latency(QueryPhase.TOTAL).p99(), o1.latency(QueryPhase.TOTAL).p99());
+            }
+        });
+
+        return result.size() > n ? new ArrayList<>(result.subList(0, Math.max(0, n))) : result;
+    }
+
+    /**
+     * Register this listener with the platform {@link MBeanServer} using the
+     * {@link ObjectName} <code>org.jooq:type=QueryStatistics</code>.
+     */
+    public final ObjectName registerMBean() throws JMException {
+        return registerMBean(null);
+    }
+
+    /**
+     * Register this listener with the platform {@link MBeanServer} using the
+     * {@link ObjectName}
+     * <code>org.jooq:type=QueryStatistics,name=[name]</code>, e.g. to
+     * distinguish several listeners.
+     */
+    public final ObjectName registerMBean(String name) throws JMException {
+        ObjectName objectName = new ObjectName(name == null
+            ? "org.jooq:type=QueryStatistics"
+            : "org.jooq:type=QueryStatistics,name=" + ObjectName.quote(name));
+
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        return objectName;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: QueryStatisticsListenerMBean API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public int getQueryShapes() {
+        return statistics.size();
+    }
+
+    @Override
+    public long getExecutions() {
+        long result = 0;
+
+        for (Statistics s : statistics.values())
+            result += s.executions();
+
+        return result;
+    }
+
+    @Override
+    public long getErrors() {
+        long result = 0;
+
+        for (Statistics s : statistics.values())
+            result += s.errors.get();
+
+        return result;
+    }
+
+    @Override
+    public String[] getSlowestQueryShapes() {
+        return slowestQueryShapes(10);
+    }
+
+    @Override
+    public String[] slowestQueryShapes(int n) {
+        List<QueryStatistics> slowest = slowest(n);
+        String[] result = new String[slowest.size()];
+
+        for (int i = 0; i < result.length; i++)
+            result[i] = slowest.get(i).toString();
+
+        return result;
+    }
+
+    @Override
+    public void reset() {
+        statistics = new ConcurrentHashMap<>();
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: ExecuteListener API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public void start(ExecuteContext ctx) {
+        ctx.data(DATA_TIMING, new Timing());
+    }
+
+    @Override
+    public void renderStart(ExecuteContext ctx) {
+        start(ctx, QueryPhase.RENDER);
+    }
+
+    @Override
+    public void renderEnd(ExecuteContext ctx) {
+        end(ctx, QueryPhase.RENDER);
+    }
+
+    @Override
+    public void prepareStart(ExecuteContext ctx) {
+        start(ctx, QueryPhase.PREPARE);
+    }
+
+    @Override
+    public void prepareEnd(ExecuteContext ctx) {
+        end(ctx, QueryPhase.PREPARE);
+    }
+
+    @Override
+    public void bindStart(ExecuteContext ctx) {
+        start(ctx, QueryPhase.BIND);
+    }
+
+    @Override
+    public void bindEnd(ExecuteContext ctx) {
+        end(ctx, QueryPhase.BIND);
+    }
+
+    @Override
+    public void executeStart(ExecuteContext ctx) {
+        start(ctx, QueryPhase.EXECUTE);
+    }
+
+    @Override
+    public void executeEnd(ExecuteContext ctx) {
+        end(ctx, QueryPhase.EXECUTE);
+    }
+
+    @Override
+    public void outStart(ExecuteContext ctx) {}
+
+    @Override
+    public void outEnd(ExecuteContext ctx) {}
+
+    @Override
+    public void fetchStart(ExecuteContext ctx) {
+        start(ctx, QueryPhase.FETCH);
+    }
+
+    @Override
+    public void resultStart(ExecuteContext ctx) {}
+
+    @Override
+    public void recordStart(ExecuteContext ctx) {}
+
+    @Override
+    public void recordEnd(ExecuteContext ctx) {}
+
+    @Override
+    public void resultEnd(ExecuteContext ctx) {}
+
+    @Override
+    public void fetchEnd(ExecuteContext ctx) {
+        end(ctx, QueryPhase.FETCH);
+    }
+
+    @Override
+    public void end(ExecuteContext ctx) {
+        Timing timing = timing(ctx);
+
+        if (timing == null)
+            return;
+
+        ctx.data().remove(DATA_TIMING);
+        timing.durations[QueryPhase.TOTAL.ordinal()] = System.nanoTime() - timing.start;
+        timing.recorded[QueryPhase.TOTAL.ordinal()] = true;
+
+        String sql = ctx.sql();
+        if (sql == null && ctx.batchSQL().length > 0)
+            sql = ctx.batchSQL()[0];
+
+        if (sql == null)
+            return;
+
+        Statistics s = statistics(sql);
+
+        for (QueryPhase phase : PHASES)
+            if (timing.recorded[phase.ordinal()])
+                s.histograms[phase.ordinal()].record(timing.durations[phase.ordinal()]);
+
+        if (ctx.exception() != null)
+            s.errors.incrementAndGet();
+    }
+
+    @Override
+    public void exception(ExecuteContext ctx) {}
+
+    @Override
+    public void warning(ExecuteContext ctx) {}
+
+    private static final Timing timing(ExecuteContext ctx) {
+        return (Timing) ctx.data(DATA_TIMING);
+    }
+
+    private static final void start(ExecuteContext ctx, QueryPhase phase) {
+        Timing timing = timing(ctx);
+
+        if (timing != null)
+            timing.starts[phase.ordinal()] = System.nanoTime();
+    }
+
+    private static final void end(ExecuteContext ctx, QueryPhase phase) {
+        Timing timing = timing(ctx);
+
+        // Batches may go through some phases several times per execution
+        if (timing != null) {
+            timing.durations[phase.ordinal()] += System.nanoTime() - timing.starts[phase.ordinal()];
+            timing.recorded[phase.ordinal()] = true;
+        }
+    }
+
+    private final Statistics statistics(String sql) {
+        Map<String, Statistics> map = statistics;
+        String fingerprint = SQLFingerprint.fingerprint(sql);
+        Statistics s = map.get(fingerprint);
+
+        if (s == null) {
+            if (map.size() >= maxFingerprints)
+                fingerprint = OTHER;
+
+            s = map.get(fingerprint);
+
+            if (s == null) {
+                Statistics n = new Statistics(fingerprint, fingerprint == OTHER ? null : sql);
+                s = map.putIfAbsent(fingerprint, n);
+
+                if (s == null)
+                    s = n;
+            }
+        }
+
+        return s;
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        statistics = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * The phase timings of a single query execution that is in progress.
+     */
+    private static final class Timing {
+        final long      start     = System.nanoTime();
+        final long[]    starts    = new long[PHASES.length];
+        final long[]    durations = new long[PHASES.length];
+        final boolean[] recorded  = new boolean[PHASES.length];
+    }
+
+    /**
+     * The recorded statistics of a query shape.
+     */
+    private static final class Statistics {
+        final String      fingerprint;
+        final String      sql;
+        final AtomicLong  errors     = new AtomicLong();
+        final Histogram[] histograms = new Histogram[PHASES.length];
+
+        Statistics(String fingerprint, String sql) {
+            this.fingerprint = fingerprint;
+            this.sql = sql;
+
+            for (int i = 0; i < histograms.length; i++)
+                histograms[i] = new Histogram();
+        }
+
+        final long executions() {
+            return histograms[QueryPhase.TOTAL.ordinal()].count();
+        }
+
+        final QueryStatistics snapshot() {
+            Map<QueryPhase, LatencyHistogram> latencies = new EnumMap<>(QueryPhase.class);
+
+            for (QueryPhase phase : PHASES)
+                latencies.put(phase, histograms[phase.ordinal()].snapshot());
+
+            return new QueryStatistics(fingerprint, sql, errors.get(), latencies);
+        }
+    }
+}
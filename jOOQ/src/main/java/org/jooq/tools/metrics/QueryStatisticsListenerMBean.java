@@ -0,0 +1,80 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.metrics;
+
+/**
+ * The JMX management interface of the {@link QueryStatisticsListener}.
+ *
+ * @author Lukas Eder
+ * @see QueryStatisticsListener#registerMBean(String)
+ */
+public interface QueryStatisticsListenerMBean {
+
+    /**
+     * The number of recorded query shapes.
+     */
+    int getQueryShapes();
+
+    /**
+     * The number of recorded executions of all query shapes.
+     */
+    long getExecutions();
+
+    /**
+     * The number of recorded executions of all query shapes that failed with
+     * an exception.
+     */
+    long getErrors();
+
+    /**
+     * A description of the 10 query shapes with the slowest 99th percentile
+     * total latency.
+     */
+    String[] getSlowestQueryShapes();
+
+    /**
+     * A description of the <code>n</code> query shapes with the slowest 99th
+     * percentile total latency.
+     */
+    String[] slowestQueryShapes(int n);
+
+    /**
+     * Discard all recorded statistics.
+     */
+    void reset();
+}
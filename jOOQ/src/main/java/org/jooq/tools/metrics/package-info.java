@@ -0,0 +1,5 @@
+/**
+ * The <code>org.jooq.tools.metrics</code> package contains tools to collect
+ * query execution and cache statistics.
+ */
+package org.jooq.tools.metrics;